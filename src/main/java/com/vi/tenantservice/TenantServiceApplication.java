@@ -2,9 +2,11 @@ package com.vi.tenantservice;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /** Starter class for the application. */
 @SpringBootApplication
+@EnableScheduling
 public class TenantServiceApplication {
 
   /**
@@ -4,9 +4,10 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -38,13 +39,20 @@ public enum Authority {
   private final UserRole userRole;
   private final List<String> grantedAuthorities;
 
+  private static final Map<UserRole, List<String>> AUTHORITIES_BY_USER_ROLE =
+      authoritiesByUserRole();
+
   public static List<String> getAuthoritiesByUserRole(UserRole userRole) {
-    Optional<Authority> authorityByUserRole =
-        Stream.of(values()).filter(authority -> authority.userRole.equals(userRole)).findFirst();
+    return AUTHORITIES_BY_USER_ROLE.getOrDefault(userRole, emptyList());
+  }
 
-    return authorityByUserRole.isPresent()
-        ? authorityByUserRole.get().getGrantedAuthorities()
-        : emptyList();
+  private static Map<UserRole, List<String>> authoritiesByUserRole() {
+    Map<UserRole, List<String>> authoritiesByUserRole = new EnumMap<>(UserRole.class);
+    for (Authority authority : values()) {
+      authoritiesByUserRole.putIfAbsent(
+          authority.userRole, List.copyOf(authority.grantedAuthorities));
+    }
+    return Collections.unmodifiableMap(authoritiesByUserRole);
   }
 
   public static class AuthorityValue {
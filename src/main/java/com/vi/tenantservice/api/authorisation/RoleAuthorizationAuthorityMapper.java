@@ -1,18 +1,36 @@
 package com.vi.tenantservice.api.authorisation;
 
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.authority.mapping.GrantedAuthoritiesMapper;
 import org.springframework.stereotype.Component;
 
-/** Own implementation of the Spring GrantedAuthoritiesMapper. */
+/**
+ * Own implementation of the Spring GrantedAuthoritiesMapper.
+ *
+ * <p>The authorities of each role are computed once, and the authorities of the role sets seen are
+ * cached, as users come with few distinct combinations of roles. The cache stops admitting role
+ * sets once it holds {@value #MAX_CACHED_ROLE_SETS} of them, those are then mapped without it.
+ */
 @Component
 public class RoleAuthorizationAuthorityMapper implements GrantedAuthoritiesMapper {
 
+  private static final int MAX_CACHED_ROLE_SETS = 256;
+
+  private static final Map<UserRole, Set<GrantedAuthority>> AUTHORITIES_BY_USER_ROLE =
+      authoritiesByUserRole();
+
+  private final Map<Set<String>, Set<GrantedAuthority>> authoritiesByRoleNames =
+      new ConcurrentHashMap<>();
+
   @Override
   public Collection<? extends GrantedAuthority> mapAuthorities(
       Collection<? extends GrantedAuthority> authorities) {
@@ -26,12 +44,37 @@ public class RoleAuthorizationAuthorityMapper implements GrantedAuthoritiesMappe
   }
 
   public Set<GrantedAuthority> mapAuthorities(Set<String> roleNames) {
-    return roleNames.parallelStream()
-        .map(UserRole::getRoleByValue)
-        .flatMap(Optional::stream)
-        .map(Authority::getAuthoritiesByUserRole)
-        .flatMap(Collection::parallelStream)
-        .map(SimpleGrantedAuthority::new)
-        .collect(Collectors.toSet());
+    var cachedAuthorities = authoritiesByRoleNames.get(roleNames);
+    if (cachedAuthorities != null) {
+      return cachedAuthorities;
+    }
+    var authorities = mapRoles(roleNames);
+    if (authoritiesByRoleNames.size() < MAX_CACHED_ROLE_SETS) {
+      authoritiesByRoleNames.putIfAbsent(
+          Collections.unmodifiableSet(new HashSet<>(roleNames)), authorities);
+    }
+    return authorities;
+  }
+
+  private static Set<GrantedAuthority> mapRoles(Set<String> roleNames) {
+    Set<GrantedAuthority> authorities = new HashSet<>();
+    for (String roleName : roleNames) {
+      UserRole.getRoleByValue(roleName)
+          .map(AUTHORITIES_BY_USER_ROLE::get)
+          .ifPresent(authorities::addAll);
+    }
+    return Collections.unmodifiableSet(authorities);
+  }
+
+  private static Map<UserRole, Set<GrantedAuthority>> authoritiesByUserRole() {
+    Map<UserRole, Set<GrantedAuthority>> authoritiesByUserRole = new EnumMap<>(UserRole.class);
+    for (UserRole userRole : UserRole.values()) {
+      Set<GrantedAuthority> authorities = new HashSet<>();
+      for (String authority : Authority.getAuthoritiesByUserRole(userRole)) {
+        authorities.add(new SimpleGrantedAuthority(authority));
+      }
+      authoritiesByUserRole.put(userRole, Set.copyOf(authorities));
+    }
+    return Collections.unmodifiableMap(authoritiesByUserRole);
   }
 }
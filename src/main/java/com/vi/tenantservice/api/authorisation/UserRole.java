@@ -1,6 +1,8 @@
 package com.vi.tenantservice.api.authorisation;
 
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -17,7 +19,17 @@ public enum UserRole {
 
   private final String value;
 
+  private static final Map<String, UserRole> ROLES_BY_VALUE = rolesByValue();
+
   public static Optional<UserRole> getRoleByValue(String value) {
-    return Arrays.stream(values()).filter(userRole -> userRole.value.equals(value)).findFirst();
+    return Optional.ofNullable(ROLES_BY_VALUE.get(value));
+  }
+
+  private static Map<String, UserRole> rolesByValue() {
+    Map<String, UserRole> rolesByValue = new HashMap<>();
+    for (UserRole userRole : values()) {
+      rolesByValue.put(userRole.value, userRole);
+    }
+    return Collections.unmodifiableMap(rolesByValue);
   }
 }
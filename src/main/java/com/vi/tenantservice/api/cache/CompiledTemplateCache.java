@@ -0,0 +1,55 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.COMPILED_TEMPLATES_CACHE;
+
+import com.google.common.hash.Hashing;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds compiled FreeMarker templates, keyed by the SHA-256 hash of their source. Changed template
+ * content therefore never hits an outdated entry, and equal privacy texts of several tenants are
+ * parsed once. Compiled templates are immutable and may be processed concurrently.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompiledTemplateCache {
+
+  private final @NonNull CacheManager cacheManager;
+
+  private final @NonNull Configuration freemarkerConfiguration;
+
+  /**
+   * Returns the compiled template for the given source, parsing and caching it if needed.
+   *
+   * @param templateContent the template source
+   * @return the compiled {@link Template}
+   * @throws IOException if the template source can not be parsed
+   */
+  public Template get(String templateContent) throws IOException {
+    var key = Hashing.sha256().hashString(templateContent, StandardCharsets.UTF_8).toString();
+    var template = compiledTemplates().get(key, Template.class);
+    if (template == null) {
+      template = new Template(key, new StringReader(templateContent), freemarkerConfiguration);
+      compiledTemplates().put(key, template);
+    }
+    return template;
+  }
+
+  private Cache compiledTemplates() {
+    var cache = cacheManager.getCache(COMPILED_TEMPLATES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(COMPILED_TEMPLATES_CACHE));
+    }
+    return cache;
+  }
+}
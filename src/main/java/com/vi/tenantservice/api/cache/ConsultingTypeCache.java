@@ -0,0 +1,44 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.CONSULTING_TYPES_CACHE;
+
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the consulting type of each tenant, as returned by the ConsultingTypeService. The cached
+ * instances are shared, callers must not modify them.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConsultingTypeCache {
+
+  private final @NonNull CacheManager cacheManager;
+
+  public Optional<FullConsultingTypeResponseDTO> get(Integer tenantId) {
+    return Optional.ofNullable(
+        consultingTypes().get(tenantId, FullConsultingTypeResponseDTO.class));
+  }
+
+  public void put(Integer tenantId, FullConsultingTypeResponseDTO consultingType) {
+    consultingTypes().put(tenantId, consultingType);
+  }
+
+  public void evict(Integer tenantId) {
+    consultingTypes().evict(tenantId);
+  }
+
+  private Cache consultingTypes() {
+    var cache = cacheManager.getCache(CONSULTING_TYPES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(CONSULTING_TYPES_CACHE));
+    }
+    return cache;
+  }
+}
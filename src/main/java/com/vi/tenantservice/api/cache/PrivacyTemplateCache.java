@@ -0,0 +1,57 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.PRIVACY_TEMPLATES_CACHE;
+
+import com.google.common.hash.Hashing;
+import com.vi.tenantservice.api.model.DataProtectionPlaceHolderType;
+import com.vi.tenantservice.api.service.PrivacyTemplate;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the classification of privacy texts, keyed by the SHA-256 hash of the text. Each text is
+ * therefore classified on its first read only, and again only when its content changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrivacyTemplateCache {
+
+  private static final Set<String> PLACEHOLDER_VARIABLES =
+      Arrays.stream(DataProtectionPlaceHolderType.values())
+          .map(DataProtectionPlaceHolderType::getPlaceholderVariable)
+          .collect(Collectors.toUnmodifiableSet());
+
+  private final @NonNull CacheManager cacheManager;
+
+  /**
+   * Returns the classified privacy template of the given privacy text.
+   *
+   * @param privacy the privacy text
+   * @return {@link PrivacyTemplate}
+   */
+  public PrivacyTemplate get(String privacy) {
+    var key = Hashing.sha256().hashString(privacy, StandardCharsets.UTF_8).toString();
+    var privacyTemplate = privacyTemplates().get(key, PrivacyTemplate.class);
+    if (privacyTemplate == null) {
+      privacyTemplate = PrivacyTemplate.classify(privacy, PLACEHOLDER_VARIABLES);
+      privacyTemplates().put(key, privacyTemplate);
+    }
+    return privacyTemplate;
+  }
+
+  private Cache privacyTemplates() {
+    var cache = cacheManager.getCache(PRIVACY_TEMPLATES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(PRIVACY_TEMPLATES_CACHE));
+    }
+    return cache;
+  }
+}
@@ -0,0 +1,189 @@
+package com.vi.tenantservice.api.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Small in-memory cache for values loaded from remote services.
+ *
+ * <ul>
+ *   <li>Values are served for the configured time to live. Once they are older than the refresh
+ *       interval, they are still served but reloaded in the background.
+ *   <li>Concurrent requests for the same missing or expired key trigger a single load, which all of
+ *       them wait for.
+ *   <li>If a load fails, an expired or invalidated value is served for the configured stale period
+ *       instead of failing the request.
+ *   <li>At most the configured number of keys is kept. Once that many are cached, values of further
+ *       keys are loaded but not stored, unless entries past their stale period can be dropped, so
+ *       that arbitrary keys can neither grow the cache nor displace the cached ones.
+ * </ul>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+@Slf4j
+public class RefreshingCache<K, V> implements AutoCloseable {
+
+  private final String name;
+
+  private final Function<K, V> loader;
+
+  private final Duration timeToLive;
+
+  private final Duration refreshAfter;
+
+  private final Duration staleIfError;
+
+  private final Clock clock;
+
+  private final int maxEntries;
+
+  private final ExecutorService refreshExecutor;
+
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+  private final Map<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+  private final Set<K> scheduledRefreshes = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong invalidations = new AtomicLong();
+
+  private record Entry<V>(V value, Instant loadedAt, long invalidation) {}
+
+  public RefreshingCache(
+      String name,
+      Function<K, V> loader,
+      Duration timeToLive,
+      Duration refreshAfter,
+      Duration staleIfError,
+      int maxEntries,
+      Clock clock) {
+    this.name = name;
+    this.loader = loader;
+    this.timeToLive = timeToLive;
+    this.refreshAfter = refreshAfter;
+    this.staleIfError = staleIfError;
+    this.clock = clock;
+    this.maxEntries = maxEntries;
+    this.refreshExecutor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              var thread = new Thread(runnable, name + "-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Returns the value for the given key, loading it if it is missing or expired.
+   *
+   * @param key the key
+   * @return the cached or loaded value
+   */
+  public V get(K key) {
+    var entry = entries.get(key);
+    var now = clock.instant();
+    if (entry != null && isFresh(entry, now)) {
+      if (!now.isBefore(entry.loadedAt().plus(refreshAfter))) {
+        refreshInBackground(key);
+      }
+      return entry.value();
+    }
+    try {
+      return load(key).join();
+    } catch (CompletionException e) {
+      if (entry != null && isWithinStalePeriod(entry, now)) {
+        log.warn("Could not load {} for {}, serving stale value", name, key, e.getCause());
+        return entry.value();
+      }
+      throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+    }
+  }
+
+  /**
+   * Invalidates all values, so that the next access of each key loads it again. Invalidated values
+   * are only served if that load fails.
+   */
+  public void invalidateAll() {
+    invalidations.incrementAndGet();
+  }
+
+  @Override
+  public void close() {
+    refreshExecutor.shutdownNow();
+  }
+
+  private void refreshInBackground(K key) {
+    if (loads.containsKey(key) || !scheduledRefreshes.add(key)) {
+      return;
+    }
+    refreshExecutor.execute(
+        () -> {
+          try {
+            load(key).join();
+          } catch (CompletionException e) {
+            log.warn("Could not refresh {} for {}", name, key, e.getCause());
+          } finally {
+            scheduledRefreshes.remove(key);
+          }
+        });
+  }
+
+  /**
+   * Loads the value of the given key, unless a load of it is already in flight, in which case that
+   * load is returned. A value loaded while the cache got invalidated is not stored.
+   */
+  private CompletableFuture<V> load(K key) {
+    var load = new CompletableFuture<V>();
+    var runningLoad = loads.putIfAbsent(key, load);
+    if (runningLoad != null) {
+      return runningLoad;
+    }
+    var invalidation = invalidations.get();
+    try {
+      var value = loader.apply(key);
+      if (invalidations.get() == invalidation && admits(key)) {
+        entries.put(key, new Entry<>(value, clock.instant(), invalidation));
+      }
+      load.complete(value);
+    } catch (RuntimeException e) {
+      load.completeExceptionally(e);
+    } finally {
+      loads.remove(key, load);
+    }
+    return load;
+  }
+
+  private boolean isFresh(Entry<V> entry, Instant now) {
+    return entry.invalidation() == invalidations.get()
+        && now.isBefore(entry.loadedAt().plus(timeToLive));
+  }
+
+  private boolean isWithinStalePeriod(Entry<V> entry, Instant now) {
+    return now.isBefore(entry.loadedAt().plus(timeToLive).plus(staleIfError));
+  }
+
+  private boolean admits(K key) {
+    if (entries.size() < maxEntries || entries.containsKey(key)) {
+      return true;
+    }
+    var now = clock.instant();
+    entries.values().removeIf(entry -> !isWithinStalePeriod(entry, now));
+    if (entries.size() < maxEntries) {
+      return true;
+    }
+    log.debug("Cache {} is full, not caching {}", name, key);
+    return false;
+  }
+}
@@ -0,0 +1,92 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_RESPONSES_CACHE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds serialized restricted tenant responses, keyed by their entity tag. The entity tag already
+ * covers tenant, language, single domain override and version, so entries never have to be evicted
+ * explicitly.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestrictedTenantResponseCache {
+
+  @Value("${cache.restricted.tenant.responses.gzip.enabled}")
+  private boolean gzipEnabled;
+
+  private final @NonNull CacheManager cacheManager;
+
+  private final @NonNull ObjectMapper objectMapper;
+
+  /**
+   * Tells whether responses are also kept gzipped, so that they can be served compressed.
+   *
+   * @return true if gzipped responses are available
+   */
+  public boolean isGzipEnabled() {
+    return gzipEnabled;
+  }
+
+  /**
+   * Returns the serialized response for the given entity tag, serializing the supplied tenant data
+   * if it is not cached yet.
+   *
+   * @param eTag the entity tag of the tenant data
+   * @param restrictedTenantSupplier supplies the tenant data on a cache miss
+   * @return {@link SerializedRestrictedTenant}
+   */
+  public SerializedRestrictedTenant get(
+      String eTag, Supplier<RestrictedTenantDTO> restrictedTenantSupplier) {
+    var cachedResponse = responses().get(eTag, SerializedRestrictedTenant.class);
+    if (cachedResponse != null) {
+      return cachedResponse;
+    }
+    var json = serialize(restrictedTenantSupplier.get());
+    var serializedResponse = new SerializedRestrictedTenant(json, gzipEnabled ? gzip(json) : null);
+    responses().put(eTag, serializedResponse);
+    return serializedResponse;
+  }
+
+  private byte[] serialize(RestrictedTenantDTO restrictedTenant) {
+    try {
+      return objectMapper.writeValueAsBytes(restrictedTenant);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeJsonMappingException(e.getMessage());
+    }
+  }
+
+  private static byte[] gzip(byte[] json) {
+    var compressed = new ByteArrayOutputStream(json.length / 2);
+    try (var gzipOutputStream = new GZIPOutputStream(compressed)) {
+      gzipOutputStream.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return compressed.toByteArray();
+  }
+
+  private Cache responses() {
+    var cache = cacheManager.getCache(RESTRICTED_TENANT_RESPONSES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(RESTRICTED_TENANT_RESPONSES_CACHE));
+    }
+    return cache;
+  }
+}
@@ -0,0 +1,19 @@
+package com.vi.tenantservice.api.cache;
+
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import java.time.LocalDateTime;
+
+/**
+ * Restricted tenant data rendered for one language, together with the tenant version it was built
+ * from. The contained DTO is shared between requests and must not be modified.
+ *
+ * @param tenantUpdateDate the update date of the tenant the snapshot was built from
+ * @param writeGeneration the local write generation of the tenant the snapshot was built in
+ * @param templateVersion the version of the data protection templates the snapshot was built with
+ * @param restrictedTenant the rendered restricted tenant data
+ */
+public record RestrictedTenantSnapshot(
+    LocalDateTime tenantUpdateDate,
+    long writeGeneration,
+    long templateVersion,
+    RestrictedTenantDTO restrictedTenant) {}
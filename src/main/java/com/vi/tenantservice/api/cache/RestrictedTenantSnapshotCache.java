@@ -0,0 +1,204 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_SNAPSHOTS_CACHE;
+import static com.vi.tenantservice.api.converter.ConverterUtils.nullAsGerman;
+
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.service.TemplateService;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the {@link RestrictedTenantDTO} of each tenant rendered per language. Snapshots are built
+ * for all active languages of a tenant when it is written and lazily for any other requested
+ * language.
+ *
+ * <p>A snapshot is only served for the exact tenant version it was built from: its update date has
+ * to match the one of the requested tenant and its write generation the local one of the tenant.
+ * The write generation covers updates within the same second, which the update date column can not
+ * tell apart. Snapshots rendered with other data protection templates than the currently loaded
+ * ones are not served either. Returned snapshots are shared and must not be modified by callers.
+ *
+ * <p>Write generations are drawn from one counter, so a tenant never gets a generation twice. The
+ * generation of a tenant is forgotten once its snapshots from before the write have expired, and
+ * from then on the snapshots of the tenant are built with the generation of tenants never written.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestrictedTenantSnapshotCache {
+
+  private static final long UNKNOWN_TEMPLATE_VERSION = -1;
+  private static final long NOT_WRITTEN = 0;
+
+  private final @NonNull CacheManager cacheManager;
+
+  private final @NonNull TenantConverter tenantConverter;
+
+  private final @NonNull TenantSettingsCache tenantSettingsCache;
+
+  private final @NonNull TemplateService templateService;
+
+  private final Map<Long, WriteGeneration> writeGenerations = new ConcurrentHashMap<>();
+
+  private final AtomicLong lastWriteGeneration = new AtomicLong(NOT_WRITTEN);
+
+  @Value("${cache.restricted.tenant.snapshots.ttl.seconds}")
+  private long snapshotTtlSeconds;
+
+  /**
+   * Returns the restricted tenant data of the given tenant in the given language, building and
+   * caching it if no snapshot of the current tenant version exists.
+   *
+   * @param tenant the tenant
+   * @param lang the language
+   * @return {@link RestrictedTenantDTO}
+   */
+  public RestrictedTenantDTO get(TenantEntity tenant, String lang) {
+    if (tenant.getId() == null) {
+      return tenantConverter.toRestrictedTenantDTO(tenant, lang);
+    }
+    var writeGeneration = writeGeneration(tenant.getId());
+    var templateVersion = currentTemplateVersion();
+    var snapshot = snapshots().get(key(tenant.getId(), lang), RestrictedTenantSnapshot.class);
+    if (isCurrent(snapshot, tenant, writeGeneration, templateVersion)) {
+      return snapshot.restrictedTenant();
+    }
+    var restrictedTenant = tenantConverter.toRestrictedTenantDTO(tenant, lang);
+    if (writeGeneration(tenant.getId()) == writeGeneration) {
+      snapshots()
+          .put(
+              key(tenant.getId(), lang),
+              new RestrictedTenantSnapshot(
+                  tenant.getUpdateDate(), writeGeneration, templateVersion, restrictedTenant));
+    }
+    return restrictedTenant;
+  }
+
+  /**
+   * Invalidates all snapshots of the given tenant and builds new ones for its active languages.
+   *
+   * @param tenant the written tenant
+   */
+  public void refresh(TenantEntity tenant) {
+    if (tenant == null || tenant.getId() == null) {
+      return;
+    }
+    var writeGeneration = nextWriteGeneration(tenant.getId());
+    var templateVersion = currentTemplateVersion();
+    for (String lang : activeLanguagesOf(tenant)) {
+      try {
+        snapshots()
+            .put(
+                key(tenant.getId(), lang),
+                new RestrictedTenantSnapshot(
+                    tenant.getUpdateDate(),
+                    writeGeneration,
+                    templateVersion,
+                    tenantConverter.toRestrictedTenantDTO(tenant, lang)));
+      } catch (RuntimeException exception) {
+        log.warn(
+            "Could not build restricted tenant snapshot for tenant {} and language {}",
+            tenant.getId(),
+            lang,
+            exception);
+      }
+    }
+  }
+
+  /**
+   * Invalidates all snapshots of the given tenant.
+   *
+   * @param tenant the removed tenant
+   */
+  public void evict(TenantEntity tenant) {
+    if (tenant.getId() == null) {
+      return;
+    }
+    nextWriteGeneration(tenant.getId());
+    activeLanguagesOf(tenant).forEach(lang -> snapshots().evict(key(tenant.getId(), lang)));
+  }
+
+  private boolean isCurrent(
+      RestrictedTenantSnapshot snapshot,
+      TenantEntity tenant,
+      long writeGeneration,
+      long templateVersion) {
+    return snapshot != null
+        && snapshot.writeGeneration() == writeGeneration
+        && snapshot.templateVersion() == templateVersion
+        && Objects.equals(snapshot.tenantUpdateDate(), tenant.getUpdateDate());
+  }
+
+  private long currentTemplateVersion() {
+    try {
+      return templateService.getTemplateVersion();
+    } catch (TemplateDescriptionServiceException exception) {
+      log.warn("Could not determine data protection template version", exception);
+      return UNKNOWN_TEMPLATE_VERSION;
+    }
+  }
+
+  private List<String> activeLanguagesOf(TenantEntity tenant) {
+    if (tenant.getSettings() == null) {
+      return nullAsGerman(null);
+    }
+    try {
+      TenantSettings tenantSettings = tenantSettingsCache.get(tenant.getSettings());
+      return nullAsGerman(tenantSettings.getActiveLanguages());
+    } catch (RuntimeException exception) {
+      log.warn("Could not read active languages of tenant {}", tenant.getId(), exception);
+      return nullAsGerman(null);
+    }
+  }
+
+  private long writeGeneration(Long tenantId) {
+    var writeGeneration = writeGenerations.get(tenantId);
+    return writeGeneration != null ? writeGeneration.generation() : NOT_WRITTEN;
+  }
+
+  private long nextWriteGeneration(Long tenantId) {
+    var now = System.nanoTime();
+    forgetExpiredWriteGenerations(now);
+    return writeGenerations
+        .compute(
+            tenantId,
+            (id, previous) -> new WriteGeneration(lastWriteGeneration.incrementAndGet(), now))
+        .generation();
+  }
+
+  private void forgetExpiredWriteGenerations(long now) {
+    var ttlNanos = TimeUnit.SECONDS.toNanos(snapshotTtlSeconds);
+    writeGenerations.values().removeIf(generation -> now - generation.writtenAt() > ttlNanos);
+  }
+
+  private static String key(Long tenantId, String lang) {
+    return tenantId + ":" + lang;
+  }
+
+  private Cache snapshots() {
+    var cache = cacheManager.getCache(RESTRICTED_TENANT_SNAPSHOTS_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(RESTRICTED_TENANT_SNAPSHOTS_CACHE));
+    }
+    return cache;
+  }
+
+  private record WriteGeneration(long generation, long writtenAt) {}
+}
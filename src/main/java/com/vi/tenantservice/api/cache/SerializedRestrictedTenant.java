@@ -0,0 +1,12 @@
+package com.vi.tenantservice.api.cache;
+
+import java.io.Serializable;
+
+/**
+ * Restricted tenant data serialized as UTF-8 encoded JSON, ready to be written to a response.
+ * Serializable, as the response cache keeps its entries off heap.
+ *
+ * @param json the JSON response body
+ * @param gzippedJson the gzip compressed JSON response body, null if compression is disabled
+ */
+public record SerializedRestrictedTenant(byte[] json, byte[] gzippedJson) implements Serializable {}
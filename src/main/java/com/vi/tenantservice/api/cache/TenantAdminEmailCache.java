@@ -0,0 +1,74 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_ADMIN_EMAILS_CACHE;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Holds the admin emails of each tenant. Entries older than the refresh interval are still served,
+ * callers are expected to refresh them in the background. The cache's time to live bounds how long
+ * outdated emails may be served at most.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantAdminEmailCache {
+
+  private final @NonNull CacheManager cacheManager;
+
+  private final Clock clock = Clock.systemUTC();
+
+  @Value("${cache.tenant.admin.emails.refresh.after.seconds}")
+  private long refreshAfterSeconds;
+
+  public Optional<TenantAdminEmails> get(Long tenantId) {
+    return Optional.ofNullable(tenantAdminEmails().get(tenantId, TenantAdminEmails.class));
+  }
+
+  public void put(Long tenantId, List<String> adminEmails) {
+    tenantAdminEmails()
+        .put(
+            tenantId,
+            new TenantAdminEmails(
+                Collections.unmodifiableList(new ArrayList<>(adminEmails)), clock.instant()));
+  }
+
+  /**
+   * Checks whether the given admin emails should be reloaded.
+   *
+   * @param tenantAdminEmails the cached admin emails
+   * @return true if they are older than the refresh interval
+   */
+  public boolean needsRefresh(TenantAdminEmails tenantAdminEmails) {
+    return !clock
+        .instant()
+        .isBefore(tenantAdminEmails.loadedAt().plus(Duration.ofSeconds(refreshAfterSeconds)));
+  }
+
+  public void evict(Long tenantId) {
+    tenantAdminEmails().evict(tenantId);
+  }
+
+  public void evictAll() {
+    tenantAdminEmails().clear();
+  }
+
+  private Cache tenantAdminEmails() {
+    var cache = cacheManager.getCache(TENANT_ADMIN_EMAILS_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(TENANT_ADMIN_EMAILS_CACHE));
+    }
+    return cache;
+  }
+}
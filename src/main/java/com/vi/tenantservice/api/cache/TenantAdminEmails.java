@@ -0,0 +1,12 @@
+package com.vi.tenantservice.api.cache;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The admin emails of a tenant as loaded from the user admin service.
+ *
+ * @param adminEmails the immutable admin emails
+ * @param loadedAt the time they were loaded
+ */
+public record TenantAdminEmails(List<String> adminEmails, Instant loadedAt) {}
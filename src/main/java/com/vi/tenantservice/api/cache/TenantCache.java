@@ -0,0 +1,92 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANTS_BY_ID_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_IDS_BY_SUBDOMAIN_CACHE;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import java.util.Optional;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Read-through cache for tenant entities, addressable by id and by subdomain. The subdomain cache
+ * only maps to tenant ids, so each tenant is held once. Entities are copied on the way in and out,
+ * as callers modify the returned entities before saving them.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantCache {
+
+  private final @NonNull CacheManager cacheManager;
+
+  public Optional<TenantEntity> findById(Long id) {
+    if (id == null) {
+      return Optional.empty();
+    }
+    var cachedTenant = tenantsById().get(id, TenantEntity.class);
+    return Optional.ofNullable(cachedTenant).map(TenantCache::copyOf);
+  }
+
+  public Optional<TenantEntity> findBySubdomain(String subdomain) {
+    if (subdomain == null) {
+      return Optional.empty();
+    }
+    var tenantId = tenantIdsBySubdomain().get(subdomain, Long.class);
+    return findById(tenantId).filter(tenant -> subdomain.equals(tenant.getSubdomain()));
+  }
+
+  public void put(TenantEntity tenant) {
+    if (tenant.getId() == null) {
+      return;
+    }
+    tenantsById().put(tenant.getId(), copyOf(tenant));
+    if (tenant.getSubdomain() != null) {
+      tenantIdsBySubdomain().put(tenant.getSubdomain(), tenant.getId());
+    }
+  }
+
+  /**
+   * Evicts the given tenant under its id, its current subdomain and the subdomain it was cached
+   * with, which differs from the current one if the subdomain has been changed.
+   *
+   * @param tenant the tenant to evict
+   */
+  public void evict(TenantEntity tenant) {
+    if (tenant.getId() != null) {
+      var cachedTenant = tenantsById().get(tenant.getId(), TenantEntity.class);
+      if (cachedTenant != null && cachedTenant.getSubdomain() != null) {
+        tenantIdsBySubdomain().evict(cachedTenant.getSubdomain());
+      }
+      tenantsById().evict(tenant.getId());
+    }
+    if (tenant.getSubdomain() != null) {
+      tenantIdsBySubdomain().evict(tenant.getSubdomain());
+    }
+    log.debug("Evicted tenant with id {} from cache", tenant.getId());
+  }
+
+  private static TenantEntity copyOf(TenantEntity tenant) {
+    return tenant.toBuilder().build();
+  }
+
+  private Cache tenantsById() {
+    return getCache(TENANTS_BY_ID_CACHE);
+  }
+
+  private Cache tenantIdsBySubdomain() {
+    return getCache(TENANT_IDS_BY_SUBDOMAIN_CACHE);
+  }
+
+  private Cache getCache(String cacheName) {
+    var cache = cacheManager.getCache(cacheName);
+    if (cache == null) {
+      throw new IllegalStateException("Cache %s is not configured".formatted(cacheName));
+    }
+    return cache;
+  }
+}
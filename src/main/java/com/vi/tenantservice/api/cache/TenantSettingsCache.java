@@ -0,0 +1,55 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
+
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.util.JsonConverter;
+import java.util.ArrayList;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Memoizes parsed tenant settings, keyed by the settings JSON itself. Changed settings therefore
+ * never hit an outdated entry, and settings shared by several tenants are parsed once. The cached
+ * instances are never handed out, callers get copies they may modify.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantSettingsCache {
+
+  private final @NonNull CacheManager cacheManager;
+
+  /**
+   * Returns the tenant settings parsed from the given JSON.
+   *
+   * @param settingsJson the settings JSON of a tenant
+   * @return a copy of the parsed {@link TenantSettings}
+   */
+  public TenantSettings get(String settingsJson) {
+    var cachedSettings = tenantSettings().get(settingsJson, TenantSettings.class);
+    if (cachedSettings == null) {
+      cachedSettings = JsonConverter.convertFromJson(settingsJson);
+      tenantSettings().put(settingsJson, cachedSettings);
+    }
+    return copyOf(cachedSettings);
+  }
+
+  private static TenantSettings copyOf(TenantSettings tenantSettings) {
+    var activeLanguages = tenantSettings.getActiveLanguages();
+    return tenantSettings.toBuilder()
+        .activeLanguages(activeLanguages == null ? null : new ArrayList<>(activeLanguages))
+        .build();
+  }
+
+  private Cache tenantSettings() {
+    var cache = cacheManager.getCache(TENANT_SETTINGS_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(TENANT_SETTINGS_CACHE));
+    }
+    return cache;
+  }
+}
@@ -0,0 +1,263 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_LOOKUP_MISSES_CACHE;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantEntity.TenantSubdomain;
+import com.vi.tenantservice.api.repository.TenantRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of the tenant ids by subdomain, so that resolving the tenant of a request, or
+ * checking that a tenant id taken from a request exists, does not need a database round trip.
+ *
+ * <p>The index is loaded at startup and replaced as a whole on every change, so lookups read an
+ * immutable map without locking. Changes made through the {@code TenantService} are applied right
+ * once committed, changes made elsewhere, e.g. by another instance, are picked up by the periodic
+ * drift check. Until the index is loaded, and for subdomains shared by several tenants, lookups
+ * fall back to the database. Subdomains are compared ignoring case, like the database does.
+ *
+ * <p>A lookup missing the index is looked up in the database as well, so that tenants created or
+ * renamed by another instance are known right away, and added to the index if found. Misses are
+ * remembered for a short time, so that requests for unknown subdomains or tenant ids cannot flood
+ * the database.
+ */
+@Component
+@Slf4j
+public class TenantSubdomainIndex {
+
+  private final TenantRepository tenantRepository;
+
+  private final CacheManager cacheManager;
+
+  private final Counter drifts;
+
+  private volatile Index index;
+
+  private long modifications;
+
+  private record Index(
+      Map<Long, String> subdomainsByTenantId,
+      Map<String, Long> tenantIdsBySubdomain,
+      Set<String> ambiguousSubdomains) {
+
+    static Index of(Map<Long, String> subdomainsByTenantId) {
+      Map<String, Long> tenantIdsBySubdomain = new HashMap<>();
+      Set<String> ambiguousSubdomains = new HashSet<>();
+      subdomainsByTenantId.forEach(
+          (tenantId, subdomain) -> {
+            if (StringUtils.isBlank(subdomain)) {
+              return;
+            }
+            var key = toKey(subdomain);
+            if (tenantIdsBySubdomain.putIfAbsent(key, tenantId) != null) {
+              ambiguousSubdomains.add(key);
+            }
+          });
+      ambiguousSubdomains.forEach(tenantIdsBySubdomain::remove);
+      return new Index(
+          Map.copyOf(subdomainsByTenantId),
+          Map.copyOf(tenantIdsBySubdomain),
+          Set.copyOf(ambiguousSubdomains));
+    }
+  }
+
+  public TenantSubdomainIndex(
+      TenantRepository tenantRepository, CacheManager cacheManager, MeterRegistry meterRegistry) {
+    this.tenantRepository = tenantRepository;
+    this.cacheManager = cacheManager;
+    this.drifts = meterRegistry.counter("tenant.subdomain.index.drifts");
+    Gauge.builder("tenant.subdomain.index.size", this, TenantSubdomainIndex::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Returns the id of the tenant with the given subdomain.
+   *
+   * @param subdomain the subdomain
+   * @return the tenant id, empty if there is no tenant with the subdomain
+   */
+  public Optional<Long> findTenantId(String subdomain) {
+    var currentIndex = index;
+    if (currentIndex == null
+        || subdomain == null
+        || currentIndex.ambiguousSubdomains().contains(toKey(subdomain))) {
+      return findTenantIdInDatabase(subdomain);
+    }
+    var tenantId = currentIndex.tenantIdsBySubdomain().get(toKey(subdomain));
+    if (tenantId != null || StringUtils.isBlank(subdomain)) {
+      return Optional.ofNullable(tenantId);
+    }
+    return findMissingTenantId(subdomain);
+  }
+
+  private Optional<Long> findMissingTenantId(String subdomain) {
+    var missKey = subdomainMissKey(subdomain);
+    if (lookupMisses().get(missKey) != null) {
+      return Optional.empty();
+    }
+    var tenants = tenantRepository.findSubdomainsBySubdomain(subdomain);
+    if (tenants.isEmpty()) {
+      lookupMisses().put(missKey, Boolean.TRUE);
+      return Optional.empty();
+    }
+    tenants.forEach(tenant -> put(tenant.getId(), tenant.getSubdomain()));
+    return tenants.size() == 1
+        ? Optional.of(tenants.get(0).getId())
+        : findTenantIdInDatabase(subdomain);
+  }
+
+  private Optional<Long> findTenantIdInDatabase(String subdomain) {
+    return Optional.ofNullable(tenantRepository.findBySubdomain(subdomain))
+        .map(TenantEntity::getId);
+  }
+
+  /**
+   * Tells whether a tenant with the given id exists.
+   *
+   * @param tenantId the tenant id
+   * @return true if the tenant exists
+   */
+  public boolean containsTenant(Long tenantId) {
+    var currentIndex = index;
+    if (currentIndex == null) {
+      return tenantRepository.existsById(tenantId);
+    }
+    if (currentIndex.subdomainsByTenantId().containsKey(tenantId)) {
+      return true;
+    }
+    var missKey = tenantIdMissKey(tenantId);
+    if (lookupMisses().get(missKey) != null) {
+      return false;
+    }
+    var tenant = tenantRepository.findSubdomainById(tenantId);
+    tenant.ifPresentOrElse(
+        found -> put(found.getId(), found.getSubdomain()),
+        () -> lookupMisses().put(missKey, Boolean.TRUE));
+    return tenant.isPresent();
+  }
+
+  /**
+   * Adds the given tenant or updates its subdomain.
+   *
+   * @param tenant the created or updated tenant
+   */
+  public void put(TenantEntity tenant) {
+    put(tenant.getId(), tenant.getSubdomain());
+  }
+
+  private synchronized void put(Long tenantId, String subdomain) {
+    if (index == null || tenantId == null) {
+      return;
+    }
+    var subdomainsByTenantId = new HashMap<>(index.subdomainsByTenantId());
+    subdomainsByTenantId.put(tenantId, StringUtils.defaultString(subdomain));
+    replace(subdomainsByTenantId);
+    lookupMisses().evict(tenantIdMissKey(tenantId));
+    if (StringUtils.isNotBlank(subdomain)) {
+      lookupMisses().evict(subdomainMissKey(subdomain));
+    }
+  }
+
+  /**
+   * Removes the given tenant.
+   *
+   * @param tenant the deleted tenant
+   */
+  public synchronized void remove(TenantEntity tenant) {
+    if (index == null || tenant.getId() == null) {
+      return;
+    }
+    var subdomainsByTenantId = new HashMap<>(index.subdomainsByTenantId());
+    subdomainsByTenantId.remove(tenant.getId());
+    replace(subdomainsByTenantId);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    reload();
+  }
+
+  /**
+   * Compares the index with the database and replaces it if they differ, unless it has been
+   * modified meanwhile, in which case the next check takes care of it.
+   */
+  @Scheduled(
+      initialDelayString = "${tenant.subdomain.index.drift.check.interval.millis}",
+      fixedDelayString = "${tenant.subdomain.index.drift.check.interval.millis}")
+  public void checkForDrift() {
+    reload();
+  }
+
+  private void reload() {
+    long modificationsBefore;
+    synchronized (this) {
+      modificationsBefore = modifications;
+    }
+    Map<Long, String> subdomainsByTenantId = new HashMap<>();
+    for (TenantSubdomain tenant : tenantRepository.findAllSubdomains()) {
+      subdomainsByTenantId.put(tenant.getId(), StringUtils.defaultString(tenant.getSubdomain()));
+    }
+    synchronized (this) {
+      if (modifications != modificationsBefore) {
+        return;
+      }
+      if (index == null) {
+        log.info("Loaded subdomains of {} tenants", subdomainsByTenantId.size());
+      } else if (!index.subdomainsByTenantId().equals(subdomainsByTenantId)) {
+        drifts.increment();
+        log.warn("Subdomain index drifted from the database, replacing it");
+      } else {
+        return;
+      }
+      replace(subdomainsByTenantId);
+    }
+  }
+
+  private void replace(Map<Long, String> subdomainsByTenantId) {
+    index = Index.of(subdomainsByTenantId);
+    modifications++;
+  }
+
+  private static String toKey(String subdomain) {
+    return subdomain.toLowerCase(Locale.ROOT);
+  }
+
+  private static String subdomainMissKey(String subdomain) {
+    return "subdomain:" + toKey(subdomain);
+  }
+
+  private static String tenantIdMissKey(Long tenantId) {
+    return "tenantId:" + tenantId;
+  }
+
+  private Cache lookupMisses() {
+    var cache = cacheManager.getCache(TENANT_LOOKUP_MISSES_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(TENANT_LOOKUP_MISSES_CACHE));
+    }
+    return cache;
+  }
+
+  private int size() {
+    var currentIndex = index;
+    return currentIndex != null ? currentIndex.subdomainsByTenantId().size() : 0;
+  }
+}
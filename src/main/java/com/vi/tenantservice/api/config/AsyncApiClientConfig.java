@@ -0,0 +1,78 @@
+package com.vi.tenantservice.api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.config.apiclient.AsyncApiClient;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Contains the non-blocking clients of the downstream services, used instead of the blocking API
+ * clients when {@code downstream.async.enabled} is set. They share one JDK {@link HttpClient},
+ * whose responses are handled by the small {@code downstreamAsyncExecutor}.
+ */
+@Configuration
+public class AsyncApiClientConfig {
+
+  @Value("${consulting.type.service.api.url}")
+  private String consultingTypeServiceApiUrl;
+
+  @Value("${user.service.api.url}")
+  private String userServiceApiUrl;
+
+  @Value("${downstream.http.connect.timeout.millis}")
+  private long connectTimeoutMillis;
+
+  @Value("${downstream.http.read.timeout.millis}")
+  private long readTimeoutMillis;
+
+  @Value("${downstream.http.http2.enabled}")
+  private boolean http2Enabled;
+
+  @Bean
+  public HttpClient downstreamAsyncHttpClient(ThreadPoolTaskExecutor downstreamAsyncExecutor) {
+    return HttpClient.newBuilder()
+        .version(http2Enabled ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+        .executor(downstreamAsyncExecutor)
+        .build();
+  }
+
+  @Bean
+  public AsyncApiClient consultingTypeServiceAsyncClient(
+      HttpClient downstreamAsyncHttpClient,
+      ObjectMapper objectMapper,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return createClient(
+        consultingTypeServiceApiUrl,
+        downstreamAsyncHttpClient,
+        objectMapper,
+        apiClientHeaderInterceptor);
+  }
+
+  @Bean
+  public AsyncApiClient userServiceAsyncClient(
+      HttpClient downstreamAsyncHttpClient,
+      ObjectMapper objectMapper,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return createClient(
+        userServiceApiUrl, downstreamAsyncHttpClient, objectMapper, apiClientHeaderInterceptor);
+  }
+
+  private AsyncApiClient createClient(
+      String basePath,
+      HttpClient httpClient,
+      ObjectMapper objectMapper,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return new AsyncApiClient(
+        basePath,
+        httpClient,
+        objectMapper,
+        apiClientHeaderInterceptor,
+        Duration.ofMillis(readTimeoutMillis));
+  }
+}
@@ -1,8 +1,206 @@
 package com.vi.tenantservice.api.config;
 
+import com.vi.tenantservice.api.cache.RestrictedTenantSnapshot;
+import com.vi.tenantservice.api.cache.SerializedRestrictedTenant;
+import com.vi.tenantservice.api.cache.TenantAdminEmails;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantSettings;
+import com.vi.tenantservice.api.service.PrivacyTemplate;
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
+import freemarker.template.Template;
+import java.time.Duration;
+import javax.cache.CacheManager;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
-public class CacheManagerConfig {}
+public class CacheManagerConfig {
+
+  public static final String TENANTS_BY_ID_CACHE = "tenantsById";
+  public static final String TENANT_IDS_BY_SUBDOMAIN_CACHE = "tenantIdsBySubdomain";
+  public static final String TENANT_LOOKUP_MISSES_CACHE = "tenantLookupMisses";
+  public static final String RESTRICTED_TENANT_SNAPSHOTS_CACHE = "restrictedTenantSnapshots";
+  public static final String RESTRICTED_TENANT_RESPONSES_CACHE = "restrictedTenantResponses";
+  public static final String TENANT_SETTINGS_CACHE = "tenantSettings";
+  public static final String COMPILED_TEMPLATES_CACHE = "compiledTemplates";
+  public static final String PRIVACY_TEMPLATES_CACHE = "privacyTemplates";
+  public static final String TENANT_ADMIN_EMAILS_CACHE = "tenantAdminEmails";
+  public static final String CONSULTING_TYPES_CACHE = "consultingTypes";
+  public static final String SUBDOMAINS_BY_HOST_CACHE = "subdomainsByHost";
+
+  @Value("${cache.tenants.ttl.seconds}")
+  private long tenantsTtlSeconds;
+
+  @Value("${cache.tenants.max.entries}")
+  private long tenantsMaxEntries;
+
+  @Value("${cache.tenant.lookup.misses.ttl.seconds}")
+  private long tenantLookupMissesTtlSeconds;
+
+  @Value("${cache.tenant.lookup.misses.max.entries}")
+  private long tenantLookupMissesMaxEntries;
+
+  @Value("${cache.tenant.settings.max.entries}")
+  private long tenantSettingsMaxEntries;
+
+  @Value("${cache.compiled.templates.ttl.seconds}")
+  private long compiledTemplatesTtlSeconds;
+
+  @Value("${cache.compiled.templates.max.entries}")
+  private long compiledTemplatesMaxEntries;
+
+  @Value("${cache.privacy.templates.max.entries}")
+  private long privacyTemplatesMaxEntries;
+
+  @Value("${cache.tenant.admin.emails.ttl.seconds}")
+  private long tenantAdminEmailsTtlSeconds;
+
+  @Value("${cache.tenant.admin.emails.max.entries}")
+  private long tenantAdminEmailsMaxEntries;
+
+  @Value("${cache.consulting.types.ttl.seconds}")
+  private long consultingTypesTtlSeconds;
+
+  @Value("${cache.consulting.types.max.entries}")
+  private long consultingTypesMaxEntries;
+
+  @Value("${cache.subdomains.ttl.seconds}")
+  private long subdomainsTtlSeconds;
+
+  @Value("${cache.subdomains.max.entries}")
+  private long subdomainsMaxEntries;
+
+  @Value("${cache.restricted.tenant.snapshots.ttl.seconds}")
+  private long restrictedTenantSnapshotsTtlSeconds;
+
+  @Value("${cache.restricted.tenant.snapshots.max.entries}")
+  private long restrictedTenantSnapshotsMaxEntries;
+
+  @Value("${cache.restricted.tenant.responses.ttl.seconds}")
+  private long restrictedTenantResponsesTtlSeconds;
+
+  @Value("${cache.restricted.tenant.responses.heap.max.entries}")
+  private long restrictedTenantResponsesHeapMaxEntries;
+
+  @Value("${cache.restricted.tenant.responses.offheap.size.mb}")
+  private long restrictedTenantResponsesOffheapSizeMb;
+
+  /**
+   * Registers the application caches programmatically, so that their size and time to live can be
+   * configured per environment. Statistics are enabled to expose hit and miss counters as cache
+   * metrics.
+   *
+   * @return {@link JCacheManagerCustomizer}
+   */
+  @Bean
+  public JCacheManagerCustomizer tenantCacheManagerCustomizer() {
+    return cacheManager -> {
+      var tenantsTtl = Duration.ofSeconds(tenantsTtlSeconds);
+      createCache(
+          cacheManager,
+          TENANTS_BY_ID_CACHE,
+          Long.class,
+          TenantEntity.class,
+          ResourcePoolsBuilder.heap(tenantsMaxEntries),
+          tenantsTtl);
+      createCache(
+          cacheManager,
+          TENANT_IDS_BY_SUBDOMAIN_CACHE,
+          String.class,
+          Long.class,
+          ResourcePoolsBuilder.heap(tenantsMaxEntries),
+          tenantsTtl);
+      createCache(
+          cacheManager,
+          TENANT_LOOKUP_MISSES_CACHE,
+          String.class,
+          Boolean.class,
+          ResourcePoolsBuilder.heap(tenantLookupMissesMaxEntries),
+          Duration.ofSeconds(tenantLookupMissesTtlSeconds));
+      createCache(
+          cacheManager,
+          TENANT_SETTINGS_CACHE,
+          String.class,
+          TenantSettings.class,
+          ResourcePoolsBuilder.heap(tenantSettingsMaxEntries),
+          tenantsTtl);
+      createCache(
+          cacheManager,
+          COMPILED_TEMPLATES_CACHE,
+          String.class,
+          Template.class,
+          ResourcePoolsBuilder.heap(compiledTemplatesMaxEntries),
+          Duration.ofSeconds(compiledTemplatesTtlSeconds));
+      createCache(
+          cacheManager,
+          PRIVACY_TEMPLATES_CACHE,
+          String.class,
+          PrivacyTemplate.class,
+          ResourcePoolsBuilder.heap(privacyTemplatesMaxEntries),
+          Duration.ofSeconds(compiledTemplatesTtlSeconds));
+      createCache(
+          cacheManager,
+          TENANT_ADMIN_EMAILS_CACHE,
+          Long.class,
+          TenantAdminEmails.class,
+          ResourcePoolsBuilder.heap(tenantAdminEmailsMaxEntries),
+          Duration.ofSeconds(tenantAdminEmailsTtlSeconds));
+      createCache(
+          cacheManager,
+          CONSULTING_TYPES_CACHE,
+          Integer.class,
+          FullConsultingTypeResponseDTO.class,
+          ResourcePoolsBuilder.heap(consultingTypesMaxEntries),
+          Duration.ofSeconds(consultingTypesTtlSeconds));
+      createCache(
+          cacheManager,
+          SUBDOMAINS_BY_HOST_CACHE,
+          String.class,
+          String.class,
+          ResourcePoolsBuilder.heap(subdomainsMaxEntries),
+          Duration.ofSeconds(subdomainsTtlSeconds));
+      createCache(
+          cacheManager,
+          RESTRICTED_TENANT_SNAPSHOTS_CACHE,
+          String.class,
+          RestrictedTenantSnapshot.class,
+          ResourcePoolsBuilder.heap(restrictedTenantSnapshotsMaxEntries),
+          Duration.ofSeconds(restrictedTenantSnapshotsTtlSeconds));
+      createCache(
+          cacheManager,
+          RESTRICTED_TENANT_RESPONSES_CACHE,
+          String.class,
+          SerializedRestrictedTenant.class,
+          ResourcePoolsBuilder.heap(restrictedTenantResponsesHeapMaxEntries)
+              .offheap(restrictedTenantResponsesOffheapSizeMb, MemoryUnit.MB),
+          Duration.ofSeconds(restrictedTenantResponsesTtlSeconds));
+    };
+  }
+
+  private <K, V> void createCache(
+      CacheManager cacheManager,
+      String cacheName,
+      Class<K> keyType,
+      Class<V> valueType,
+      ResourcePoolsBuilder resourcePools,
+      Duration timeToLive) {
+    if (cacheManager.getCache(cacheName) != null) {
+      return;
+    }
+    var cacheConfiguration =
+        CacheConfigurationBuilder.newCacheConfigurationBuilder(keyType, valueType, resourcePools)
+            .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(timeToLive));
+    cacheManager.createCache(
+        cacheName, Eh107Configuration.fromEhcacheCacheConfiguration(cacheConfiguration));
+    cacheManager.enableStatistics(cacheName, true);
+  }
+}
@@ -0,0 +1,88 @@
+package com.vi.tenantservice.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/** Contains the executors used to call other services in parallel. */
+@Configuration
+public class ExecutorConfig {
+
+  @Value("${admin.data.enrichment.parallelism}")
+  private int adminDataParallelism;
+
+  @Value("${tenant.enrichment.parallelism}")
+  private int tenantEnrichmentParallelism;
+
+  @Value("${tenant.provisioning.parallelism}")
+  private int tenantProvisioningParallelism;
+
+  @Value("${downstream.async.threads}")
+  private int downstreamAsyncThreads;
+
+  /**
+   * Executor for loading the admin data of several tenants. Its pool size limits the number of
+   * concurrent calls to the user admin service, further tasks are queued. Its tasks, e.g.
+   * background refreshes, may outlive the request that started them, so they get the headers of
+   * their calls passed instead of the context of that request.
+   *
+   * @return {@link ThreadPoolTaskExecutor}
+   */
+  @Bean
+  public ThreadPoolTaskExecutor adminDataExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(adminDataParallelism);
+    executor.setMaxPoolSize(adminDataParallelism);
+    executor.setThreadNamePrefix("admin-data-");
+    return executor;
+  }
+
+  /**
+   * Executor for enriching a single tenant with the data of other services, so that the services
+   * are called concurrently instead of one after the other. Like the admin data tasks, enrichments
+   * get the headers of their calls passed instead of the context of the request.
+   *
+   * @return {@link ThreadPoolTaskExecutor}
+   */
+  @Bean
+  public ThreadPoolTaskExecutor tenantEnrichmentExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(tenantEnrichmentParallelism);
+    executor.setMaxPoolSize(tenantEnrichmentParallelism);
+    executor.setThreadNamePrefix("tenant-enrichment-");
+    return executor;
+  }
+
+  /**
+   * Executor for the provisioning steps of created tenants. Its pool size limits how many steps,
+   * e.g. of a bulk onboarding, are executed in parallel. Its queue is bounded, steps that do not
+   * fit are left to the next poll.
+   *
+   * @return {@link ThreadPoolTaskExecutor}
+   */
+  @Bean
+  public ThreadPoolTaskExecutor tenantProvisioningExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(tenantProvisioningParallelism);
+    executor.setMaxPoolSize(tenantProvisioningParallelism);
+    executor.setQueueCapacity(tenantProvisioningParallelism);
+    executor.setThreadNamePrefix("tenant-provisioning-");
+    return executor;
+  }
+
+  /**
+   * Executor of the non-blocking downstream clients. It only handles responses, no thread waits for
+   * one, so a few threads serve many concurrent calls.
+   *
+   * @return {@link ThreadPoolTaskExecutor}
+   */
+  @Bean
+  public ThreadPoolTaskExecutor downstreamAsyncExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(downstreamAsyncThreads);
+    executor.setMaxPoolSize(downstreamAsyncThreads);
+    executor.setThreadNamePrefix("downstream-async-");
+    return executor;
+  }
+}
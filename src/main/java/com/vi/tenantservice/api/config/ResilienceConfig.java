@@ -0,0 +1,71 @@
+package com.vi.tenantservice.api.config;
+
+import com.vi.tenantservice.api.resilience.CircuitBreaker;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Contains a circuit breaker and bulkhead per called service, so that a failing or slow service
+ * only affects the requests that need it.
+ */
+@Configuration
+public class ResilienceConfig {
+
+  @Value("${downstream.resilience.failure.rate.threshold.percent}")
+  private int failureRateThresholdPercent;
+
+  @Value("${downstream.resilience.sliding.window.size}")
+  private int slidingWindowSize;
+
+  @Value("${downstream.resilience.minimum.calls}")
+  private int minimumCalls;
+
+  @Value("${downstream.resilience.open.wait.seconds}")
+  private long openWaitSeconds;
+
+  @Value("${downstream.resilience.half.open.calls}")
+  private int halfOpenCalls;
+
+  @Value("${downstream.resilience.bulkhead.max.concurrent.calls}")
+  private int maxConcurrentCalls;
+
+  @Value("${downstream.resilience.bulkhead.max.wait.millis}")
+  private long maxBulkheadWaitMillis;
+
+  @Bean
+  public DownstreamGuard applicationSettingsGuard(MeterRegistry meterRegistry) {
+    return createGuard("applicationSettings", meterRegistry);
+  }
+
+  @Bean
+  public DownstreamGuard consultingTypeServiceGuard(MeterRegistry meterRegistry) {
+    return createGuard(RestTemplateConfig.CONSULTING_TYPE_SERVICE, meterRegistry);
+  }
+
+  @Bean
+  public DownstreamGuard userServiceGuard(MeterRegistry meterRegistry) {
+    return createGuard(RestTemplateConfig.USER_SERVICE, meterRegistry);
+  }
+
+  private DownstreamGuard createGuard(String serviceName, MeterRegistry meterRegistry) {
+    var circuitBreaker =
+        new CircuitBreaker(
+            failureRateThresholdPercent,
+            slidingWindowSize,
+            minimumCalls,
+            Duration.ofSeconds(openWaitSeconds),
+            halfOpenCalls,
+            Clock.systemUTC());
+    return new DownstreamGuard(
+        serviceName,
+        circuitBreaker,
+        maxConcurrentCalls,
+        Duration.ofMillis(maxBulkheadWaitMillis),
+        meterRegistry);
+  }
+}
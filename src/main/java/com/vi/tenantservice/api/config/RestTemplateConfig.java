@@ -1,14 +1,68 @@
 package com.vi.tenantservice.api.config;
 
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
-/** Contains the rest template configuration. */
+/**
+ * Contains the rest template configuration.
+ *
+ * <p>Each downstream service gets its own connection pool, so that a stalling service can only
+ * exhaust its own connections. The pool gauges are registered per service, tagged with {@code
+ * httpclient=<service>}, the request latencies are recorded as {@code http.client.requests}.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+  public static final String CONSULTING_TYPE_SERVICE = "consultingTypeService";
+  public static final String USER_SERVICE = "userService";
+
+  @Value("${downstream.http.max.connections.total}")
+  private int maxConnectionsTotal;
+
+  @Value("${downstream.http.max.connections.per.route}")
+  private int maxConnectionsPerRoute;
+
+  @Value("${downstream.http.connect.timeout.millis}")
+  private long connectTimeoutMillis;
+
+  @Value("${downstream.http.read.timeout.millis}")
+  private long readTimeoutMillis;
+
+  @Value("${admin.data.enrichment.call.timeout.millis}")
+  private long adminDataCallTimeoutMillis;
+
+  @Value("${downstream.http.pool.acquire.timeout.millis}")
+  private long poolAcquireTimeoutMillis;
+
+  @Value("${downstream.http.keep.alive.seconds}")
+  private long keepAliveSeconds;
+
+  @Value("${downstream.http.idle.eviction.seconds}")
+  private long idleEvictionSeconds;
+
+  @Value("${downstream.http.http2.enabled}")
+  private boolean http2Enabled;
+
   /**
    * RestTemplate Bean.
    *
@@ -16,7 +70,112 @@ public class RestTemplateConfig {
    * @return {@link RestTemplate}
    */
   @Bean
+  @Primary
   public RestTemplate restTemplate(RestTemplateBuilder builder) {
     return builder.errorHandler(new CustomResponseErrorHandler()).build();
   }
+
+  @Bean
+  public ClientHttpRequestFactory consultingTypeServiceRequestFactory(MeterRegistry meterRegistry) {
+    return createRequestFactory(CONSULTING_TYPE_SERVICE, meterRegistry, readTimeoutMillis);
+  }
+
+  /**
+   * The user service is only called to load admin data, whose calls time out after the admin data
+   * call timeout. Its read timeout does not exceed that timeout, so that a call timing out does not
+   * keep its thread of the admin data executor waiting for the response.
+   */
+  @Bean
+  public ClientHttpRequestFactory userServiceRequestFactory(MeterRegistry meterRegistry) {
+    return createRequestFactory(
+        USER_SERVICE, meterRegistry, Math.min(readTimeoutMillis, adminDataCallTimeoutMillis));
+  }
+
+  /**
+   * RestTemplate Bean of the ConsultingTypeService API clients.
+   *
+   * @param builder {@link RestTemplateBuilder}
+   * @param requestFactory the pooled {@link ClientHttpRequestFactory} of the service
+   * @param apiClientHeaderInterceptor {@link ApiClientHeaderInterceptor}
+   * @return {@link RestTemplate}
+   */
+  @Bean
+  public RestTemplate consultingTypeServiceRestTemplate(
+      RestTemplateBuilder builder,
+      @Qualifier("consultingTypeServiceRequestFactory") ClientHttpRequestFactory requestFactory,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return createApiClientRestTemplate(builder, requestFactory, apiClientHeaderInterceptor);
+  }
+
+  /**
+   * RestTemplate Bean of the UserService API clients.
+   *
+   * @param builder {@link RestTemplateBuilder}
+   * @param requestFactory the pooled {@link ClientHttpRequestFactory} of the service
+   * @param apiClientHeaderInterceptor {@link ApiClientHeaderInterceptor}
+   * @return {@link RestTemplate}
+   */
+  @Bean
+  public RestTemplate userServiceRestTemplate(
+      RestTemplateBuilder builder,
+      @Qualifier("userServiceRequestFactory") ClientHttpRequestFactory requestFactory,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return createApiClientRestTemplate(builder, requestFactory, apiClientHeaderInterceptor);
+  }
+
+  private RestTemplate createApiClientRestTemplate(
+      RestTemplateBuilder builder,
+      ClientHttpRequestFactory requestFactory,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor) {
+    return builder
+        .requestFactory(() -> requestFactory)
+        .errorHandler(new CustomResponseErrorHandler())
+        .additionalInterceptors(apiClientHeaderInterceptor)
+        .build();
+  }
+
+  /**
+   * Creates the request factory of the given service. With HTTP/2 enabled, requests are multiplexed
+   * over the connections of the JDK client, which is therefore not pooled explicitly.
+   */
+  private ClientHttpRequestFactory createRequestFactory(
+      String serviceName, MeterRegistry meterRegistry, long readTimeoutMillis) {
+    if (http2Enabled) {
+      var httpClient =
+          HttpClient.newBuilder()
+              .version(HttpClient.Version.HTTP_2)
+              .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+              .build();
+      var requestFactory = new JdkClientHttpRequestFactory(httpClient);
+      requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+      return requestFactory;
+    }
+
+    var connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxConnectionsTotal)
+            .setMaxConnPerRoute(maxConnectionsPerRoute)
+            .setDefaultConnectionConfig(
+                ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                    .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                    .build())
+            .build();
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, serviceName)
+        .bindTo(meterRegistry);
+
+    var httpClient =
+        HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolAcquireTimeoutMillis))
+                    .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                    .setDefaultKeepAlive(keepAliveSeconds, TimeUnit.SECONDS)
+                    .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+            .build();
+    return new HttpComponentsClientHttpRequestFactory(httpClient);
+  }
 }
@@ -0,0 +1,52 @@
+package com.vi.tenantservice.api.config;
+
+import com.vi.tenantservice.api.model.SerializedRestrictedTenantDTO;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes {@link SerializedRestrictedTenantDTO} bodies without serializing them again. Registered
+ * ahead of the default converters by Spring Boot, as it is a bean.
+ */
+@Component
+public class SerializedRestrictedTenantMessageConverter
+    extends AbstractHttpMessageConverter<SerializedRestrictedTenantDTO> {
+
+  public SerializedRestrictedTenantMessageConverter() {
+    super(MediaType.APPLICATION_JSON);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return SerializedRestrictedTenantDTO.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected boolean canRead(MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected SerializedRestrictedTenantDTO readInternal(
+      Class<? extends SerializedRestrictedTenantDTO> clazz, HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Serialized restricted tenant data can not be read", inputMessage);
+  }
+
+  @Override
+  protected Long getContentLength(SerializedRestrictedTenantDTO restrictedTenant, MediaType type) {
+    return (long) restrictedTenant.getBody().length;
+  }
+
+  @Override
+  protected void writeInternal(
+      SerializedRestrictedTenantDTO restrictedTenant, HttpOutputMessage outputMessage)
+      throws IOException {
+    outputMessage.getBody().write(restrictedTenant.getBody());
+  }
+}
@@ -0,0 +1,117 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.tenant.TenantResolverService;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Adds the security and tenant headers to the calls of the shared downstream API clients, so that
+ * the clients themselves stay free of per-request state.
+ *
+ * <p>By default the headers are taken from the current request: the bearer token of the
+ * authenticated user and the resolved tenant. Calls made outside of that request, e.g. from a
+ * background refresh, pass previously captured headers via {@link #withHeaders(HttpHeaders,
+ * Supplier)}. Each call gets a fresh CSRF token.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiClientHeaderInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final String TENANT_ID_HEADER = "tenantId";
+
+  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  private final @NonNull TenantResolverService tenantResolverService;
+
+  private final ThreadLocal<HttpHeaders> scopedHeaders = new ThreadLocal<>();
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    requestHeaders().forEach(request.getHeaders()::putIfAbsent);
+    return execution.execute(request, body);
+  }
+
+  /**
+   * Returns the headers the calls of the current request are made with.
+   *
+   * @return {@link HttpHeaders}
+   */
+  public HttpHeaders captureHeaders() {
+    var headers = securityHeaderSupplier.getKeycloakHttpHeaders();
+    tryResolveTenant().ifPresent(tenantId -> headers.add(TENANT_ID_HEADER, tenantId.toString()));
+    return headers;
+  }
+
+  /**
+   * Returns the headers calls made now are made with, the ones given to {@link
+   * #withHeaders(HttpHeaders, Supplier)} or else the ones of the current request.
+   *
+   * @return {@link HttpHeaders}
+   */
+  public HttpHeaders currentHeaders() {
+    return Optional.ofNullable(scopedHeaders.get()).orElseGet(this::captureHeaders);
+  }
+
+  /**
+   * Returns all headers of a call made now, the {@link #currentHeaders()} and a fresh CSRF token.
+   *
+   * @return {@link HttpHeaders}
+   */
+  public HttpHeaders requestHeaders() {
+    var headers = new HttpHeaders();
+    currentHeaders().forEach(headers::putIfAbsent);
+    securityHeaderSupplier.getCsrfHttpHeaders().forEach(headers::putIfAbsent);
+    return headers;
+  }
+
+  /**
+   * Makes the calls of the given supplier with the given headers instead of the ones of the current
+   * request.
+   *
+   * @param headers the headers, e.g. obtained by {@link #captureHeaders()}
+   * @param call the calls to make
+   * @return the result of the calls
+   */
+  public <T> T withHeaders(HttpHeaders headers, Supplier<T> call) {
+    var previousHeaders = scopedHeaders.get();
+    scopedHeaders.set(headers);
+    try {
+      return call.get();
+    } finally {
+      if (previousHeaders != null) {
+        scopedHeaders.set(previousHeaders);
+      } else {
+        scopedHeaders.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns headers carrying only the given tenant.
+   *
+   * @param tenantId the tenant id, if any
+   * @return {@link HttpHeaders}
+   */
+  public static HttpHeaders tenantHeaders(Optional<Long> tenantId) {
+    var headers = new HttpHeaders();
+    tenantId.ifPresent(id -> headers.add(TENANT_ID_HEADER, id.toString()));
+    return headers;
+  }
+
+  private Optional<Long> tryResolveTenant() {
+    return RequestContextHolder.getRequestAttributes() != null
+        ? tenantResolverService.tryResolve()
+        : Optional.empty();
+  }
+}
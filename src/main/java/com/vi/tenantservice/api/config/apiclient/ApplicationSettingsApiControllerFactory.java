@@ -1,23 +1,38 @@
 package com.vi.tenantservice.api.config.apiclient;
 
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the application settings controller API of the ConsultingTypeService. It is created once
+ * and shared, the per-request headers are added by the {@link ApiClientHeaderInterceptor}.
+ */
 @Component
 public class ApplicationSettingsApiControllerFactory {
 
   @Value("${consulting.type.service.api.url}")
   private String applicationsettingsServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier("consultingTypeServiceRestTemplate")
+  private RestTemplate restTemplate;
 
-  public ApplicationsettingsControllerApi createControllerApi() {
+  private ApplicationsettingsControllerApi controllerApi;
+
+  @PostConstruct
+  public void createControllerApi() {
     var apiClient =
         new ApplicationSettingsApiClient(restTemplate)
             .setBasePath(this.applicationsettingsServiceApiUrl);
-    return new ApplicationsettingsControllerApi(apiClient);
+    controllerApi = new ApplicationsettingsControllerApi(apiClient);
+  }
+
+  public ApplicationsettingsControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
@@ -0,0 +1,112 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Non-blocking client of a downstream service, based on the JDK {@link HttpClient}. No thread waits
+ * for a response, so that many calls can be in flight with few threads.
+ *
+ * <p>It behaves like the generated API clients: the headers are added by the {@link
+ * ApiClientHeaderInterceptor}, error responses fail with a {@link ResponseStatusException} and
+ * transport errors with a {@link ResourceAccessException}. The headers are taken when the call is
+ * made, so it has to be made within the request or {@link
+ * ApiClientHeaderInterceptor#withHeaders(HttpHeaders, java.util.function.Supplier)}.
+ */
+public class AsyncApiClient {
+
+  private final String basePath;
+
+  private final HttpClient httpClient;
+
+  private final ObjectMapper objectMapper;
+
+  private final ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private final Duration readTimeout;
+
+  public AsyncApiClient(
+      String basePath,
+      HttpClient httpClient,
+      ObjectMapper objectMapper,
+      ApiClientHeaderInterceptor apiClientHeaderInterceptor,
+      Duration readTimeout) {
+    this.basePath = basePath;
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.apiClientHeaderInterceptor = apiClientHeaderInterceptor;
+    this.readTimeout = readTimeout;
+  }
+
+  /**
+   * Gets the given resource.
+   *
+   * @param pathTemplate the path, relative to the base path, with optional query
+   * @param returnType the type of the response body
+   * @param uriVariables the values of the variables of the path template
+   * @return the response body, {@code null} if there is none
+   */
+  public <T> CompletableFuture<T> get(
+      String pathTemplate, TypeReference<T> returnType, Object... uriVariables) {
+    var uri =
+        UriComponentsBuilder.fromUriString(basePath + pathTemplate)
+            .buildAndExpand(uriVariables)
+            .encode()
+            .toUri();
+    var request = HttpRequest.newBuilder(uri).timeout(readTimeout).GET();
+    apiClientHeaderInterceptor
+        .requestHeaders()
+        .forEach((name, values) -> values.forEach(value -> request.header(name, value)));
+    request.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+
+    return httpClient
+        .sendAsync(request.build(), BodyHandlers.ofByteArray())
+        .handle(
+            (response, error) -> {
+              if (error != null) {
+                throw toRestClientException(uri, error);
+              }
+              return readBody(uri, response, returnType);
+            });
+  }
+
+  private <T> T readBody(URI uri, HttpResponse<byte[]> response, TypeReference<T> returnType) {
+    var status = HttpStatusCode.valueOf(response.statusCode());
+    if (!status.is2xxSuccessful()) {
+      throw new ResponseStatusException(status, "GET " + uri);
+    }
+    if (response.body().length == 0) {
+      return null;
+    }
+    try {
+      return objectMapper.readValue(response.body(), returnType);
+    } catch (IOException e) {
+      throw new RestClientException("Could not read response of GET " + uri, e);
+    }
+  }
+
+  private static RestClientException toRestClientException(URI uri, Throwable error) {
+    var cause =
+        error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    var message = "I/O error on GET request for \"" + uri + "\": " + cause.getMessage();
+    return cause instanceof IOException ioException
+        ? new ResourceAccessException(message, ioException)
+        : new RestClientException(message, cause);
+  }
+}
@@ -2,21 +2,36 @@ package com.vi.tenantservice.api.config.apiclient;
 
 import com.vi.tenantservice.consultingtypeservice.generated.ApiClient;
 import com.vi.tenantservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the controller API of the ConsultingTypeService. It is created once and shared, the
+ * per-request headers are added by the {@link ApiClientHeaderInterceptor}.
+ */
 @Component
 public class ConsultingTypeServiceApiControllerFactory {
 
   @Value("${consulting.type.service.api.url}")
   private String consultingTypeServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier("consultingTypeServiceRestTemplate")
+  private RestTemplate restTemplate;
 
-  public ConsultingTypeControllerApi createControllerApi() {
+  private ConsultingTypeControllerApi controllerApi;
+
+  @PostConstruct
+  public void createControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.consultingTypeServiceApiUrl);
-    return new ConsultingTypeControllerApi(apiClient);
+    controllerApi = new ConsultingTypeControllerApi(apiClient);
+  }
+
+  public ConsultingTypeControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
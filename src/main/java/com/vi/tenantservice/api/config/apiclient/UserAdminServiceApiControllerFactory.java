@@ -2,21 +2,36 @@ package com.vi.tenantservice.api.config.apiclient;
 
 import com.vi.tenantservice.useradminservice.generated.ApiClient;
 import com.vi.tenantservice.useradminservice.generated.web.AdminUserControllerApi;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the controller API of the UserService. It is created once and shared, the per-request
+ * headers are added by the {@link ApiClientHeaderInterceptor}.
+ */
 @Component
 public class UserAdminServiceApiControllerFactory {
 
   @Value("${user.service.api.url}")
   private String userServiceApiUrl;
 
-  @Autowired private RestTemplate restTemplate;
+  @Autowired
+  @Qualifier("userServiceRestTemplate")
+  private RestTemplate restTemplate;
 
-  public AdminUserControllerApi createControllerApi() {
+  private AdminUserControllerApi controllerApi;
+
+  @PostConstruct
+  public void createControllerApi() {
     var apiClient = new ApiClient(restTemplate).setBasePath(this.userServiceApiUrl);
-    return new AdminUserControllerApi(apiClient);
+    controllerApi = new AdminUserControllerApi(apiClient);
+  }
+
+  public AdminUserControllerApi getControllerApi() {
+    return controllerApi;
   }
 }
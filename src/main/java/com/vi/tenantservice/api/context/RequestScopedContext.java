@@ -0,0 +1,93 @@
+package com.vi.tenantservice.api.context;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Holds the values derived from the current request, so that they are computed at most once per
+ * request instead of by every service needing them: the resolved tenant id, the subdomain, the
+ * language and the roles and authorities of the user.
+ *
+ * <p>It is bound to each request by the {@link RequestScopedContextFilter}. The values are computed
+ * on first access by the given resolver, which is also used directly where no context is bound,
+ * e.g. outside of requests. A resolver that fails is called again on the next access.
+ */
+public class RequestScopedContext {
+
+  private static final String ATTRIBUTE = RequestScopedContext.class.getName();
+
+  private final LazyValue<Optional<Long>> tenantId = new LazyValue<>();
+
+  private final LazyValue<Optional<String>> subdomain = new LazyValue<>();
+
+  private final LazyValue<String> language = new LazyValue<>();
+
+  private final LazyValue<Set<String>> roles = new LazyValue<>();
+
+  private final LazyValue<Set<String>> authorities = new LazyValue<>();
+
+  static void bind(HttpServletRequest request) {
+    request.setAttribute(ATTRIBUTE, new RequestScopedContext());
+  }
+
+  /**
+   * Returns the context of the current request.
+   *
+   * @return the context, empty outside of requests
+   */
+  public static Optional<RequestScopedContext> current() {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (requestAttributes == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(
+        (RequestScopedContext)
+            requestAttributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+  }
+
+  public static Optional<Long> tenantId(Supplier<Optional<Long>> resolver) {
+    return current().map(context -> context.tenantId.get(resolver)).orElseGet(resolver);
+  }
+
+  public static Optional<String> subdomain(Supplier<Optional<String>> resolver) {
+    return current().map(context -> context.subdomain.get(resolver)).orElseGet(resolver);
+  }
+
+  public static String language(Supplier<String> resolver) {
+    return current().map(context -> context.language.get(resolver)).orElseGet(resolver);
+  }
+
+  public static Set<String> roles(Supplier<Set<String>> resolver) {
+    return current().map(context -> context.roles.get(resolver)).orElseGet(resolver);
+  }
+
+  public static Set<String> authorities(Supplier<Set<String>> resolver) {
+    return current().map(context -> context.authorities.get(resolver)).orElseGet(resolver);
+  }
+
+  /**
+   * Value computed on first access. The tasks of a request may run on several threads, so the
+   * computation is synchronized.
+   */
+  private static final class LazyValue<T> {
+
+    private volatile T value;
+
+    T get(Supplier<T> resolver) {
+      var currentValue = value;
+      if (currentValue != null) {
+        return currentValue;
+      }
+      synchronized (this) {
+        if (value == null) {
+          value = resolver.get();
+        }
+        return value;
+      }
+    }
+  }
+}
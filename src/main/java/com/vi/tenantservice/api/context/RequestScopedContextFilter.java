@@ -0,0 +1,22 @@
+package com.vi.tenantservice.api.context;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** Binds a fresh {@link RequestScopedContext} to each request. */
+@Component
+public class RequestScopedContextFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    RequestScopedContext.bind(request);
+    filterChain.doFilter(request, response);
+  }
+}
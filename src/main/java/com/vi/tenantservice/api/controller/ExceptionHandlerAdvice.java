@@ -1,5 +1,6 @@
 package com.vi.tenantservice.api.controller;
 
+import com.vi.tenantservice.api.exception.DownstreamUnavailableException;
 import com.vi.tenantservice.api.exception.TenantAuthorisationException;
 import com.vi.tenantservice.api.exception.TenantValidationException;
 import com.vi.tenantservice.api.exception.httpresponse.HttpStatusExceptionReason;
@@ -34,6 +35,12 @@ public class ExceptionHandlerAdvice extends ResponseEntityExceptionHandler {
         ex, "", ex.getCustomHttpHeaders(), HttpStatus.FORBIDDEN, request);
   }
 
+  @ExceptionHandler(value = {DownstreamUnavailableException.class})
+  @ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+  protected void handleDownstreamUnavailableException(DownstreamUnavailableException ex) {
+    logger.warn("Returning HTTP 503 Service Unavailable: " + ex.getMessage());
+  }
+
   @ExceptionHandler(value = {IllegalStateException.class})
   @ResponseStatus(value = HttpStatus.BAD_REQUEST)
   protected void handleIllegalStateException() {
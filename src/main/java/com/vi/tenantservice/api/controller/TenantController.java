@@ -1,10 +1,14 @@
 package com.vi.tenantservice.api.controller;
 
+import com.google.common.collect.ObjectArrays;
+import com.vi.tenantservice.api.cache.RestrictedTenantResponseCache;
 import com.vi.tenantservice.api.facade.TenantServiceFacade;
+import com.vi.tenantservice.api.facade.VersionedRestrictedTenant;
 import com.vi.tenantservice.api.model.AdminTenantDTO;
 import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import com.vi.tenantservice.api.model.SerializedRestrictedTenantDTO;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantsSearchResultDTO;
 import com.vi.tenantservice.config.security.AuthorisationService;
@@ -14,17 +18,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 /** Controller for tenant API operations. */
 @RestController
@@ -33,9 +44,17 @@ import org.springframework.web.context.request.NativeWebRequest;
 @Tag(name = "tenant-controller")
 public class TenantController implements TenantApi, TenantadminApi {
 
+  private static final CacheControl PUBLIC_TENANT_CACHE_CONTROL =
+      CacheControl.noCache().cachePublic();
+  private static final CacheControl CONTEXT_TENANT_CACHE_CONTROL =
+      CacheControl.noCache().cachePrivate();
+  private static final String GZIP = "gzip";
+  private static final Pattern GZIP_REJECTED = Pattern.compile("gzip;q=0(\\.0*)?");
+
   private final @NonNull TenantServiceFacade tenantServiceFacade;
   private final @NonNull AuthorisationService authorisationService;
   private final @NonNull TenantDtoMapper tenantDtoMapper;
+  private final @NonNull RestrictedTenantResponseCache restrictedTenantResponseCache;
 
   @Override
   @PreAuthorize("hasAuthority('AUTHORIZATION_GET_TENANT')")
@@ -83,35 +102,111 @@ public class TenantController implements TenantApi, TenantadminApi {
     return new ResponseEntity<>(updatedTenantDTO, HttpStatus.OK);
   }
 
+  @Override
+  @PreAuthorize("hasAuthority('AUTHORIZATION_CREATE_TENANT')")
+  public ResponseEntity<Void> retryTenantProvisioning(Long id) {
+    log.info(
+        "Retrying provisioning of tenant with id {} by user {} ",
+        id,
+        authorisationService.getUsername());
+    return tenantServiceFacade.retryProvisioning(id)
+        ? new ResponseEntity<>(HttpStatus.ACCEPTED)
+        : new ResponseEntity<>(HttpStatus.NOT_FOUND);
+  }
+
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantDataBySubdomain(
       String subdomain, Long tenantId) {
-    var tenantById = tenantServiceFacade.findTenantBySubdomain(subdomain, tenantId);
+    var tenantById = tenantServiceFacade.findVersionedTenantBySubdomain(subdomain, tenantId);
     return tenantById.isEmpty()
         ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
-        : new ResponseEntity<>(tenantById.get(), HttpStatus.OK);
+        : toConditionalResponse(tenantById.get(), PUBLIC_TENANT_CACHE_CONTROL, HttpHeaders.COOKIE);
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantDataByTenantId(Long tenantId) {
-    var tenantById = tenantServiceFacade.findRestrictedTenantById(tenantId);
+    var tenantById = tenantServiceFacade.findVersionedRestrictedTenantById(tenantId);
     return tenantById.isEmpty()
         ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
-        : new ResponseEntity<>(tenantById.get(), HttpStatus.OK);
+        : toConditionalResponse(tenantById.get(), PUBLIC_TENANT_CACHE_CONTROL, HttpHeaders.COOKIE);
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedSingleTenancyTenantData() {
-    var singleTenant = tenantServiceFacade.getSingleTenant();
+    var singleTenant = tenantServiceFacade.getVersionedSingleTenant();
     return singleTenant.isEmpty()
         ? new ResponseEntity<>(HttpStatus.BAD_REQUEST)
-        : new ResponseEntity<>(singleTenant.get(), HttpStatus.OK);
+        : toConditionalResponse(
+            singleTenant.get(), PUBLIC_TENANT_CACHE_CONTROL, HttpHeaders.COOKIE);
   }
 
   @Override
   public ResponseEntity<RestrictedTenantDTO> getRestrictedTenantData() {
-    var tenantData = tenantServiceFacade.getRestrictedTenantDataDeterminingTenantContext();
-    return new ResponseEntity<>(tenantData, HttpStatus.OK);
+    var tenantData = tenantServiceFacade.getVersionedRestrictedTenantDataDeterminingTenantContext();
+    return toConditionalResponse(
+        tenantData, CONTEXT_TENANT_CACHE_CONTROL, HttpHeaders.COOKIE, HttpHeaders.AUTHORIZATION);
+  }
+
+  /**
+   * Answers with 304 without building the tenant data if the request carries a matching
+   * If-None-Match header, otherwise with the serialized tenant data and its entity tag. Clients
+   * accepting gzip get the precompressed body, if gzipped responses are enabled, which has an
+   * entity tag of its own. The If-None-Match header is compared with the tag of the body that is
+   * served.
+   */
+  private ResponseEntity<RestrictedTenantDTO> toConditionalResponse(
+      VersionedRestrictedTenant tenant, CacheControl cacheControl, String... varyHeaders) {
+    var request =
+        new ServletServerHttpRequest(
+            ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes())
+                .getRequest());
+    var gzipServed =
+        restrictedTenantResponseCache.isGzipEnabled() && acceptsGzip(request.getHeaders());
+    var eTag = gzipServed ? toGzipETag(tenant.eTag()) : tenant.eTag();
+    var notModified = ifNoneMatchHeaderMatches(request.getHeaders(), eTag);
+    var responseBuilder =
+        (notModified ? ResponseEntity.status(HttpStatus.NOT_MODIFIED) : ResponseEntity.ok())
+            .cacheControl(cacheControl)
+            .varyBy(ObjectArrays.concat(varyHeaders, HttpHeaders.ACCEPT_ENCODING));
+    if (notModified) {
+      return responseBuilder.eTag(eTag).build();
+    }
+    var serializedTenant =
+        restrictedTenantResponseCache.get(tenant.eTag(), tenant::restrictedTenant);
+    if (gzipServed && serializedTenant.gzippedJson() != null) {
+      return responseBuilder
+          .eTag(eTag)
+          .header(HttpHeaders.CONTENT_ENCODING, GZIP)
+          .body(new SerializedRestrictedTenantDTO(serializedTenant.gzippedJson()));
+    }
+    return responseBuilder
+        .eTag(tenant.eTag())
+        .body(new SerializedRestrictedTenantDTO(serializedTenant.json()));
+  }
+
+  private static String toGzipETag(String eTag) {
+    return eTag.substring(0, eTag.length() - 1) + "-" + GZIP + "\"";
+  }
+
+  private static boolean acceptsGzip(HttpHeaders headers) {
+    return headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+        .flatMap(acceptEncoding -> Arrays.stream(acceptEncoding.split(",")))
+        .map(coding -> coding.replace(" ", "").toLowerCase())
+        .anyMatch(TenantController::isAcceptedGzipCoding);
+  }
+
+  private static boolean isAcceptedGzipCoding(String coding) {
+    return coding.equals(GZIP)
+        || coding.startsWith(GZIP + ";") && !GZIP_REJECTED.matcher(coding).matches();
+  }
+
+  private static boolean ifNoneMatchHeaderMatches(HttpHeaders headers, String eTag) {
+    return headers.getIfNoneMatch().stream()
+        .anyMatch(
+            requestedETag ->
+                "*".equals(requestedETag)
+                    || eTag.equals(requestedETag)
+                    || ("W/" + eTag).equals(requestedETag));
   }
 
   @Override
@@ -8,6 +8,8 @@ import static com.vi.tenantservice.api.util.JsonConverter.convertMapFromJson;
 import static com.vi.tenantservice.api.util.JsonConverter.convertToJson;
 
 import com.google.common.collect.Maps;
+import com.vi.tenantservice.api.cache.PrivacyTemplateCache;
+import com.vi.tenantservice.api.cache.TenantSettingsCache;
 import com.vi.tenantservice.api.model.AdminTenantDTO;
 import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
 import com.vi.tenantservice.api.model.Content;
@@ -23,10 +25,10 @@ import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.model.TenantEntity.TenantEntityBuilder;
 import com.vi.tenantservice.api.model.TenantSettings;
 import com.vi.tenantservice.api.model.Theming;
+import com.vi.tenantservice.api.service.PrivacyTemplate;
 import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
 import com.vi.tenantservice.api.service.TemplateRenderer;
 import com.vi.tenantservice.api.service.TemplateService;
-import com.vi.tenantservice.api.util.JsonConverter;
 import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.util.Map;
@@ -47,6 +49,10 @@ public class TenantConverter {
 
   private final @NonNull TemplateRenderer templateRenderer;
 
+  private final @NonNull TenantSettingsCache tenantSettingsCache;
+
+  private final @NonNull PrivacyTemplateCache privacyTemplateCache;
+
   public TenantEntity toEntity(MultilingualTenantDTO tenantDTO) {
     var builder =
         TenantEntity.builder()
@@ -170,7 +176,7 @@ public class TenantConverter {
   }
 
   private Settings getSettingsIfNotNull(String settingsJson) {
-    TenantSettings tenantSettings = JsonConverter.convertFromJson(settingsJson);
+    TenantSettings tenantSettings = tenantSettingsCache.get(settingsJson);
     return new Settings()
         .topicsInRegistrationEnabled(tenantSettings.isTopicsInRegistrationEnabled())
         .featureDemographicsEnabled(tenantSettings.isFeatureDemographicsEnabled())
@@ -241,21 +247,29 @@ public class TenantConverter {
   private String renderPrivacyForNoAgencyContext(
       String privacyPotentiallyWithPlaceholders,
       DataProtectionContactTemplateDTO dataProtectionContactTemplate) {
+    if (privacyPotentiallyWithPlaceholders == null) {
+      return null;
+    }
+    var privacyTemplate = privacyTemplateCache.get(privacyPotentiallyWithPlaceholders);
+    if (privacyTemplate.getKind() == PrivacyTemplate.Kind.STATIC) {
+      return privacyPotentiallyWithPlaceholders;
+    }
     if (dataProtectionContactTemplate == null
         || dataProtectionContactTemplate.getNoAgencyContext() == null) {
       log.info("No data protection contact template found. Skipping privacy rendering.");
       return privacyPotentiallyWithPlaceholders;
     }
-    return tryRenderTemplate(privacyPotentiallyWithPlaceholders, dataProtectionContactTemplate);
+    var dataModel = placeHolderKeyValueMap(dataProtectionContactTemplate.getNoAgencyContext());
+    if (privacyTemplate.getKind() == PrivacyTemplate.Kind.PLACEHOLDERS) {
+      return privacyTemplate.render(dataModel);
+    }
+    return tryRenderTemplate(privacyPotentiallyWithPlaceholders, dataModel);
   }
 
   private String tryRenderTemplate(
-      String privacyPotentiallyWithPlaceholders,
-      DataProtectionContactTemplateDTO dataProtectionContactTemplate) {
+      String privacyPotentiallyWithPlaceholders, Map<String, Object> dataModel) {
     try {
-      return templateRenderer.renderTemplate(
-          privacyPotentiallyWithPlaceholders,
-          placeHolderKeyValueMap(dataProtectionContactTemplate.getNoAgencyContext()));
+      return templateRenderer.renderTemplate(privacyPotentiallyWithPlaceholders, dataModel);
     } catch (IOException | TemplateException e) {
       log.error("Error while rendering privacy template", e);
       return privacyPotentiallyWithPlaceholders;
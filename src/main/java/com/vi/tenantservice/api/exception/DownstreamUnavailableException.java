@@ -0,0 +1,9 @@
+package com.vi.tenantservice.api.exception;
+
+/** Thrown when a call to another service is not made because that service is deemed unhealthy. */
+public class DownstreamUnavailableException extends RuntimeException {
+
+  public DownstreamUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,260 @@
+package com.vi.tenantservice.api.facade;
+
+import com.vi.tenantservice.api.cache.TenantAdminEmailCache;
+import com.vi.tenantservice.api.cache.TenantAdminEmails;
+import com.vi.tenantservice.api.exception.DownstreamUnavailableException;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
+import com.vi.tenantservice.api.service.consultingtype.UserAdminService;
+import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides the admin emails of tenants, loaded from the user admin service.
+ *
+ * <p>Loaded emails are cached per tenant. Cached emails are served even when they are due for a
+ * refresh, which then happens in the background, so only tenants without cached emails are waited
+ * for. Those are loaded in parallel, limited by the pool size of the admin data executor. Each call
+ * has its own timeout, counted from its start, and a call failing because the user admin service is
+ * unavailable, or timing out, only leaves out the emails of its tenant. Other failures, like a
+ * rejected token, are passed on.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantFacadeAdminDataService {
+
+  private final @NonNull UserAdminService userAdminService;
+
+  private final @NonNull ThreadPoolTaskExecutor adminDataExecutor;
+
+  private final @NonNull TenantAdminEmailCache tenantAdminEmailCache;
+
+  private final Set<Long> refreshingTenantIds = ConcurrentHashMap.newKeySet();
+
+  @Value("${admin.data.enrichment.call.timeout.millis}")
+  private long callTimeoutMillis;
+
+  /**
+   * Returns the admin emails of the given tenant.
+   *
+   * @param tenantId the tenant id
+   * @return the admin emails, empty if the tenant has no admins or the user admin service is
+   *     unavailable
+   */
+  public List<String> getAdminEmails(Long tenantId) {
+    return getAdminEmails(tenantId, userAdminService.getDefaultHeadersWithKeycloak());
+  }
+
+  /**
+   * Returns the admin emails of the given tenant, loaded with the given headers instead of the ones
+   * of the current request, e.g. outside of it.
+   *
+   * @param tenantId the tenant id
+   * @param headers the headers obtained by {@link UserAdminService#getDefaultHeadersWithKeycloak()}
+   * @return the admin emails, empty if the tenant has no admins or the user admin service is
+   *     unavailable
+   */
+  public List<String> getAdminEmails(Long tenantId, HttpHeaders headers) {
+    var cached = getCachedAndRefreshIfNeeded(tenantId, headers);
+    if (cached != null) {
+      return cached.adminEmails();
+    }
+    try {
+      return load(tenantId, headers);
+    } catch (RuntimeException e) {
+      if (!DownstreamGuard.isUnavailability(e)) {
+        throw e;
+      }
+      log.warn("Could not load admin emails of tenant {}, omitting them", tenantId, e);
+      return List.of();
+    }
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #getAdminEmails(Long)}, which does not bind a thread while
+   * waiting for the user admin service.
+   *
+   * @param tenantId the tenant id
+   * @return the admin emails, empty if the tenant has no admins or the user admin service is
+   *     unavailable
+   */
+  public CompletableFuture<List<String>> getAdminEmailsAsync(Long tenantId) {
+    var cached =
+        getCachedAndRefreshIfNeeded(tenantId, userAdminService.getDefaultHeadersWithKeycloak());
+    if (cached != null) {
+      return CompletableFuture.completedFuture(cached.adminEmails());
+    }
+    return userAdminService
+        .getTenantAdminsAsync(tenantId.intValue())
+        .thenApply(
+            tenantAdmins -> {
+              var adminEmails = toAdminEmails(tenantAdmins);
+              tenantAdminEmailCache.put(tenantId, adminEmails);
+              return adminEmails;
+            })
+        .exceptionally(
+            error -> {
+              var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!DownstreamGuard.isUnavailability(cause)) {
+                throw new CompletionException(cause);
+              }
+              log.warn("Could not load admin emails of tenant {}, omitting them", tenantId, cause);
+              return List.of();
+            });
+  }
+
+  /**
+   * Returns the admin emails of the given tenants. Tenants whose admins could not be loaded because
+   * the user admin service is unavailable or did not answer in time are missing in the result.
+   *
+   * @param tenantIds the tenant ids
+   * @return the admin emails by tenant id
+   */
+  public Map<Long, List<String>> getAdminEmails(Collection<Long> tenantIds) {
+    var headers = userAdminService.getDefaultHeadersWithKeycloak();
+    Map<Long, List<String>> adminEmails = new HashMap<>();
+    Map<Long, CompletableFuture<List<String>>> loads = new LinkedHashMap<>();
+    for (Long tenantId : tenantIds) {
+      var cached = getCachedAndRefreshIfNeeded(tenantId, headers);
+      if (cached != null) {
+        adminEmails.put(tenantId, cached.adminEmails());
+      } else {
+        loads.put(tenantId, loadAsync(tenantId, headers));
+      }
+    }
+
+    var deadline = System.nanoTime() + maxWaitingTime(loads.size()).toNanos();
+    loads.forEach(
+        (tenantId, load) -> {
+          try {
+            var remainingNanos = Math.max(0, deadline - System.nanoTime());
+            adminEmails.put(tenantId, load.get(remainingNanos, TimeUnit.NANOSECONDS));
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            load.cancel(true);
+          } catch (TimeoutException e) {
+            load.cancel(true);
+            log.warn("Could not load admin emails of tenant {} in time", tenantId, e);
+          } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TimeoutException)
+                && !DownstreamGuard.isUnavailability(e.getCause())) {
+              throw e.getCause() instanceof RuntimeException runtimeException
+                  ? runtimeException
+                  : new CompletionException(e.getCause());
+            }
+            log.warn("Could not load admin emails of tenant {}", tenantId, e);
+          }
+        });
+    return adminEmails;
+  }
+
+  /**
+   * Discards the cached admin emails of the given tenant.
+   *
+   * @param tenantId the tenant id
+   */
+  public void evictAdminEmails(Long tenantId) {
+    tenantAdminEmailCache.evict(tenantId);
+  }
+
+  /** Discards the cached admin emails of all tenants. */
+  public void evictAllAdminEmails() {
+    tenantAdminEmailCache.evictAll();
+  }
+
+  private TenantAdminEmails getCachedAndRefreshIfNeeded(Long tenantId, HttpHeaders headers) {
+    var cached = tenantAdminEmailCache.get(tenantId).orElse(null);
+    if (cached != null && tenantAdminEmailCache.needsRefresh(cached)) {
+      refreshInBackground(tenantId, headers);
+    }
+    return cached;
+  }
+
+  private void refreshInBackground(Long tenantId, HttpHeaders headers) {
+    if (!refreshingTenantIds.add(tenantId)) {
+      return;
+    }
+    try {
+      adminDataExecutor.execute(
+          () -> {
+            try {
+              load(tenantId, headers);
+            } catch (RuntimeException e) {
+              log.warn("Could not refresh admin emails of tenant {}", tenantId, e);
+            } finally {
+              refreshingTenantIds.remove(tenantId);
+            }
+          });
+    } catch (TaskRejectedException e) {
+      refreshingTenantIds.remove(tenantId);
+      log.warn("Could not schedule refresh of admin emails of tenant {}", tenantId, e);
+    }
+  }
+
+  private CompletableFuture<List<String>> loadAsync(Long tenantId, HttpHeaders headers) {
+    var load = new CompletableFuture<List<String>>();
+    try {
+      adminDataExecutor.execute(
+          () -> {
+            if (load.isDone()) {
+              return;
+            }
+            load.orTimeout(callTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+              load.complete(load(tenantId, headers));
+            } catch (RuntimeException e) {
+              load.completeExceptionally(e);
+            }
+          });
+    } catch (TaskRejectedException e) {
+      load.completeExceptionally(
+          new DownstreamUnavailableException("Too many concurrent loads of admin emails"));
+    }
+    return load;
+  }
+
+  private List<String> load(Long tenantId, HttpHeaders headers) {
+    var adminEmails = toAdminEmails(userAdminService.getTenantAdmins(tenantId.intValue(), headers));
+    tenantAdminEmailCache.put(tenantId, adminEmails);
+    return adminEmails;
+  }
+
+  /**
+   * Bounds the time to wait for all tenants, in case calls do not return at all and therefore keep
+   * queued calls from starting.
+   */
+  private Duration maxWaitingTime(int tenants) {
+    var parallelism = Math.max(1, adminDataExecutor.getMaxPoolSize());
+    var rounds = (tenants + parallelism - 1) / parallelism;
+    return Duration.ofMillis(callTimeoutMillis * (rounds + 1));
+  }
+
+  private static List<String> toAdminEmails(List<AdminResponseDTO> tenantAdmins) {
+    if (tenantAdmins == null) {
+      return List.of();
+    }
+    return tenantAdmins.stream()
+        .map(admin -> admin.getEmbedded() != null ? admin.getEmbedded().getEmail() : "")
+        .toList();
+  }
+}
@@ -2,6 +2,7 @@ package com.vi.tenantservice.api.facade;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.vi.tenantservice.api.cache.TenantSettingsCache;
 import com.vi.tenantservice.api.model.MultilingualContent;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
@@ -11,14 +12,19 @@ import com.vi.tenantservice.api.model.TenantSetting;
 import com.vi.tenantservice.api.model.TenantSettings;
 import com.vi.tenantservice.api.util.JsonConverter;
 import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.stereotype.Component;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class TenantFacadeChangeDetectionService {
 
+  private final @NonNull TenantSettingsCache tenantSettingsCache;
+
   public List<TenantSetting> determineChangedSettings(
       MultilingualTenantDTO sanitizedTenantDTO, TenantEntity existingTenant) {
     Settings inputSettings = sanitizedTenantDTO.getSettings();
@@ -136,7 +142,7 @@ public class TenantFacadeChangeDetectionService {
     if (existingTenant.getSettings() == null) {
       existingSettingsToCompare = new TenantSettings();
     } else {
-      existingSettingsToCompare = JsonConverter.convertFromJson(existingTenant.getSettings());
+      existingSettingsToCompare = tenantSettingsCache.get(existingTenant.getSettings());
     }
     return existingSettingsToCompare;
   }
@@ -0,0 +1,81 @@
+package com.vi.tenantservice.api.facade;
+
+import com.google.common.hash.Hashing;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.service.TemplateService;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Derives entity tags of restricted tenant data from the tenant id, update date, language and
+ * template version, without rendering the data. As the update date only has second precision, a
+ * fingerprint of the tenant columns exposed in the restricted data is included as well.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TenantFacadeETagService {
+
+  private final @NonNull TemplateService templateService;
+
+  public String getETag(TenantEntity tenant, String lang) {
+    return toETag(versionOf(tenant), lang, getTemplateFingerprint());
+  }
+
+  public String getETagWithOverride(
+      TenantEntity mainTenant,
+      TenantEntity overridingTenant,
+      String lang,
+      boolean contentOverrideAllowed) {
+    return toETag(
+        versionOf(mainTenant),
+        versionOf(overridingTenant),
+        lang,
+        getTemplateFingerprint(),
+        contentOverrideAllowed);
+  }
+
+  private String getTemplateFingerprint() {
+    try {
+      return templateService.getTemplateFingerprint();
+    } catch (TemplateDescriptionServiceException e) {
+      log.warn("Could not determine template fingerprint", e);
+      return "";
+    }
+  }
+
+  private static String versionOf(TenantEntity tenant) {
+    return tenant.getId() + ":" + tenant.getUpdateDate() + ":" + fingerprintOf(tenant);
+  }
+
+  private static int fingerprintOf(TenantEntity tenant) {
+    return Objects.hash(
+        tenant.getName(),
+        tenant.getSubdomain(),
+        tenant.getThemingLogo(),
+        tenant.getThemingAssociationLogo(),
+        tenant.getThemingFavicon(),
+        tenant.getThemingPrimaryColor(),
+        tenant.getThemingSecondaryColor(),
+        tenant.getContentImpressum(),
+        tenant.getContentClaim(),
+        tenant.getContentPrivacy(),
+        tenant.getContentPrivacyActivationDate(),
+        tenant.getContentTermsAndConditions(),
+        tenant.getContentTermsAndConditionsActivationDate(),
+        tenant.getSettings());
+  }
+
+  private static String toETag(Object... versionInputs) {
+    var versionKey = new StringBuilder();
+    for (Object versionInput : versionInputs) {
+      versionKey.append(versionInput).append('|');
+    }
+    return "\"" + Hashing.murmur3_128().hashString(versionKey, StandardCharsets.UTF_8) + "\"";
+  }
+}
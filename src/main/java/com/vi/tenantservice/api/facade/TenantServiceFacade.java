@@ -7,9 +7,10 @@ import static org.springframework.util.ObjectUtils.nullSafeEquals;
 
 import com.google.common.collect.Lists;
 import com.vi.tenantservice.api.authorisation.Authority.AuthorityValue;
+import com.vi.tenantservice.api.cache.RestrictedTenantSnapshotCache;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
 import com.vi.tenantservice.api.converter.ConsultingTypePatchDTOConverter;
 import com.vi.tenantservice.api.converter.TenantConverter;
-import com.vi.tenantservice.api.exception.ConsultingTypeCreationException;
 import com.vi.tenantservice.api.exception.TenantNotFoundException;
 import com.vi.tenantservice.api.exception.TenantValidationException;
 import com.vi.tenantservice.api.exception.httpresponse.HttpStatusExceptionReason;
@@ -18,32 +19,36 @@ import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
 import com.vi.tenantservice.api.model.ConsultingTypePatchDTO;
 import com.vi.tenantservice.api.model.MultilingualContent;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
-import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
+import com.vi.tenantservice.api.model.TenantProvisioningStatus;
 import com.vi.tenantservice.api.service.SingleDomainTenantOverrideService;
 import com.vi.tenantservice.api.service.TenantService;
 import com.vi.tenantservice.api.service.TranslationService;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
-import com.vi.tenantservice.api.service.consultingtype.UserAdminService;
+import com.vi.tenantservice.api.service.provisioning.TenantProvisioningService;
 import com.vi.tenantservice.api.tenant.SubdomainExtractor;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.api.validation.TenantInputSanitizer;
 import com.vi.tenantservice.config.security.AuthorisationService;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
-import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
 import jakarta.ws.rs.BadRequestException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -51,11 +56,15 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 /** Facade to encapsulate services and logic needed to manage tenants */
 @Service
@@ -74,7 +83,7 @@ public class TenantServiceFacade {
   private final @NonNull SubdomainExtractor subdomainExtractor;
   private final @NonNull ApplicationSettingsService applicationSettingsService;
 
-  private final @NonNull UserAdminService userAdminService;
+  private final @NonNull TenantFacadeAdminDataService tenantFacadeAdminDataService;
 
   private final @NonNull ConsultingTypePatchDTOConverter consultingTypePatchDTOConverter;
 
@@ -85,9 +94,31 @@ public class TenantServiceFacade {
 
   private final @NonNull SingleDomainTenantOverrideService singleDomainTenantOverrideService;
 
+  private final @NonNull RestrictedTenantSnapshotCache restrictedTenantSnapshotCache;
+
+  private final @NonNull TenantFacadeETagService tenantFacadeETagService;
+
+  private final @NonNull TaskExecutor tenantEnrichmentExecutor;
+
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private final @NonNull TenantProvisioningService tenantProvisioningService;
+
   @Value("${feature.multitenancy.with.single.domain.enabled}")
   private boolean multitenancyWithSingleDomain;
 
+  @Value("${tenant.enrichment.timeout.millis}")
+  private long enrichmentTimeoutMillis;
+
+  @Value("${downstream.async.enabled}")
+  private boolean asyncDownstreamClients;
+
+  /**
+   * Creates the tenant and records the steps to set it up in other services in the same
+   * transaction. The steps are executed in the background, the returned tenant is pending until
+   * they are done.
+   */
+  @Transactional
   public MultilingualTenantDTO createTenant(MultilingualTenantDTO tenantDTO) {
     log.info("Creating new tenant");
     MultilingualTenantDTO sanitizedTenantDTO = tenantInputSanitizer.sanitize(tenantDTO);
@@ -98,19 +129,30 @@ public class TenantServiceFacade {
     populateTenantSettingsAndActivationDates(entity, tenantDTO);
     TenantEntity createdTenant = tenantService.create(entity);
     try {
-      createDefaultConsultingTypeSettings(createdTenant);
-    } catch (ConsultingTypeCreationException ex) {
-      performRollback(createdTenant);
-      log.error(
-          "Error while creating consulting types for tenant with id {}", createdTenant.getId(), ex);
-      throw new BadRequestException(
-          "Error while creating consulting types for tenant with id " + createdTenant.getId());
+      scheduleProvisioning(createdTenant);
+    } catch (RuntimeException ex) {
+      tenantService.evictFromCaches(createdTenant);
+      throw ex;
     }
-    return tenantConverter.toMultilingualDTO(createdTenant);
-  }
-
-  private void performRollback(TenantEntity createdTenant) {
-    tenantService.delete(createdTenant);
+    return tenantConverter
+        .toMultilingualDTO(createdTenant)
+        .provisioningStatus(TenantProvisioningStatus.PENDING);
+  }
+
+  /**
+   * Executes the failed steps of the setup of the given tenant again, with the headers of the
+   * current request.
+   *
+   * @param id the tenant id
+   * @return false if there is no tenant with the id
+   */
+  public boolean retryProvisioning(Long id) {
+    if (tenantService.findTenantById(id).isEmpty()) {
+      return false;
+    }
+    var retriedSteps = tenantProvisioningService.retryFailedSteps(id);
+    log.info("Retrying {} failed provisioning steps of tenant {}", retriedSteps, id);
+    return true;
   }
 
   private void populateTenantSettingsAndActivationDates(
@@ -124,24 +166,12 @@ public class TenantServiceFacade {
     tenant.setSettings(convertToJson(defaultTenantSettings));
   }
 
-  private void createDefaultConsultingTypeSettings(TenantEntity createdTenant)
-      throws ConsultingTypeCreationException {
-    try {
-      consultingTypeService.createDefaultConsultingTypes(createdTenant.getId());
-    } catch (RestClientException ex) {
-      throw new ConsultingTypeCreationException(
-          "Consulting types could not be created for tenant with id " + createdTenant.getId(), ex);
-    }
-    if (isAttemptToCreateFirstNonTechnicalTenant(createdTenant.getId())) {
+  private void scheduleProvisioning(TenantEntity createdTenant) {
+    var saveMainTenantSubdomain = isAttemptToCreateFirstNonTechnicalTenant(createdTenant.getId());
+    if (saveMainTenantSubdomain) {
       validateSubDomain(createdTenant.getSubdomain());
-      try {
-        applicationSettingsService.saveMainTenantSubDomain(createdTenant.getSubdomain());
-      } catch (RestClientException ex) {
-        throw new ConsultingTypeCreationException(
-            "Main tenant subdomain could not be saved for tenant with id " + createdTenant.getId(),
-            ex);
-      }
     }
+    tenantProvisioningService.scheduleProvisioning(createdTenant, saveMainTenantSubdomain);
   }
 
   private void validateSubDomain(String subdomain) {
@@ -158,6 +188,7 @@ public class TenantServiceFacade {
     MultilingualTenantDTO sanitizedTenantDTO = tenantInputSanitizer.sanitize(tenantDTO);
 
     log.info("Attempting to update tenant with id {}", id);
+    tenantFacadeAdminDataService.evictAdminEmails(id);
     return updateWithSanitizedInput(id, sanitizedTenantDTO);
   }
 
@@ -251,6 +282,7 @@ public class TenantServiceFacade {
       if (extendedTenantSettingsChanged(
           consultingTypesByTenantId, sanitizedTenantDTO.getSettings().getExtendedSettings())) {
         consultingTypeService.patchConsultingType(
+            tenantId.intValue(),
             consultingTypesByTenantId.getId(),
             consultingTypePatchDTOConverter.convertToConsultingTypeServiceModel(
                 sanitizedTenantDTO.getSettings().getExtendedSettings()));
@@ -310,49 +342,145 @@ public class TenantServiceFacade {
   }
 
   private MultilingualTenantDTO getConvertedAndEnrichedTenant(TenantEntity tenantEntity) {
+    var multilingualTenantDTO = toMultilingualTenantDTO(tenantEntity);
+    awaitEnrichments(startEnrichments(multilingualTenantDTO, tenantEntity.getId()));
+    return multilingualTenantDTO;
+  }
+
+  private MultilingualTenantDTO toMultilingualTenantDTO(TenantEntity tenantEntity) {
     var multilingualTenantDTO = tenantConverter.toMultilingualDTO(tenantEntity);
-    enrichWithAdminDataIfSuperadmin(multilingualTenantDTO);
-    enrichWithConsultingTypeSettings(multilingualTenantDTO, tenantEntity.getId());
+    multilingualTenantDTO.setProvisioningStatus(
+        tenantProvisioningService.getProvisioningStatus(tenantEntity.getId()));
     return multilingualTenantDTO;
   }
 
-  private void enrichWithConsultingTypeSettings(
+  /**
+   * Starts the enrichments of the given tenant. With the non-blocking downstream clients enabled,
+   * no thread waits for the called services, otherwise each call binds a thread of the enrichment
+   * executor. Enrichments may outlive a request that timed out, so they do not run in its context,
+   * but with the authorization and headers taken from it up front.
+   */
+  private List<CompletableFuture<Void>> startEnrichments(
       MultilingualTenantDTO multilingualTenantDTO, Long tenantId) {
-    FullConsultingTypeResponseDTO consultingTypesByTenantId =
-        consultingTypeService.getConsultingTypesByTenantId(tenantId.intValue());
-    if (consultingTypesByTenantId != null) {
-      multilingualTenantDTO
-          .getSettings()
-          .setExtendedSettings(
-              consultingTypePatchDTOConverter.convertConsultingTypePatchDTO(
-                  consultingTypesByTenantId));
+    if (asyncDownstreamClients) {
+      return List.of(
+          enrichWithAdminDataIfSuperadminAsync(multilingualTenantDTO),
+          enrichWithConsultingTypeSettingsAsync(multilingualTenantDTO, tenantId));
+    }
+    var headers = apiClientHeaderInterceptor.captureHeaders();
+    var adminDataEnrichment =
+        authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)
+            ? runEnrichment(headers, () -> enrichWithAdminData(multilingualTenantDTO, headers))
+            : CompletableFuture.<Void>completedFuture(null);
+    return List.of(
+        adminDataEnrichment,
+        runEnrichment(
+            headers, () -> enrichWithConsultingTypeSettings(multilingualTenantDTO, tenantId)));
+  }
+
+  private CompletableFuture<Void> runEnrichment(HttpHeaders headers, Runnable enrichment) {
+    return CompletableFuture.runAsync(
+        () ->
+            apiClientHeaderInterceptor.withHeaders(
+                headers,
+                () -> {
+                  enrichment.run();
+                  return null;
+                }),
+        tenantEnrichmentExecutor);
+  }
+
+  /**
+   * Waits for the given enrichments, which each set different fields of the tenant, so they may run
+   * concurrently. A failed enrichment fails the request as before, one that does not finish in time
+   * makes it fail with a gateway timeout.
+   */
+  private void awaitEnrichments(List<CompletableFuture<Void>> enrichments) {
+    try {
+      CompletableFuture.allOf(enrichments.toArray(CompletableFuture[]::new))
+          .get(enrichmentTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      enrichments.forEach(enrichment -> enrichment.cancel(true));
+      throw new ResponseStatusException(
+          HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while enriching tenant", e);
+    } catch (ExecutionException e) {
+      enrichments.forEach(enrichment -> enrichment.cancel(true));
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new ResponseStatusException(
+          HttpStatus.INTERNAL_SERVER_ERROR, "Could not enrich tenant", e.getCause());
+    } catch (TimeoutException e) {
+      enrichments.forEach(enrichment -> enrichment.cancel(true));
+      throw new ResponseStatusException(
+          HttpStatus.GATEWAY_TIMEOUT, "Tenant could not be enriched in time", e);
     }
   }
 
-  private void enrichWithAdminDataIfSuperadmin(MultilingualTenantDTO multilingualTenantDTO) {
-    if (authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)) {
-      enrichWithAdminData(
-          multilingualTenantDTO.getId().intValue(), multilingualTenantDTO::setAdminEmails);
+  private void enrichWithConsultingTypeSettings(
+      MultilingualTenantDTO multilingualTenantDTO, Long tenantId) {
+    consultingTypeService
+        .findConsultingTypesByTenantId(tenantId.intValue())
+        .ifPresent(
+            consultingTypesByTenantId ->
+                setExtendedSettings(multilingualTenantDTO, consultingTypesByTenantId));
+  }
+
+  private CompletableFuture<Void> enrichWithConsultingTypeSettingsAsync(
+      MultilingualTenantDTO multilingualTenantDTO, Long tenantId) {
+    return consultingTypeService
+        .findConsultingTypesByTenantIdAsync(tenantId.intValue())
+        .thenAccept(
+            consultingTypesByTenantId ->
+                consultingTypesByTenantId.ifPresent(
+                    consultingType -> setExtendedSettings(multilingualTenantDTO, consultingType)));
+  }
+
+  private void setExtendedSettings(
+      MultilingualTenantDTO multilingualTenantDTO,
+      FullConsultingTypeResponseDTO consultingTypesByTenantId) {
+    multilingualTenantDTO
+        .getSettings()
+        .setExtendedSettings(
+            consultingTypePatchDTOConverter.convertConsultingTypePatchDTO(
+                consultingTypesByTenantId));
+  }
+
+  private void enrichWithAdminData(
+      MultilingualTenantDTO multilingualTenantDTO, HttpHeaders headers) {
+    var tenantId = multilingualTenantDTO.getId();
+    enrichWithAdminData(
+        tenantId,
+        tenantFacadeAdminDataService.getAdminEmails(tenantId, headers),
+        multilingualTenantDTO::setAdminEmails);
+  }
+
+  private CompletableFuture<Void> enrichWithAdminDataIfSuperadminAsync(
+      MultilingualTenantDTO multilingualTenantDTO) {
+    if (!authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)) {
+      return CompletableFuture.completedFuture(null);
     }
+    var tenantId = multilingualTenantDTO.getId();
+    return tenantFacadeAdminDataService
+        .getAdminEmailsAsync(tenantId)
+        .thenAccept(
+            adminEmails ->
+                enrichWithAdminData(tenantId, adminEmails, multilingualTenantDTO::setAdminEmails));
   }
 
   private void enrichWithAdminData(
-      final Integer tenantId, final Consumer<List<String>> setAdminEmailsConsumer) {
-    List<AdminResponseDTO> tenantAdmins = userAdminService.getTenantAdmins(tenantId);
-    if (tenantAdmins != null && !tenantAdmins.isEmpty()) {
+      final Long tenantId,
+      final List<String> adminEmails,
+      final Consumer<List<String>> setAdminEmailsConsumer) {
+    if (adminEmails != null && !adminEmails.isEmpty()) {
       log.debug("Enriching tenant with admin email data");
-      setAdminEmailsConsumer.accept(getAdminEmails(tenantAdmins));
+      setAdminEmailsConsumer.accept(adminEmails);
     } else {
       log.debug("No tenant admins found for a given tenant {}", tenantId);
     }
   }
 
-  private List<String> getAdminEmails(List<AdminResponseDTO> tenantAdmins) {
-    return tenantAdmins.stream()
-        .map(admin -> admin.getEmbedded() != null ? admin.getEmbedded().getEmail() : "")
-        .toList();
-  }
-
   public Optional<MultilingualTenantDTO> findMultilingualTenantById(Long id) {
     tenantFacadeAuthorisationService.assertUserIsAuthorizedToAccessTenant(id);
     var tenantById = tenantService.findTenantById(id);
@@ -361,13 +489,17 @@ public class TenantServiceFacade {
         : Optional.of(getConvertedAndEnrichedTenant(tenantById.get()));
   }
 
-  public Optional<RestrictedTenantDTO> findRestrictedTenantById(Long id) {
+  public Optional<VersionedRestrictedTenant> findVersionedRestrictedTenantById(Long id) {
     var tenantById = tenantService.findTenantById(id);
 
     String lang = translationService.getCurrentLanguageContext();
-    return tenantById.isEmpty()
-        ? Optional.empty()
-        : Optional.of(tenantConverter.toRestrictedTenantDTO(tenantById.get(), lang));
+    return tenantById.map(tenant -> toVersionedRestrictedTenant(tenant, lang));
+  }
+
+  private VersionedRestrictedTenant toVersionedRestrictedTenant(TenantEntity tenant, String lang) {
+    return new VersionedRestrictedTenant(
+        tenantFacadeETagService.getETag(tenant, lang),
+        () -> restrictedTenantSnapshotCache.get(tenant, lang));
   }
 
   public List<BasicTenantLicensingDTO> getAllTenants() {
@@ -375,20 +507,19 @@ public class TenantServiceFacade {
     return tenantEntities.stream().map(tenantConverter::toBasicLicensingTenantDTO).toList();
   }
 
-  public Optional<RestrictedTenantDTO> findTenantBySubdomain(
+  public Optional<VersionedRestrictedTenant> findVersionedTenantBySubdomain(
       String subdomain, Long optionalTenantIdOverride) {
     var tenantBySubdomain = tenantService.findTenantBySubdomain(subdomain);
     Optional<Long> tenantIdFromRequestOrCookie =
         resolveFromRequestOrCookie(optionalTenantIdOverride);
 
     if (multitenancyWithSingleDomain && tenantIdFromRequestOrCookie.isPresent()) {
-      return getTenantDataWithOverride(tenantBySubdomain, tenantIdFromRequestOrCookie.get());
+      return getVersionedTenantDataWithOverride(
+          tenantBySubdomain, tenantIdFromRequestOrCookie.get());
     }
 
     String lang = translationService.getCurrentLanguageContext();
-    return tenantBySubdomain.isEmpty()
-        ? Optional.empty()
-        : Optional.of(tenantConverter.toRestrictedTenantDTO(tenantBySubdomain.get(), lang));
+    return tenantBySubdomain.map(tenant -> toVersionedRestrictedTenant(tenant, lang));
   }
 
   private Optional<Long> resolveFromRequestOrCookie(Long optionalTenantIdOverride) {
@@ -397,16 +528,16 @@ public class TenantServiceFacade {
         : tenantResolverService.tryResolveForNonAuthUsers();
   }
 
-  public RestrictedTenantDTO getRestrictedTenantDataDeterminingTenantContext() {
+  public VersionedRestrictedTenant getVersionedRestrictedTenantDataDeterminingTenantContext() {
     if (multitenancyWithSingleDomain) {
       return getRestrictedTenantDataWithOverrideForSingleDomainTenancy();
     } else {
       var tenantId = tenantResolverService.tryResolve().orElseThrow();
-      return findRestrictedTenantById(tenantId).orElseThrow();
+      return findVersionedRestrictedTenantById(tenantId).orElseThrow();
     }
   }
 
-  private RestrictedTenantDTO getRestrictedTenantDataWithOverrideForSingleDomainTenancy() {
+  private VersionedRestrictedTenant getRestrictedTenantDataWithOverrideForSingleDomainTenancy() {
     String mainTenantSubdomain =
         applicationSettingsService
             .getApplicationSettings()
@@ -415,11 +546,10 @@ public class TenantServiceFacade {
     var mainTenant = tenantService.findTenantBySubdomain(mainTenantSubdomain).orElseThrow();
     Long actualTenantId = tenantResolverService.tryResolve().orElseThrow();
     TenantEntity actualTenant = tenantService.findTenantById(actualTenantId).orElseThrow();
-    return singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
-        mainTenant, actualTenant);
+    return toVersionedRestrictedTenantWithOverride(mainTenant, actualTenant);
   }
 
-  public Optional<RestrictedTenantDTO> getTenantDataWithOverride(
+  private Optional<VersionedRestrictedTenant> getVersionedTenantDataWithOverride(
       Optional<TenantEntity> mainTenantForSingleDomainMultitenancy, Long resolvedTenantId) {
 
     Optional<TenantEntity> tenantToOverridePrivacy = tenantService.findTenantById(resolvedTenantId);
@@ -427,20 +557,32 @@ public class TenantServiceFacade {
       throw new BadRequestException("Tenant not found for id " + resolvedTenantId);
     }
     return Optional.of(
-        singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
+        toVersionedRestrictedTenantWithOverride(
             mainTenantForSingleDomainMultitenancy.orElseThrow(),
             tenantToOverridePrivacy.orElseThrow()));
   }
 
-  public Optional<RestrictedTenantDTO> getSingleTenant() {
-    var tenantEntities = tenantService.getAllTenants();
-    if (tenantEntities != null && tenantEntities.size() == 1) {
-      var tenantEntity = tenantEntities.get(0);
-      String lang = translationService.getCurrentLanguageContext();
-      return Optional.of(tenantConverter.toRestrictedTenantDTO(tenantEntity, lang));
-    } else {
-      throw new IllegalStateException("Not exactly one tenant was found.");
-    }
+  private VersionedRestrictedTenant toVersionedRestrictedTenantWithOverride(
+      TenantEntity mainTenant, TenantEntity actualTenant) {
+    String lang = translationService.getCurrentLanguageContext();
+    return new VersionedRestrictedTenant(
+        tenantFacadeETagService.getETagWithOverride(
+            mainTenant,
+            actualTenant,
+            lang,
+            singleDomainTenantOverrideService.isContentOverrideAllowed()),
+        () ->
+            singleDomainTenantOverrideService.overridePrivacyAndCertainSettings(
+                mainTenant, actualTenant));
+  }
+
+  public Optional<VersionedRestrictedTenant> getVersionedSingleTenant() {
+    var tenantEntity =
+        tenantService
+            .findSingleTenant()
+            .orElseThrow(() -> new IllegalStateException("Not exactly one tenant was found."));
+    String lang = translationService.getCurrentLanguageContext();
+    return Optional.of(toVersionedRestrictedTenant(tenantEntity, lang));
   }
 
   public boolean canAccessTenant() {
@@ -467,9 +609,15 @@ public class TenantServiceFacade {
     excludeTechnicalTenantFrom(tenantEntities);
     List<AdminTenantDTO> adminTenantDTOS =
         tenantEntities.stream().map(tenantConverter::toAdminTenantDTO).toList();
+    var adminEmails =
+        tenantFacadeAdminDataService.getAdminEmails(
+            adminTenantDTOS.stream().map(AdminTenantDTO::getId).toList());
     adminTenantDTOS.forEach(
         adminTenantDTO ->
-            enrichWithAdminData(adminTenantDTO.getId().intValue(), adminTenantDTO::setAdminEmails));
+            enrichWithAdminData(
+                adminTenantDTO.getId(),
+                adminEmails.get(adminTenantDTO.getId()),
+                adminTenantDTO::setAdminEmails));
     return adminTenantDTOS;
   }
 
@@ -480,12 +628,19 @@ public class TenantServiceFacade {
   private Map<String, Object> mapOf(Page<TenantBase> tenantPage, List<TenantEntity> fullTenants) {
     var fullTenantsLookupMap =
         fullTenants.stream().collect(Collectors.toMap(TenantEntity::getId, Function.identity()));
+    var adminEmails =
+        tenantFacadeAdminDataService.getAdminEmails(
+            tenantPage.stream().map(TenantBase::getId).toList());
 
     var tenants = new ArrayList<Map<String, Object>>();
     tenantPage.forEach(
         tenantBase -> {
           var fullTenant = fullTenantsLookupMap.get(tenantBase.getId());
-          var tenantMap = mapOf(tenantBase, fullTenant);
+          var tenantMap =
+              mapOf(
+                  tenantBase,
+                  fullTenant,
+                  adminEmails.getOrDefault(tenantBase.getId(), Collections.emptyList()));
           tenants.add(tenantMap);
         });
 
@@ -500,15 +655,14 @@ public class TenantServiceFacade {
         tenants);
   }
 
-  private Map<String, Object> mapOf(TenantBase tenantBase, TenantEntity fullTenant) {
+  private Map<String, Object> mapOf(
+      TenantBase tenantBase, TenantEntity fullTenant, List<String> adminEmails) {
     Map<String, Object> map = new HashMap<>();
     map.put("id", tenantBase.getId());
     map.put("name", tenantBase.getName());
     map.put("subdomain", fullTenant.getSubdomain());
     map.put("beraterCount", fullTenant.getLicensingAllowedNumberOfUsers());
-    List<AdminResponseDTO> tenantAdmins =
-        userAdminService.getTenantAdmins(tenantBase.getId().intValue());
-    map.put("adminEmails", getAdminEmails(tenantAdmins));
+    map.put("adminEmails", adminEmails);
     map.put(
         "createDate",
         nonNull(fullTenant.getCreateDate()) ? fullTenant.getCreateDate().toString() : null);
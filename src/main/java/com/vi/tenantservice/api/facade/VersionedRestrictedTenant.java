@@ -0,0 +1,19 @@
+package com.vi.tenantservice.api.facade;
+
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import java.util.function.Supplier;
+
+/**
+ * Restricted tenant data identified by an entity tag. The data itself is only built when requested,
+ * so that conditional requests matching the entity tag can be answered without building it.
+ *
+ * @param eTag the strong entity tag, including quotes
+ * @param restrictedTenantSupplier supplies the restricted tenant data
+ */
+public record VersionedRestrictedTenant(
+    String eTag, Supplier<RestrictedTenantDTO> restrictedTenantSupplier) {
+
+  public RestrictedTenantDTO restrictedTenant() {
+    return restrictedTenantSupplier.get();
+  }
+}
@@ -0,0 +1,23 @@
+package com.vi.tenantservice.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Restricted tenant data in its already serialized form. Written to the response as is by {@link
+ * com.vi.tenantservice.api.config.SerializedRestrictedTenantMessageConverter}, so that the public
+ * endpoints can keep their generated return type.
+ */
+public class SerializedRestrictedTenantDTO extends RestrictedTenantDTO {
+
+  private final byte[] body;
+
+  public SerializedRestrictedTenantDTO(byte[] body) {
+    super(null, null);
+    this.body = body;
+  }
+
+  @JsonIgnore
+  public byte[] getBody() {
+    return body;
+  }
+}
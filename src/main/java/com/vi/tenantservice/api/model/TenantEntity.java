@@ -17,7 +17,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "tenant")
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode
@@ -86,4 +86,11 @@ public class TenantEntity {
 
     String getName();
   }
+
+  public interface TenantSubdomain {
+
+    Long getId();
+
+    String getSubdomain();
+  }
 }
@@ -0,0 +1,78 @@
+package com.vi.tenantservice.api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Step of setting up a tenant in other services. Steps are stored together with the tenant and
+ * executed afterwards, so that they are neither lost nor block the creation of the tenant.
+ */
+@Entity
+@Table(name = "tenant_provisioning_step")
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class TenantProvisioningStepEntity {
+
+  @Id
+  @SequenceGenerator(
+      name = "provisioning_step_id_seq",
+      allocationSize = 1,
+      sequenceName = "SEQUENCE_TENANT_PROVISIONING_STEP")
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "provisioning_step_id_seq")
+  @Column(name = "id", updatable = false, nullable = false)
+  private Long id;
+
+  @Column(name = "tenant_id", nullable = false)
+  private Long tenantId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "step_type", nullable = false)
+  private StepType stepType;
+
+  @Column(name = "payload")
+  private String payload;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private StepStatus status;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "next_attempt_date", nullable = false)
+  private LocalDateTime nextAttemptDate;
+
+  @Column(name = "last_error")
+  private String lastError;
+
+  @Column(name = "create_date", nullable = false)
+  private LocalDateTime createDate;
+
+  @Column(name = "update_date", nullable = false)
+  private LocalDateTime updateDate;
+
+  public enum StepType {
+    CREATE_DEFAULT_CONSULTING_TYPES,
+    SAVE_MAIN_TENANT_SUBDOMAIN
+  }
+
+  public enum StepStatus {
+    PENDING,
+    DONE,
+    FAILED
+  }
+}
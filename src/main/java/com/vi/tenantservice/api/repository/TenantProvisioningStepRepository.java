@@ -0,0 +1,58 @@
+package com.vi.tenantservice.api.repository;
+
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface TenantProvisioningStepRepository
+    extends JpaRepository<TenantProvisioningStepEntity, Long> {
+
+  List<TenantProvisioningStepEntity>
+      findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+          StepStatus status, LocalDateTime now, Pageable pageable);
+
+  /**
+   * Returns the distinct statuses of the steps of the given tenant, except for the given one.
+   *
+   * @return the statuses, empty if the tenant has no other steps
+   */
+  @Query(
+      "SELECT DISTINCT s.status FROM TenantProvisioningStepEntity s "
+          + "WHERE s.tenantId = ?1 AND s.status <> ?2")
+  List<StepStatus> findStepStatusesExcept(Long tenantId, StepStatus status);
+
+  boolean existsByTenantIdAndStatus(Long tenantId, StepStatus status);
+
+  /**
+   * Claims a due step by moving its next attempt to the end of the lease. Only one of several
+   * concurrent claims of the same step succeeds, and a step whose execution was interrupted becomes
+   * due again once the lease ended.
+   *
+   * @return 1 if the step was claimed, 0 otherwise
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE TenantProvisioningStepEntity s SET s.nextAttemptDate = ?3 "
+          + "WHERE s.id = ?1 AND s.nextAttemptDate = ?2 AND s.status = ?4")
+  int claim(Long id, LocalDateTime nextAttemptDate, LocalDateTime leaseEnd, StepStatus status);
+
+  /**
+   * Makes the failed steps of the given tenant due again, with all their attempts left.
+   *
+   * @return the number of steps made due
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE TenantProvisioningStepEntity s SET s.status = ?3, s.attempts = 0, "
+          + "s.nextAttemptDate = ?4, s.updateDate = ?4, s.lastError = NULL "
+          + "WHERE s.tenantId = ?1 AND s.status = ?2")
+  int resetSteps(Long tenantId, StepStatus status, StepStatus newStatus, LocalDateTime now);
+}
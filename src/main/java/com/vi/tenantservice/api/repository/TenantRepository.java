@@ -2,7 +2,9 @@ package com.vi.tenantservice.api.repository;
 
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
+import com.vi.tenantservice.api.model.TenantEntity.TenantSubdomain;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,4 +27,18 @@ public interface TenantRepository extends JpaRepository<TenantEntity, Long> {
   Page<TenantBase> findAllExceptTechnicalByInfix(String infix, Pageable pageable);
 
   List<TenantEntity> findAllByIdIn(List<Long> tenantIds);
+
+  @Query(value = "SELECT t.id as id, t.subdomain as subdomain FROM TenantEntity t")
+  List<TenantSubdomain> findAllSubdomains();
+
+  @Query(value = "SELECT t.id FROM TenantEntity t")
+  List<Long> findIds(Pageable pageable);
+
+  @Query(
+      value =
+          "SELECT t.id as id, t.subdomain as subdomain FROM TenantEntity t WHERE t.subdomain = ?1")
+  List<TenantSubdomain> findSubdomainsBySubdomain(String subdomain);
+
+  @Query(value = "SELECT t.id as id, t.subdomain as subdomain FROM TenantEntity t WHERE t.id = ?1")
+  Optional<TenantSubdomain> findSubdomainById(Long tenantId);
 }
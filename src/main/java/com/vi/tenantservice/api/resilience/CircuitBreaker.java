@@ -0,0 +1,144 @@
+package com.vi.tenantservice.api.resilience;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Count based circuit breaker. It opens once the failure rate of the last calls reaches the
+ * threshold, rejects calls while open, and after the wait duration lets a few trial calls through,
+ * whose outcome decides whether it closes or opens again.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureRateThresholdPercent;
+
+  private final int minimumCalls;
+
+  private final Duration openWaitDuration;
+
+  private final int halfOpenCalls;
+
+  private final Clock clock;
+
+  private final boolean[] outcomes;
+
+  private int recordedCalls;
+
+  private int nextOutcome;
+
+  private int failures;
+
+  private State state = State.CLOSED;
+
+  private Instant openedAt;
+
+  private int permittedHalfOpenCalls;
+
+  private int completedHalfOpenCalls;
+
+  private int failedHalfOpenCalls;
+
+  public CircuitBreaker(
+      int failureRateThresholdPercent,
+      int slidingWindowSize,
+      int minimumCalls,
+      Duration openWaitDuration,
+      int halfOpenCalls,
+      Clock clock) {
+    this.failureRateThresholdPercent = failureRateThresholdPercent;
+    this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+    this.openWaitDuration = openWaitDuration;
+    this.halfOpenCalls = halfOpenCalls;
+    this.clock = clock;
+    this.outcomes = new boolean[slidingWindowSize];
+  }
+
+  /**
+   * Checks whether a call may be made. A permitted call must be followed by {@link #onSuccess()} or
+   * {@link #onFailure()}.
+   *
+   * @return true if the call may be made
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (clock.instant().isBefore(openedAt.plus(openWaitDuration))) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (permittedHalfOpenCalls >= halfOpenCalls) {
+        return false;
+      }
+      permittedHalfOpenCalls++;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    record(false);
+  }
+
+  public synchronized void onFailure() {
+    record(true);
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  private void record(boolean failed) {
+    if (state == State.HALF_OPEN) {
+      completedHalfOpenCalls++;
+      if (failed) {
+        failedHalfOpenCalls++;
+      }
+      if (completedHalfOpenCalls >= halfOpenCalls) {
+        transitionTo(
+            isAboveThreshold(failedHalfOpenCalls, completedHalfOpenCalls)
+                ? State.OPEN
+                : State.CLOSED);
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+    if (recordedCalls == outcomes.length && outcomes[nextOutcome]) {
+      failures--;
+    }
+    outcomes[nextOutcome] = failed;
+    nextOutcome = (nextOutcome + 1) % outcomes.length;
+    recordedCalls = Math.min(recordedCalls + 1, outcomes.length);
+    if (failed) {
+      failures++;
+    }
+    if (recordedCalls >= minimumCalls && isAboveThreshold(failures, recordedCalls)) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private boolean isAboveThreshold(int failedCalls, int calls) {
+    return failedCalls * 100 >= failureRateThresholdPercent * calls;
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    recordedCalls = 0;
+    nextOutcome = 0;
+    failures = 0;
+    permittedHalfOpenCalls = 0;
+    completedHalfOpenCalls = 0;
+    failedHalfOpenCalls = 0;
+    if (newState == State.OPEN) {
+      openedAt = clock.instant();
+    }
+  }
+}
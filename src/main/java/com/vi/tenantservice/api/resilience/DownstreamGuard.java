@@ -0,0 +1,217 @@
+package com.vi.tenantservice.api.resilience;
+
+import com.vi.tenantservice.api.exception.DownstreamUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Guards the calls to one downstream service with a bulkhead and a circuit breaker.
+ *
+ * <p>The bulkhead limits the number of concurrent calls, so that a slow service cannot bind all
+ * request threads. The circuit breaker stops calling a service that keeps failing. Calls rejected
+ * by either fail fast with a {@link DownstreamUnavailableException}, callers decide on the
+ * fallback. Client errors (4xx) are answers of a healthy service and do not count as failures.
+ * Every call permitted by the circuit breaker has its outcome recorded, however it ends, so that a
+ * half open circuit always gets to decide.
+ */
+@Slf4j
+public class DownstreamGuard {
+
+  private final String serviceName;
+
+  private final CircuitBreaker circuitBreaker;
+
+  private final Semaphore bulkhead;
+
+  private final Duration maxBulkheadWait;
+
+  private final Counter successfulCalls;
+
+  private final Counter failedCalls;
+
+  private final Counter rejectedCalls;
+
+  public DownstreamGuard(
+      String serviceName,
+      CircuitBreaker circuitBreaker,
+      int maxConcurrentCalls,
+      Duration maxBulkheadWait,
+      MeterRegistry meterRegistry) {
+    this.serviceName = serviceName;
+    this.circuitBreaker = circuitBreaker;
+    this.bulkhead = new Semaphore(maxConcurrentCalls);
+    this.maxBulkheadWait = maxBulkheadWait;
+    Gauge.builder("downstream.circuitbreaker.state", circuitBreaker, c -> c.getState().ordinal())
+        .description("0 closed, 1 open, 2 half open")
+        .tag("service", serviceName)
+        .register(meterRegistry);
+    Gauge.builder("downstream.bulkhead.available.calls", bulkhead, Semaphore::availablePermits)
+        .tag("service", serviceName)
+        .register(meterRegistry);
+    this.successfulCalls = callCounter(meterRegistry, "success");
+    this.failedCalls = callCounter(meterRegistry, "failure");
+    this.rejectedCalls = callCounter(meterRegistry, "rejected");
+  }
+
+  /**
+   * Makes the given call, unless the service is deemed unhealthy or already busy with the maximum
+   * number of concurrent calls.
+   *
+   * @param call the call to the downstream service
+   * @return the result of the call
+   * @throws DownstreamUnavailableException if the call was rejected
+   */
+  public <T> T call(Supplier<T> call) {
+    acquireBulkhead();
+    try {
+      acquireCircuitPermission();
+      try {
+        var result = call.get();
+        onSuccess();
+        return result;
+      } catch (Throwable e) {
+        onFailure(e);
+        throw e;
+      }
+    } finally {
+      bulkhead.release();
+    }
+  }
+
+  /**
+   * Makes the given non-blocking call, unless the service is deemed unhealthy or already busy with
+   * the maximum number of concurrent calls. The bulkhead is not waited for, the call is rejected
+   * right away if it is full, and its permit is held until the returned future completes.
+   *
+   * @param call the call to the downstream service
+   * @return the result of the call, failed with a {@link DownstreamUnavailableException} if the
+   *     call was rejected
+   */
+  public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+    if (!bulkhead.tryAcquire()) {
+      return CompletableFuture.failedFuture(rejectBulkhead());
+    }
+    try {
+      acquireCircuitPermission();
+    } catch (DownstreamUnavailableException e) {
+      bulkhead.release();
+      return CompletableFuture.failedFuture(e);
+    }
+    CompletableFuture<T> result;
+    try {
+      result = call.get();
+    } catch (Throwable e) {
+      bulkhead.release();
+      onFailure(e);
+      if (e instanceof Error error) {
+        throw error;
+      }
+      return CompletableFuture.failedFuture(e);
+    }
+    return result.whenComplete(
+        (value, error) -> {
+          bulkhead.release();
+          if (error == null) {
+            onSuccess();
+          } else {
+            onFailure(unwrap(error));
+          }
+        });
+  }
+
+  public void run(Runnable call) {
+    call(
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+
+  /**
+   * Tells whether the given failure of a call means that the service is unavailable, as opposed to
+   * an answer of the service, like a rejected token, or a programming error. Callers fall back only
+   * on unavailability.
+   *
+   * @param e the failure
+   * @return true if the service is unavailable
+   */
+  public static boolean isUnavailability(Throwable e) {
+    return e instanceof DownstreamUnavailableException
+        || e instanceof RestClientException && !(e instanceof HttpClientErrorException)
+        || e instanceof ResponseStatusException responseStatusException
+            && responseStatusException.getStatusCode().is5xxServerError();
+  }
+
+  public CircuitBreaker.State getCircuitBreakerState() {
+    return circuitBreaker.getState();
+  }
+
+  private void acquireBulkhead() {
+    try {
+      if (bulkhead.tryAcquire(maxBulkheadWait.toMillis(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    throw rejectBulkhead();
+  }
+
+  private DownstreamUnavailableException rejectBulkhead() {
+    rejectedCalls.increment();
+    log.warn("Too many concurrent calls to {}, rejecting call", serviceName);
+    return new DownstreamUnavailableException(
+        "Too many concurrent calls to %s".formatted(serviceName));
+  }
+
+  private void acquireCircuitPermission() {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      rejectedCalls.increment();
+      throw new DownstreamUnavailableException("Circuit of %s is open".formatted(serviceName));
+    }
+  }
+
+  private void onSuccess() {
+    circuitBreaker.onSuccess();
+    successfulCalls.increment();
+  }
+
+  private void onFailure(Throwable e) {
+    if (isClientError(e)) {
+      onSuccess();
+    } else {
+      circuitBreaker.onFailure();
+      failedCalls.increment();
+    }
+  }
+
+  private Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("downstream.calls")
+        .tag("service", serviceName)
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
+  private static boolean isClientError(Throwable e) {
+    return e instanceof HttpClientErrorException
+        || e instanceof ResponseStatusException responseStatusException
+            && responseStatusException.getStatusCode().is4xxClientError();
+  }
+}
@@ -0,0 +1,120 @@
+package com.vi.tenantservice.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A privacy text classified by the template features it uses. Static texts are returned as they are
+ * and texts using nothing but plain placeholders of known variables are rendered by substitution,
+ * so only the remaining texts need to be processed by FreeMarker. Instances are immutable and may
+ * be rendered concurrently.
+ */
+public final class PrivacyTemplate {
+
+  /** Character sequences starting FreeMarker directives, macro calls or interpolations. */
+  private static final List<String> FREEMARKER_MARKERS =
+      List.of("${", "#{", "<#", "</#", "<@", "</@");
+
+  private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{\\s*([A-Za-z_]\\w*)\\s*}");
+
+  public enum Kind {
+    STATIC,
+    PLACEHOLDERS,
+    FREEMARKER
+  }
+
+  private final Kind kind;
+
+  private final String source;
+
+  private final String[] literals;
+
+  private final String[] variables;
+
+  private final int literalsLength;
+
+  private PrivacyTemplate(Kind kind, String source, List<String> literals, List<String> variables) {
+    this.kind = kind;
+    this.source = source;
+    this.literals = literals.toArray(String[]::new);
+    this.variables = variables.toArray(String[]::new);
+    this.literalsLength = literals.stream().mapToInt(String::length).sum();
+  }
+
+  /**
+   * Classifies the given privacy text.
+   *
+   * @param source the privacy text
+   * @param knownVariables the variables that may be substituted without FreeMarker
+   * @return {@link PrivacyTemplate}
+   */
+  public static PrivacyTemplate classify(String source, Set<String> knownVariables) {
+    if (FREEMARKER_MARKERS.stream().noneMatch(source::contains)) {
+      return new PrivacyTemplate(Kind.STATIC, source, List.of(source), List.of());
+    }
+    List<String> literals = new ArrayList<>();
+    List<String> variables = new ArrayList<>();
+    var matcher = PLACEHOLDER.matcher(source);
+    int literalStart = 0;
+    while (matcher.find()) {
+      if (!knownVariables.contains(matcher.group(1))) {
+        return freeMarker(source);
+      }
+      literals.add(source.substring(literalStart, matcher.start()));
+      variables.add(matcher.group(1));
+      literalStart = matcher.end();
+    }
+    literals.add(source.substring(literalStart));
+    if (literals.stream().anyMatch(PrivacyTemplate::containsFreeMarkerMarker)) {
+      return freeMarker(source);
+    }
+    return new PrivacyTemplate(Kind.PLACEHOLDERS, source, literals, variables);
+  }
+
+  private static PrivacyTemplate freeMarker(String source) {
+    return new PrivacyTemplate(Kind.FREEMARKER, source, List.of(), List.of());
+  }
+
+  private static boolean containsFreeMarkerMarker(String literal) {
+    return FREEMARKER_MARKERS.stream().anyMatch(literal::contains);
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  public String getSource() {
+    return source;
+  }
+
+  /**
+   * Renders a template of kind {@link Kind#STATIC} or {@link Kind#PLACEHOLDERS}. Like FreeMarker
+   * with the configured exception handler, missing or null values are rendered as empty text.
+   *
+   * @param dataModel the values of the placeholder variables
+   * @return the rendered text
+   */
+  public String render(Map<String, ?> dataModel) {
+    if (kind == Kind.FREEMARKER) {
+      throw new IllegalStateException("Template needs to be processed by FreeMarker");
+    }
+    if (kind == Kind.STATIC) {
+      return source;
+    }
+    var values = new String[variables.length];
+    int length = literalsLength;
+    for (int i = 0; i < variables.length; i++) {
+      var value = dataModel.get(variables[i]);
+      values[i] = value == null ? "" : value.toString();
+      length += values[i].length();
+    }
+    var rendered = new StringBuilder(length).append(literals[0]);
+    for (int i = 0; i < variables.length; i++) {
+      rendered.append(values[i]).append(literals[i + 1]);
+    }
+    return rendered.toString();
+  }
+}
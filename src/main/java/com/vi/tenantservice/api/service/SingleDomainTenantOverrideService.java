@@ -34,7 +34,7 @@ public class SingleDomainTenantOverrideService {
     return mainTenantRestrictedDTO;
   }
 
-  private boolean isContentOverrideAllowed() {
+  public boolean isContentOverrideAllowed() {
     ApplicationSettingsDTOMultitenancyWithSingleDomainEnabled
         legalContentChangesBySingleTenantAdminsAllowed =
             applicationSettingsService
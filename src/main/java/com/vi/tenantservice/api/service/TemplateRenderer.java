@@ -1,7 +1,6 @@
 package com.vi.tenantservice.api.service;
 
-import freemarker.cache.StringTemplateLoader;
-import freemarker.template.Template;
+import com.vi.tenantservice.api.cache.CompiledTemplateCache;
 import freemarker.template.TemplateException;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -14,15 +13,12 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class TemplateRenderer {
 
-  private final @NonNull freemarker.template.Configuration freemarkerConfiguration;
+  private final @NonNull CompiledTemplateCache compiledTemplateCache;
 
   public String renderTemplate(String templateContent, Map<String, Object> dataModel)
       throws IOException, TemplateException {
 
-    StringTemplateLoader templateLoader =
-        (StringTemplateLoader) freemarkerConfiguration.getTemplateLoader();
-    templateLoader.putTemplate("in-memory-template", templateContent);
-    Template template = freemarkerConfiguration.getTemplate("in-memory-template");
+    var template = compiledTemplateCache.get(templateContent);
     StringWriter stringWriter = new StringWriter();
     template.process(dataModel, stringWriter);
     return stringWriter.toString();
@@ -1,24 +1,52 @@
 package com.vi.tenantservice.api.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import com.google.common.hash.Hashing;
 import com.vi.tenantservice.api.model.DataProtectionContactTemplateDTO;
+import com.vi.tenantservice.api.util.JsonConverter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-/** Service for mail templates */
+/**
+ * Registry of the data protection contact templates. All languages are loaded once and swapped
+ * atomically as a whole when the templates in the custom resources path change. Returned templates
+ * are shared and must not be modified.
+ *
+ * <p>Any change in the custom resources directory triggers a reload, as mounted config maps are
+ * updated by swapping a symbolic link rather than the template files themselves. Templates equal to
+ * the loaded ones are not swapped in. If the templates could not be loaded at all, loading is
+ * retried at most once per retry interval, failing fast in between.
+ */
 @Service
 @Slf4j
 public class TemplateService {
 
   private static final String TEMPLATE_DIR = "/templates/";
   private static final String TEMPLATE_EXTENSION = ".json";
+  private static final String DEFAULT_TEMPLATE_NAME = "dataProtectionContactTemplate";
+  private static final Map<String, String> TEMPLATE_NAMES_BY_LANGUAGE =
+      Map.of("de", DEFAULT_TEMPLATE_NAME, "en", "dataProtectionContactTemplate.en");
 
   @Value("${template.use.custom.resources.path}")
   private boolean useCustomResourcesPath;
@@ -26,31 +54,183 @@ public class TemplateService {
   @Value("${template.custom.resources.path}")
   private String customResourcePath;
 
+  @Value("${template.load.retry.interval.millis}")
+  private long loadRetryIntervalMillis;
+
+  private final AtomicReference<DataProtectionTemplates> templates = new AtomicReference<>();
+
+  private WatchService watchService;
+
+  private TemplateDescriptionServiceException loadFailure;
+
+  private Instant nextLoadAttempt = Instant.MIN;
+
+  /**
+   * The loaded templates per language.
+   *
+   * @param version incremented with each change, for caches holding data derived from the templates
+   * @param fingerprint hash of the template files, equal for equal templates across instances
+   * @param byLanguage the templates per language
+   */
+  private record DataProtectionTemplates(
+      long version, String fingerprint, Map<String, DataProtectionContactTemplateDTO> byLanguage) {}
+
+  @PostConstruct
+  public void initialize() {
+    try {
+      load();
+    } catch (TemplateDescriptionServiceException e) {
+      log.error("Data protection templates could not be loaded on startup", e);
+    }
+    if (useCustomResourcesPath) {
+      watchCustomResourcesPath();
+    }
+  }
+
+  @PreDestroy
+  public void stopWatching() throws IOException {
+    if (watchService != null) {
+      watchService.close();
+    }
+  }
+
   public DataProtectionContactTemplateDTO getDefaultDataProtectionTemplate()
       throws TemplateDescriptionServiceException {
-
-    return loadTemplateDescription("dataProtectionContactTemplate");
+    return getMultilingualDataProtectionTemplate().get("de");
   }
 
   public Map<String, DataProtectionContactTemplateDTO> getMultilingualDataProtectionTemplate()
       throws TemplateDescriptionServiceException {
-    return Map.of(
-        "de", loadTemplateDescription("dataProtectionContactTemplate"),
-        "en", loadTemplateDescription("dataProtectionContactTemplate.en"));
+    return currentTemplates().byLanguage();
   }
 
   /**
-   * Load template description
+   * Returns the version of the loaded templates, which changes whenever they are reloaded.
    *
-   * @param templateName the template name
-   * @return the template description
+   * @return the template version
+   */
+  public long getTemplateVersion() throws TemplateDescriptionServiceException {
+    return currentTemplates().version();
+  }
+
+  /**
+   * Returns a hash of the loaded template files. Unlike the version, it is equal on all instances
+   * serving the same templates.
+   *
+   * @return the template fingerprint
+   */
+  public String getTemplateFingerprint() throws TemplateDescriptionServiceException {
+    return currentTemplates().fingerprint();
+  }
+
+  private DataProtectionTemplates currentTemplates() throws TemplateDescriptionServiceException {
+    var currentTemplates = templates.get();
+    return currentTemplates != null ? currentTemplates : load();
+  }
+
+  /**
+   * Loads the templates unless they have been loaded meanwhile, or loading failed less than the
+   * retry interval ago.
+   *
+   * @return the loaded templates
+   */
+  private synchronized DataProtectionTemplates load() throws TemplateDescriptionServiceException {
+    var currentTemplates = templates.get();
+    if (currentTemplates != null) {
+      return currentTemplates;
+    }
+    if (loadFailure != null && Instant.now().isBefore(nextLoadAttempt)) {
+      throw new TemplateDescriptionServiceException(
+          "Data protection templates are not loaded, next attempt at %s".formatted(nextLoadAttempt),
+          loadFailure);
+    }
+    try {
+      return reload();
+    } catch (TemplateDescriptionServiceException e) {
+      loadFailure = e;
+      nextLoadAttempt = Instant.now().plusMillis(loadRetryIntervalMillis);
+      throw e;
+    }
+  }
+
+  /**
+   * Loads all templates and swaps them in if they changed, keeping the current ones if loading
+   * fails.
+   *
+   * @return the loaded templates
    */
-  private DataProtectionContactTemplateDTO loadTemplateDescription(String templateName)
+  private synchronized DataProtectionTemplates reload() throws TemplateDescriptionServiceException {
+    var fileContents = new StringBuilder();
+    Map<String, DataProtectionContactTemplateDTO> byLanguage = new HashMap<>();
+    for (var templateName : TEMPLATE_NAMES_BY_LANGUAGE.entrySet()) {
+      var templateDescriptionJson = loadTemplateDescriptionFile(templateName.getValue());
+      fileContents.append(templateDescriptionJson);
+      byLanguage.put(
+          templateName.getKey(),
+          parseTemplateDescription(templateName.getValue(), templateDescriptionJson));
+    }
+    var previousTemplates = templates.get();
+    var fingerprint =
+        Hashing.murmur3_128().hashString(fileContents, StandardCharsets.UTF_8).toString();
+    if (previousTemplates != null && previousTemplates.fingerprint().equals(fingerprint)) {
+      return previousTemplates;
+    }
+    var loadedTemplates =
+        new DataProtectionTemplates(
+            previousTemplates == null ? 1 : previousTemplates.version() + 1,
+            fingerprint,
+            Map.copyOf(byLanguage));
+    templates.set(loadedTemplates);
+    log.info(
+        "Loaded data protection templates in version {} (useCustomResourcesPath: {})",
+        loadedTemplates.version(),
+        useCustomResourcesPath);
+    return loadedTemplates;
+  }
+
+  private void watchCustomResourcesPath() {
+    var templateDirectory = Path.of(getExternalTemplateFilename(DEFAULT_TEMPLATE_NAME)).getParent();
+    try {
+      watchService = FileSystems.getDefault().newWatchService();
+      templateDirectory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+    } catch (IOException e) {
+      log.error("Could not watch data protection templates in {}", templateDirectory, e);
+      return;
+    }
+    var watcher = new Thread(this::reloadOnChange, "data-protection-template-watcher");
+    watcher.setDaemon(true);
+    watcher.start();
+  }
+
+  private void reloadOnChange() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        var watchKey = watchService.take();
+        watchKey.pollEvents();
+        watchKey.reset();
+        tryReload();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      log.debug("Stopped watching data protection templates");
+    }
+  }
+
+  private void tryReload() {
+    try {
+      reload();
+    } catch (TemplateDescriptionServiceException e) {
+      log.error("Changed data protection templates could not be loaded, keeping current ones", e);
+    }
+  }
+
+  private DataProtectionContactTemplateDTO parseTemplateDescription(
+      String templateName, String templateDescriptionJson)
       throws TemplateDescriptionServiceException {
-    var mapper = new ObjectMapper();
-    String templateDescriptionJson = loadTemplateDescriptionFile(templateName);
     try {
-      return mapper.readValue(templateDescriptionJson, DataProtectionContactTemplateDTO.class);
+      return JsonConverter.readerFor(DataProtectionContactTemplateDTO.class)
+          .readValue(templateDescriptionJson);
     } catch (Exception ex) {
       throw new TemplateDescriptionServiceException(
           "Json file with template description could not be parsed, template name: %s"
@@ -67,17 +247,11 @@ public class TemplateService {
    */
   private String loadTemplateDescriptionFile(String templateName)
       throws TemplateDescriptionServiceException {
-    try {
-      var inputStream =
-          useCustomResourcesPath
-              ? buildStreamForExternalPath(templateName)
-              : TemplateService.class.getResourceAsStream(getTemplateFilename(templateName));
-      log.info("useCustomResourcesPath: {}", useCustomResourcesPath);
+    try (var inputStream = openTemplateDescriptionFile(templateName)) {
       if (inputStream == null) {
         log.error("Template file could not be loaded, template name: {}", templateName);
         return "";
       }
-      assert inputStream != null;
       final List<String> fileLines =
           IOUtils.readLines(inputStream, StandardCharsets.UTF_8.displayName());
       return String.join("", fileLines);
@@ -89,9 +263,15 @@ public class TemplateService {
     }
   }
 
-  private FileInputStream buildStreamForExternalPath(String templateName)
+  private InputStream openTemplateDescriptionFile(String templateName)
       throws FileNotFoundException {
-    return new FileInputStream(customResourcePath + templateName + TEMPLATE_EXTENSION);
+    return useCustomResourcesPath
+        ? new FileInputStream(getExternalTemplateFilename(templateName))
+        : TemplateService.class.getResourceAsStream(getTemplateFilename(templateName));
+  }
+
+  private String getExternalTemplateFilename(String templateName) {
+    return customResourcePath + templateName + TEMPLATE_EXTENSION;
   }
 
   /**
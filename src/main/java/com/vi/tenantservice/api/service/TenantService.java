@@ -1,14 +1,18 @@
 package com.vi.tenantservice.api.service;
 
 import static com.vi.tenantservice.api.exception.httpresponse.HttpStatusExceptionReason.SUBDOMAIN_NOT_UNIQUE;
+import static com.vi.tenantservice.api.util.TransactionUtils.runAfterCommit;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vi.tenantservice.api.cache.RestrictedTenantSnapshotCache;
+import com.vi.tenantservice.api.cache.TenantCache;
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
 import com.vi.tenantservice.api.exception.TenantValidationException;
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.model.TenantEntity.TenantBase;
 import com.vi.tenantservice.api.model.TenantSettings;
 import com.vi.tenantservice.api.repository.TenantRepository;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
+import com.vi.tenantservice.api.util.JsonConverter;
 import jakarta.ws.rs.InternalServerErrorException;
 import java.io.File;
 import java.io.IOException;
@@ -42,11 +46,24 @@ public class TenantService {
 
   private final @NonNull ConfigurationFileLoader configurationFileLoader;
 
+  private final @NonNull TenantCache tenantCache;
+
+  private final @NonNull RestrictedTenantSnapshotCache restrictedTenantSnapshotCache;
+
+  private final @NonNull TenantSubdomainIndex tenantSubdomainIndex;
+
   public TenantEntity create(TenantEntity tenantEntity) {
     validateTenant(tenantEntity);
     overrideSubdomainIfNeededForSingleDomainMultitenancy(tenantEntity);
     setCreateAndUpdateDate(tenantEntity);
-    return tenantRepository.save(tenantEntity);
+    var createdTenant = tenantRepository.save(tenantEntity);
+    restrictedTenantSnapshotCache.refresh(createdTenant);
+    runAfterCommit(
+        () -> {
+          tenantCache.evict(createdTenant);
+          tenantSubdomainIndex.put(createdTenant);
+        });
+    return createdTenant;
   }
 
   private boolean shouldOverrideSubdomain(TenantEntity tenantEntity, String mainTenantSubdomain) {
@@ -89,7 +106,14 @@ public class TenantService {
     validateTenant(tenantEntity);
     overrideSubdomainIfNeededForSingleDomainMultitenancy(tenantEntity);
     tenantEntity.setUpdateDate(LocalDateTime.now(ZoneOffset.UTC));
-    return tenantRepository.save(tenantEntity);
+    var updatedTenant = tenantRepository.save(tenantEntity);
+    restrictedTenantSnapshotCache.refresh(updatedTenant);
+    runAfterCommit(
+        () -> {
+          tenantCache.evict(updatedTenant);
+          tenantSubdomainIndex.put(updatedTenant);
+        });
+    return updatedTenant;
   }
 
   private void validateTenant(TenantEntity tenantEntity) {
@@ -100,12 +124,40 @@ public class TenantService {
   }
 
   public Optional<TenantEntity> findTenantById(Long id) {
-    return tenantRepository.findById(id);
+    var cachedTenant = tenantCache.findById(id);
+    if (cachedTenant.isPresent()) {
+      return cachedTenant;
+    }
+    var byId = tenantRepository.findById(id);
+    byId.ifPresent(tenantCache::put);
+    return byId;
   }
 
   public Optional<TenantEntity> findTenantBySubdomain(String subdomain) {
+    var cachedTenant = tenantCache.findBySubdomain(subdomain);
+    if (cachedTenant.isPresent()) {
+      return cachedTenant;
+    }
     var bySubdomain = tenantRepository.findBySubdomain(subdomain);
-    return bySubdomain != null ? Optional.of(bySubdomain) : Optional.empty();
+    if (bySubdomain == null) {
+      return Optional.empty();
+    }
+    tenantCache.put(bySubdomain);
+    return Optional.of(bySubdomain);
+  }
+
+  /**
+   * Returns the only tenant. Reads at most two tenant ids instead of loading all tenants, the
+   * tenant itself is served from the tenant cache.
+   *
+   * @return the tenant, empty if there is not exactly one tenant
+   */
+  public Optional<TenantEntity> findSingleTenant() {
+    var tenantIds = tenantRepository.findIds(PageRequest.of(0, 2));
+    if (tenantIds.size() != 1) {
+      return Optional.empty();
+    }
+    return findTenantById(tenantIds.get(0));
   }
 
   public List<TenantEntity> getAllTenants() {
@@ -123,7 +175,7 @@ public class TenantService {
   public TenantSettings getDefaultTenantSettings() {
     final File file = configurationFileLoader.loadFrom(defaultTenantSettingsFilePath);
     try {
-      return new ObjectMapper().readValue(file, TenantSettings.class);
+      return JsonConverter.readerFor(TenantSettings.class).readValue(file);
     } catch (IOException ioException) {
       log.error("Error while reading default tenant settings configuration file", ioException);
       throw new InternalServerErrorException();
@@ -132,5 +184,17 @@ public class TenantService {
 
   public void delete(TenantEntity createdTenant) {
     tenantRepository.delete(createdTenant);
+    evictFromCaches(createdTenant);
+  }
+
+  /**
+   * Discards the cached data of the given tenant, e.g. when its creation got rolled back.
+   *
+   * @param tenant the tenant
+   */
+  public void evictFromCaches(TenantEntity tenant) {
+    tenantCache.evict(tenant);
+    restrictedTenantSnapshotCache.evict(tenant);
+    tenantSubdomainIndex.remove(tenant);
   }
 }
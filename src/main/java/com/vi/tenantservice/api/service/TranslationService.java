@@ -1,9 +1,12 @@
 package com.vi.tenantservice.api.service;
 
+import com.vi.tenantservice.api.context.RequestScopedContext;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -13,14 +16,26 @@ public class TranslationService {
 
   private static final String DEFAULT_LANGUAGE = "de";
   private static final String LANGUAGE_COOKIE_NAME = "lang";
+  private static final Set<String> ISO_LANGUAGES = Set.of(Locale.getISOLanguages());
 
+  /**
+   * Returns the language of the current request, taken from its language cookie. Content is only
+   * translated into ISO 639 languages, so any other cookie value gets the default language, whose
+   * translations are served for it anyway, instead of being passed on to caches and entity tags.
+   *
+   * @return the language
+   */
   public String getCurrentLanguageContext() {
+    return RequestScopedContext.language(TranslationService::readLanguage);
+  }
+
+  private static String readLanguage() {
     HttpServletRequest currentRequest =
         ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
 
     if (currentRequest.getCookies() != null) {
       Optional<Cookie> languageCookie = findLanguageCookie(currentRequest);
-      if (languageCookie.isPresent()) {
+      if (languageCookie.isPresent() && ISO_LANGUAGES.contains(languageCookie.get().getValue())) {
         return languageCookie.get().getValue();
       }
     }
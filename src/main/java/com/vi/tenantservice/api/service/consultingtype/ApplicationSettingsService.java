@@ -1,62 +1,123 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import com.vi.tenantservice.api.cache.RefreshingCache;
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
 import com.vi.tenantservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
-import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
-import com.vi.tenantservice.applicationsettingsservice.generated.ApiClient;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTOMainTenantSubdomainForSingleDomainMultitenancy;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsPatchDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /** Service class to communicate with the ConsultingTypeService. */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ApplicationSettingsService {
 
   private final @NonNull TenantResolverService tenantResolverService;
   private final @NonNull ApplicationSettingsApiControllerFactory
       applicationSettingsApiControllerFactory;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+  private final @NonNull DownstreamGuard applicationSettingsGuard;
+  private final @NonNull SingleFlight singleFlight;
+  private final @NonNull TenantSubdomainIndex tenantSubdomainIndex;
 
+  @Value("${cache.application.settings.ttl.seconds}")
+  private long applicationSettingsTtlSeconds;
+
+  @Value("${cache.application.settings.refresh.after.seconds}")
+  private long applicationSettingsRefreshAfterSeconds;
+
+  @Value("${cache.application.settings.stale.if.error.seconds}")
+  private long applicationSettingsStaleIfErrorSeconds;
+
+  @Value("${cache.application.settings.max.entries}")
+  private int applicationSettingsMaxEntries;
+
+  private RefreshingCache<Optional<Long>, ApplicationSettingsDTO> applicationSettingsCache;
+
+  @PostConstruct
+  public void initializeCache() {
+    applicationSettingsCache =
+        new RefreshingCache<>(
+            "applicationSettings",
+            this::loadApplicationSettings,
+            Duration.ofSeconds(applicationSettingsTtlSeconds),
+            Duration.ofSeconds(applicationSettingsRefreshAfterSeconds),
+            Duration.ofSeconds(applicationSettingsStaleIfErrorSeconds),
+            applicationSettingsMaxEntries,
+            Clock.systemUTC());
+  }
+
+  @PreDestroy
+  public void closeCache() {
+    applicationSettingsCache.close();
+  }
+
+  /**
+   * Returns the application settings as seen by the tenant of the current request. They are cached
+   * per tenant and refreshed in the background, so that repeated calls within one request or a
+   * burst of requests result in a single remote call. If they cannot be loaded, the last loaded
+   * settings of the tenant are returned within the stale period of the cache.
+   *
+   * <p>The tenant may come from a cookie set by the client, so settings are only loaded and cached
+   * for tenants that exist. Requests for other tenants get the settings seen without tenant.
+   *
+   * @return {@link ApplicationSettingsDTO}
+   */
   public ApplicationSettingsDTO getApplicationSettings() {
+    var tenantId = tryResolveTenant().filter(tenantSubdomainIndex::containsTenant);
+    return applicationSettingsCache.get(tenantId);
+  }
+
+  private ApplicationSettingsDTO loadApplicationSettings(Optional<Long> tenantId) {
     ApplicationsettingsControllerApi controllerApi =
-        applicationSettingsApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
-    return controllerApi.getApplicationSettings();
+        applicationSettingsApiControllerFactory.getControllerApi();
+    var headers = ApiClientHeaderInterceptor.tenantHeaders(tenantId);
+    return singleFlight.call(
+        "getApplicationSettings",
+        List.of(),
+        headers,
+        () ->
+            applicationSettingsGuard.call(
+                () ->
+                    apiClientHeaderInterceptor.withHeaders(
+                        headers, controllerApi::getApplicationSettings)));
+  }
+
+  private Optional<Long> tryResolveTenant() {
+    return RequestContextHolder.getRequestAttributes() != null
+        ? tenantResolverService.tryResolve()
+        : Optional.empty();
   }
 
   public void saveMainTenantSubDomain(final String subdomain) {
     ApplicationsettingsControllerApi controllerApi =
-        applicationSettingsApiControllerFactory.createControllerApi();
-    addDefaultHeadersWithKeycloak(controllerApi.getApiClient());
+        applicationSettingsApiControllerFactory.getControllerApi();
     ApplicationSettingsPatchDTO applicationSettingsPatchDTO = new ApplicationSettingsPatchDTO();
     applicationSettingsPatchDTO.setMainTenantSubdomainForSingleDomainMultitenancy(
         new ApplicationSettingsDTOMainTenantSubdomainForSingleDomainMultitenancy()
             .value(subdomain));
-    controllerApi.patchApplicationSettings(applicationSettingsPatchDTO);
-  }
-
-  private void addDefaultHeadersWithKeycloak(ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
-  }
-
-  private void addDefaultHeaders(ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
-  }
-
-  private void addHeaders(ApiClient apiClient, HttpHeaders headers) {
-    Optional<Long> optionalTenant = tenantResolverService.tryResolve();
-    if (optionalTenant.isPresent()) {
-      headers.add("tenantId", optionalTenant.get().toString());
+    try {
+      applicationSettingsGuard.run(
+          () -> controllerApi.patchApplicationSettings(applicationSettingsPatchDTO));
+    } finally {
+      applicationSettingsCache.invalidateAll();
     }
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
   }
 }
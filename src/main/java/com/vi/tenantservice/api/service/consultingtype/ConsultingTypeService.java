@@ -1,16 +1,22 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.vi.tenantservice.api.cache.ConsultingTypeCache;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.config.apiclient.AsyncApiClient;
 import com.vi.tenantservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
 import com.vi.tenantservice.api.service.ConfigurationFileLoader;
-import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
-import com.vi.tenantservice.api.tenant.TenantResolverService;
+import com.vi.tenantservice.api.util.JsonConverter;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypeDTO;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypePatchDTO;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,11 +29,17 @@ import org.springframework.web.client.RestClientException;
 @Slf4j
 public class ConsultingTypeService {
 
+  private static final TypeReference<FullConsultingTypeResponseDTO> FULL_CONSULTING_TYPE =
+      new TypeReference<>() {};
+
   private final @NonNull ConsultingTypeServiceApiControllerFactory
       consultingTypeServiceApiControllerFactory;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
-  private final @NonNull TenantResolverService tenantResolverService;
   private final @NonNull ConfigurationFileLoader configurationFileLoader;
+  private final @NonNull ConsultingTypeCache consultingTypeCache;
+  private final @NonNull DownstreamGuard consultingTypeServiceGuard;
+  private final @NonNull SingleFlight singleFlight;
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+  private final @NonNull AsyncApiClient consultingTypeServiceAsyncClient;
 
   @Value("${default.consulting.types.json.path}")
   private String defaultConsultingTypesFilePath;
@@ -36,7 +48,7 @@ public class ConsultingTypeService {
     final File file = configurationFileLoader.loadFrom(defaultConsultingTypesFilePath);
     try {
       ConsultingTypeDTO consultingTypeDTO =
-          new ObjectMapper().readValue(file, ConsultingTypeDTO.class);
+          JsonConverter.readerFor(ConsultingTypeDTO.class).readValue(file);
       consultingTypeDTO.setTenantId(tenantId.intValue());
       createConsultingType(consultingTypeDTO);
     } catch (IOException ioException) {
@@ -47,48 +59,144 @@ public class ConsultingTypeService {
 
   private void createConsultingType(ConsultingTypeDTO consultingTypeDTO)
       throws RestClientException {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      consultingTypeControllerApi.createConsultingType(consultingTypeDTO);
+      consultingTypeServiceGuard.run(
+          () -> consultingTypeControllerApi.createConsultingType(consultingTypeDTO));
+      consultingTypeCache.evict(consultingTypeDTO.getTenantId());
     } catch (RestClientException e) {
       log.error("Error while creating consulting type {}", consultingTypeDTO, e);
       throw e;
     }
   }
 
+  /**
+   * Patches the consulting type of the given tenant and caches the patched consulting type, so that
+   * reading it afterwards does not need another call.
+   *
+   * @param tenantId the tenant id
+   * @param id the consulting type id
+   * @param consultingTypeDTO the changes
+   * @return the patched consulting type
+   */
   public FullConsultingTypeResponseDTO patchConsultingType(
-      Integer id, ConsultingTypePatchDTO consultingTypeDTO) throws RestClientException {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+      Integer tenantId, Integer id, ConsultingTypePatchDTO consultingTypeDTO)
+      throws RestClientException {
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      return consultingTypeControllerApi.patchConsultingType(id, consultingTypeDTO);
-    } catch (RestClientException e) {
+      var patchedConsultingType =
+          consultingTypeServiceGuard.call(
+              () -> consultingTypeControllerApi.patchConsultingType(id, consultingTypeDTO));
+      if (patchedConsultingType != null) {
+        consultingTypeCache.put(tenantId, patchedConsultingType);
+      } else {
+        consultingTypeCache.evict(tenantId);
+      }
+      return patchedConsultingType;
+    } catch (RuntimeException e) {
+      consultingTypeCache.evict(tenantId);
       log.error("Error while patching consulting type {}", id, e);
       throw e;
     }
   }
 
+  /**
+   * Returns the consulting type of the given tenant. It is cached per tenant, the cached instance
+   * must not be modified. Concurrent requests of a missing consulting type on behalf of the same
+   * user share one call.
+   *
+   * @param tenantId the tenant id
+   * @return the consulting type
+   */
   public FullConsultingTypeResponseDTO getConsultingTypesByTenantId(Integer tenantId) {
-    var consultingTypeControllerApi =
-        consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+    var cachedConsultingType = consultingTypeCache.get(tenantId);
+    if (cachedConsultingType.isPresent()) {
+      return cachedConsultingType.get();
+    }
+    var consultingTypeControllerApi = consultingTypeServiceApiControllerFactory.getControllerApi();
     try {
-      return consultingTypeControllerApi.getFullConsultingTypeByTenantId(tenantId);
+      return singleFlight.call(
+          "getFullConsultingTypeByTenantId",
+          List.of(tenantId),
+          apiClientHeaderInterceptor.currentHeaders(),
+          () -> {
+            var consultingType =
+                consultingTypeServiceGuard.call(
+                    () -> consultingTypeControllerApi.getFullConsultingTypeByTenantId(tenantId));
+            if (consultingType != null) {
+              consultingTypeCache.put(tenantId, consultingType);
+            }
+            return consultingType;
+          });
     } catch (RestClientException e) {
       log.error("Error while getting consulting types for tenant {}", tenantId, e);
       throw e;
     }
   }
 
-  private void addDefaultHeaders(
-      com.vi.tenantservice.consultingtypeservice.generated.ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
+  /**
+   * Returns the consulting type of the given tenant for reading purposes. If the
+   * ConsultingTypeService is unavailable, the consulting type is omitted instead of failing.
+   *
+   * @param tenantId the tenant id
+   * @return the consulting type, empty if there is none or it could not be loaded
+   */
+  public Optional<FullConsultingTypeResponseDTO> findConsultingTypesByTenantId(Integer tenantId) {
+    try {
+      return Optional.ofNullable(getConsultingTypesByTenantId(tenantId));
+    } catch (RuntimeException e) {
+      if (!DownstreamGuard.isUnavailability(e)) {
+        throw e;
+      }
+      log.warn("Omitting consulting type of tenant {}, it could not be loaded", tenantId, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #findConsultingTypesByTenantId(Integer)}, which does not
+   * bind a thread while waiting for the ConsultingTypeService.
+   *
+   * @param tenantId the tenant id
+   * @return the consulting type, empty if there is none or it could not be loaded
+   */
+  public CompletableFuture<Optional<FullConsultingTypeResponseDTO>>
+      findConsultingTypesByTenantIdAsync(Integer tenantId) {
+    var cachedConsultingType = consultingTypeCache.get(tenantId);
+    if (cachedConsultingType.isPresent()) {
+      return CompletableFuture.completedFuture(cachedConsultingType);
+    }
+    return singleFlight
+        .callAsync(
+            "getFullConsultingTypeByTenantId",
+            List.of(tenantId),
+            apiClientHeaderInterceptor.currentHeaders(),
+            () ->
+                consultingTypeServiceGuard.callAsync(
+                    () ->
+                        consultingTypeServiceAsyncClient.get(
+                            "/consultingtypes/bytenant/{tenantId}/full",
+                            FULL_CONSULTING_TYPE,
+                            tenantId)))
+        .handle(
+            (consultingType, error) -> {
+              if (error == null) {
+                if (consultingType != null) {
+                  consultingTypeCache.put(tenantId, consultingType);
+                }
+                return Optional.ofNullable(consultingType);
+              }
+              var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!(cause instanceof RuntimeException e) || !DownstreamGuard.isUnavailability(e)) {
+                throw new CompletionException(cause);
+              }
+              log.warn(
+                  "Omitting consulting type of tenant {}, it could not be loaded", tenantId, e);
+              return Optional.empty();
+            });
+  }
 
-    Optional<Long> optionalTenant = tenantResolverService.tryResolve();
-    optionalTenant.ifPresent(aLong -> headers.add("tenantId", aLong.toString()));
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+  public void evictConsultingTypes(Integer tenantId) {
+    consultingTypeCache.evict(tenantId);
   }
 }
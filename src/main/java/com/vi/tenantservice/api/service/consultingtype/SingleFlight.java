@@ -0,0 +1,128 @@
+package com.vi.tenantservice.api.service.consultingtype;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Coalesces identical concurrent calls to other services: while a call is in flight, further
+ * identical calls wait for it and share its result or exception instead of being made again.
+ *
+ * <p>Calls are identical if they have the same operation, arguments and scope. The scope are the
+ * headers the call is made with, so that calls on behalf of different users or tenants are never
+ * shared. Nothing is kept once a call completed, this is not a cache. Blocking and non-blocking
+ * calls of the same operation are coalesced with each other.
+ */
+@Component
+@RequiredArgsConstructor
+public class SingleFlight {
+
+  private final @NonNull MeterRegistry meterRegistry;
+
+  private final Map<Key, CompletableFuture<Object>> inFlightCalls = new ConcurrentHashMap<>();
+
+  private record Key(String operation, List<?> arguments, Map<String, List<String>> scope) {}
+
+  /**
+   * Makes the given call, unless an identical call is in flight, whose result is returned instead.
+   *
+   * @param operation the name of the called operation
+   * @param arguments the arguments of the operation
+   * @param scope the headers the call is made with
+   * @param call the call
+   * @return the result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T call(String operation, List<?> arguments, HttpHeaders scope, Supplier<T> call) {
+    var key = new Key(operation, arguments, Map.copyOf(scope));
+    var ownCall = new CompletableFuture<Object>();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, ownCall);
+    if (inFlightCall != null) {
+      coalescedCalls(operation).increment();
+      return (T) await(inFlightCall);
+    }
+    try {
+      var result = call.get();
+      ownCall.complete(result);
+      return result;
+    } catch (RuntimeException | Error e) {
+      ownCall.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightCalls.remove(key, ownCall);
+    }
+  }
+
+  /**
+   * Non-blocking counterpart of {@link #call(String, List, HttpHeaders, Supplier)}. Each caller
+   * gets its own future of the shared call, so that one caller cancelling it does not affect the
+   * others.
+   *
+   * @param operation the name of the called operation
+   * @param arguments the arguments of the operation
+   * @param scope the headers the call is made with
+   * @param call the call
+   * @return the result of the call
+   */
+  @SuppressWarnings("unchecked")
+  public <T> CompletableFuture<T> callAsync(
+      String operation, List<?> arguments, HttpHeaders scope, Supplier<CompletableFuture<T>> call) {
+    var key = new Key(operation, arguments, Map.copyOf(scope));
+    var ownCall = new CompletableFuture<Object>();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, ownCall);
+    if (inFlightCall != null) {
+      coalescedCalls(operation).increment();
+      return (CompletableFuture<T>) inFlightCall.copy();
+    }
+    try {
+      call.get()
+          .whenComplete(
+              (result, error) -> {
+                inFlightCalls.remove(key, ownCall);
+                if (error != null) {
+                  ownCall.completeExceptionally(
+                      error instanceof CompletionException && error.getCause() != null
+                          ? error.getCause()
+                          : error);
+                } else {
+                  ownCall.complete(result);
+                }
+              });
+    } catch (RuntimeException | Error e) {
+      inFlightCalls.remove(key, ownCall);
+      ownCall.completeExceptionally(e);
+      throw e;
+    }
+    return (CompletableFuture<T>) ownCall.copy();
+  }
+
+  private static Object await(CompletableFuture<Object> inFlightCall) {
+    try {
+      return inFlightCall.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
+  private Counter coalescedCalls(String operation) {
+    return Counter.builder("downstream.calls.coalesced")
+        .description("Calls answered by an identical call in flight")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+}
@@ -1,12 +1,13 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.config.apiclient.AsyncApiClient;
 import com.vi.tenantservice.api.config.apiclient.UserAdminServiceApiControllerFactory;
-import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
-import com.vi.tenantservice.api.tenant.TenantResolverService;
-import com.vi.tenantservice.useradminservice.generated.ApiClient;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
 import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
@@ -17,26 +18,60 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class UserAdminService {
 
-  private final @NonNull TenantResolverService tenantResolverService;
+  private static final TypeReference<List<AdminResponseDTO>> TENANT_ADMINS =
+      new TypeReference<>() {};
+
   private final @NonNull UserAdminServiceApiControllerFactory userAdminServiceApiControllerFactory;
-  private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+  private final @NonNull DownstreamGuard userServiceGuard;
+  private final @NonNull SingleFlight singleFlight;
+  private final @NonNull AsyncApiClient userServiceAsyncClient;
 
   public List<AdminResponseDTO> getTenantAdmins(Integer tenantId) {
-    var controllerApi = userAdminServiceApiControllerFactory.createControllerApi();
-    addDefaultHeadersWithKeycloak(controllerApi.getApiClient());
-    return controllerApi.getTenantAdmins(tenantId);
+    var controllerApi = userAdminServiceApiControllerFactory.getControllerApi();
+    return singleFlight.call(
+        "getTenantAdmins",
+        List.of(tenantId),
+        apiClientHeaderInterceptor.currentHeaders(),
+        () -> userServiceGuard.call(() -> controllerApi.getTenantAdmins(tenantId)));
+  }
+
+  /**
+   * Loads the admins of the given tenant without blocking a thread while waiting for the response.
+   *
+   * @param tenantId the tenant id
+   * @return the tenant admins
+   */
+  public CompletableFuture<List<AdminResponseDTO>> getTenantAdminsAsync(Integer tenantId) {
+    return singleFlight.callAsync(
+        "getTenantAdmins",
+        List.of(tenantId),
+        apiClientHeaderInterceptor.currentHeaders(),
+        () ->
+            userServiceGuard.callAsync(
+                () ->
+                    userServiceAsyncClient.get(
+                        "/useradmin/tenantadmins?tenantId={tenantId}", TENANT_ADMINS, tenantId)));
   }
 
-  private void addDefaultHeadersWithKeycloak(ApiClient apiClient) {
-    var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
-    addHeaders(apiClient, headers);
+  /**
+   * Loads the admins of the given tenant with previously obtained headers, for calls made after the
+   * request that triggered them has completed.
+   *
+   * @param tenantId the tenant id
+   * @param headers the headers obtained by {@link #getDefaultHeadersWithKeycloak()}
+   * @return the tenant admins
+   */
+  public List<AdminResponseDTO> getTenantAdmins(Integer tenantId, HttpHeaders headers) {
+    return apiClientHeaderInterceptor.withHeaders(headers, () -> getTenantAdmins(tenantId));
   }
 
-  private void addHeaders(ApiClient apiClient, HttpHeaders headers) {
-    Optional<Long> optionalTenant = tenantResolverService.tryResolve();
-    if (optionalTenant.isPresent()) {
-      headers.add("tenantId", optionalTenant.get().toString());
-    }
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+  /**
+   * Returns the headers for calls on behalf of the current user and tenant.
+   *
+   * @return {@link HttpHeaders}
+   */
+  public HttpHeaders getDefaultHeadersWithKeycloak() {
+    return apiClientHeaderInterceptor.captureHeaders();
   }
 }
@@ -31,21 +31,25 @@ public class SecurityHeaderSupplier {
     return this.addCsrfValues(httpHeaders);
   }
 
-  public HttpHeaders getKeycloakAndCsrfHttpHeaders() {
-    var header = getCsrfHttpHeaders();
-    this.addKeycloakAuthorizationHeader(header, getPrincipal().getTokenValue());
-    return header;
+  /**
+   * Returns a {@link HttpHeaders} instance carrying the bearer token of the current user, if one is
+   * authenticated with a token.
+   *
+   * @return {@link HttpHeaders}
+   */
+  public HttpHeaders getKeycloakHttpHeaders() {
+    var headers = new HttpHeaders();
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.getPrincipal() instanceof Jwt jwt) {
+      this.addKeycloakAuthorizationHeader(headers, jwt.getTokenValue());
+    }
+    return headers;
   }
 
   private void addKeycloakAuthorizationHeader(HttpHeaders httpHeaders, String accessToken) {
     httpHeaders.add("Authorization", "Bearer " + accessToken);
   }
 
-  private Jwt getPrincipal() {
-    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-    return (Jwt) authentication.getPrincipal();
-  }
-
   private HttpHeaders addCsrfValues(HttpHeaders httpHeaders) {
     var csrfToken = UUID.randomUUID().toString();
 
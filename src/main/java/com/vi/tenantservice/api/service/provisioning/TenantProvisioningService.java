@@ -0,0 +1,107 @@
+package com.vi.tenantservice.api.service.provisioning;
+
+import static com.vi.tenantservice.api.util.TransactionUtils.runAfterCommit;
+
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepType;
+import com.vi.tenantservice.api.repository.TenantProvisioningStepRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records the steps needed to set up a new tenant in other services and provides the state of its
+ * setup. The steps are executed by the {@link TenantProvisioningWorker}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TenantProvisioningService {
+
+  private final @NonNull TenantProvisioningStepRepository tenantProvisioningStepRepository;
+
+  private final @NonNull TenantProvisioningWorker tenantProvisioningWorker;
+
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  /**
+   * Records the provisioning steps of the given tenant. If called within the transaction that
+   * creates the tenant, the steps are stored together with it and their execution starts once it is
+   * committed.
+   *
+   * @param tenant the created tenant
+   * @param saveMainTenantSubdomain whether the subdomain of the tenant is the main tenant subdomain
+   *     to save in the application settings
+   */
+  public void scheduleProvisioning(TenantEntity tenant, boolean saveMainTenantSubdomain) {
+    var now = LocalDateTime.now(ZoneOffset.UTC);
+    List<TenantProvisioningStepEntity> steps = new ArrayList<>();
+    steps.add(newStep(tenant.getId(), StepType.CREATE_DEFAULT_CONSULTING_TYPES, null, now));
+    if (saveMainTenantSubdomain) {
+      steps.add(
+          newStep(tenant.getId(), StepType.SAVE_MAIN_TENANT_SUBDOMAIN, tenant.getSubdomain(), now));
+    }
+    tenantProvisioningStepRepository.saveAll(steps);
+
+    var headers = apiClientHeaderInterceptor.captureHeaders();
+    runAfterCommit(() -> tenantProvisioningWorker.startProvisioning(tenant.getId(), headers));
+  }
+
+  /**
+   * Executes the failed provisioning steps of the given tenant again, with all their attempts left
+   * and the headers of the current request. This is how steps are recovered that failed because the
+   * other services were unavailable for too long, or that could not be executed at all because the
+   * headers of the request that created the tenant are lost, e.g. after a restart.
+   *
+   * @param tenantId the tenant id
+   * @return the number of steps executed again
+   */
+  public int retryFailedSteps(Long tenantId) {
+    var retriedSteps =
+        tenantProvisioningStepRepository.resetSteps(
+            tenantId, StepStatus.FAILED, StepStatus.PENDING, LocalDateTime.now(ZoneOffset.UTC));
+    if (retriedSteps > 0) {
+      tenantProvisioningWorker.startProvisioning(
+          tenantId, apiClientHeaderInterceptor.captureHeaders());
+    }
+    return retriedSteps;
+  }
+
+  /**
+   * Returns the state of the setup of the given tenant. Tenants without provisioning steps, like
+   * the ones created before steps were recorded, are completely set up.
+   *
+   * @param tenantId the tenant id
+   * @return {@link TenantProvisioningStatus}
+   */
+  public TenantProvisioningStatus getProvisioningStatus(Long tenantId) {
+    var statuses =
+        tenantProvisioningStepRepository.findStepStatusesExcept(tenantId, StepStatus.DONE);
+    if (statuses.contains(StepStatus.FAILED)) {
+      return TenantProvisioningStatus.FAILED;
+    }
+    return statuses.contains(StepStatus.PENDING)
+        ? TenantProvisioningStatus.PENDING
+        : TenantProvisioningStatus.COMPLETED;
+  }
+
+  private static TenantProvisioningStepEntity newStep(
+      Long tenantId, StepType stepType, String payload, LocalDateTime now) {
+    return TenantProvisioningStepEntity.builder()
+        .tenantId(tenantId)
+        .stepType(stepType)
+        .payload(payload)
+        .status(StepStatus.PENDING)
+        .nextAttemptDate(now)
+        .createDate(now)
+        .updateDate(now)
+        .build();
+  }
+}
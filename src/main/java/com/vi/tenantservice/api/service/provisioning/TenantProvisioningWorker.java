@@ -0,0 +1,251 @@
+package com.vi.tenantservice.api.service.provisioning;
+
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import com.vi.tenantservice.api.repository.TenantProvisioningStepRepository;
+import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
+import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes the due provisioning steps of tenants.
+ *
+ * <p>Due steps are polled periodically and, to not wait for the next poll, right after a tenant got
+ * created. Each step is claimed before it is executed, so that it runs only once even with several
+ * instances of this service, and steps of different tenants run in parallel on the provisioning
+ * executor. Failed steps are retried with exponential backoff until the maximum number of attempts
+ * is reached.
+ *
+ * <p>The other services are called with the headers of the request that created the tenant. They
+ * are only kept in memory of the instance that received the request, so each instance only claims
+ * the steps it holds the headers for. Steps nobody claimed within a grace period, e.g. because the
+ * instance holding their headers was restarted, are claimed by any instance and marked failed
+ * without using up an attempt, as are steps that used up their attempts. They are executed again
+ * once retried via {@link TenantProvisioningService#retryFailedSteps(Long)}, with the headers of
+ * that request.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantProvisioningWorker {
+
+  private static final int MAX_ERROR_LENGTH = 1024;
+  private static final String MISSING_HEADERS_ERROR =
+      "Headers of the creating request are lost, the provisioning has to be retried";
+
+  private final @NonNull TenantProvisioningStepRepository tenantProvisioningStepRepository;
+
+  private final @NonNull ConsultingTypeService consultingTypeService;
+
+  private final @NonNull ApplicationSettingsService applicationSettingsService;
+
+  private final @NonNull ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private final @NonNull ThreadPoolTaskExecutor tenantProvisioningExecutor;
+
+  private final Map<Long, HttpHeaders> provisioningHeaders = new ConcurrentHashMap<>();
+
+  @Value("${tenant.provisioning.batch.size}")
+  private int batchSize;
+
+  @Value("${tenant.provisioning.max.attempts}")
+  private int maxAttempts;
+
+  @Value("${tenant.provisioning.backoff.initial.seconds}")
+  private long initialBackoffSeconds;
+
+  @Value("${tenant.provisioning.backoff.max.seconds}")
+  private long maxBackoffSeconds;
+
+  @Value("${tenant.provisioning.lease.seconds}")
+  private long leaseSeconds;
+
+  @Value("${tenant.provisioning.headerless.grace.seconds}")
+  private long headerlessGraceSeconds;
+
+  /**
+   * Starts executing the steps of a created tenant in the background.
+   *
+   * @param tenantId the tenant id
+   * @param headers the headers to call other services with
+   */
+  public void startProvisioning(Long tenantId, HttpHeaders headers) {
+    rememberHeaders(tenantId, headers);
+    try {
+      tenantProvisioningExecutor.execute(this::processDueSteps);
+    } catch (TaskRejectedException e) {
+      log.warn("Could not start provisioning of tenant {}, leaving it to the next poll", tenantId);
+    }
+  }
+
+  /**
+   * Hands the due steps to the provisioning executor, no more than it has free workers for. Each
+   * step is claimed when its execution starts, so that its lease does not run out while it waits in
+   * the queue.
+   */
+  @Scheduled(fixedDelayString = "${tenant.provisioning.poll.interval.millis}")
+  public void processDueSteps() {
+    forgetHeadersOfProvisionedTenants();
+    var freeWorkers = freeWorkers();
+    if (freeWorkers == 0) {
+      return;
+    }
+    var now = now();
+    var dueSteps =
+        tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                StepStatus.PENDING, now, PageRequest.of(0, batchSize))
+            .stream()
+            .filter(step -> isExecutableHere(step, now))
+            .limit(freeWorkers)
+            .toList();
+    for (TenantProvisioningStepEntity step : dueSteps) {
+      try {
+        tenantProvisioningExecutor.execute(() -> claimAndExecute(step));
+      } catch (TaskRejectedException e) {
+        log.warn("Provisioning executor is busy, leaving step {} to the next poll", step.getId());
+        return;
+      }
+    }
+  }
+
+  private int freeWorkers() {
+    return Math.max(
+        0,
+        tenantProvisioningExecutor.getMaxPoolSize()
+            - tenantProvisioningExecutor.getActiveCount()
+            - tenantProvisioningExecutor.getQueueSize());
+  }
+
+  private void claimAndExecute(TenantProvisioningStepEntity step) {
+    if (claim(step, now())) {
+      execute(step);
+    }
+  }
+
+  /**
+   * Removes the headers of tenants without pending steps, including those whose steps were finished
+   * by another instance.
+   */
+  private void forgetHeadersOfProvisionedTenants() {
+    provisioningHeaders
+        .keySet()
+        .removeIf(
+            tenantId ->
+                !tenantProvisioningStepRepository.existsByTenantIdAndStatus(
+                    tenantId, StepStatus.PENDING));
+  }
+
+  private boolean isExecutableHere(TenantProvisioningStepEntity step, LocalDateTime now) {
+    return provisioningHeaders.containsKey(step.getTenantId())
+        || !step.getNextAttemptDate().isAfter(now.minusSeconds(headerlessGraceSeconds));
+  }
+
+  private boolean claim(TenantProvisioningStepEntity step, LocalDateTime now) {
+    return tenantProvisioningStepRepository.claim(
+            step.getId(),
+            step.getNextAttemptDate(),
+            now.plusSeconds(leaseSeconds),
+            StepStatus.PENDING)
+        == 1;
+  }
+
+  void rememberHeaders(Long tenantId, HttpHeaders headers) {
+    provisioningHeaders.put(tenantId, headers);
+  }
+
+  void execute(TenantProvisioningStepEntity step) {
+    var headers = provisioningHeaders.get(step.getTenantId());
+    if (headers == null) {
+      markWaitingForRetry(step);
+      return;
+    }
+    step.setAttempts(step.getAttempts() + 1);
+    try {
+      apiClientHeaderInterceptor.withHeaders(
+          headers,
+          () -> {
+            perform(step);
+            return null;
+          });
+      step.setStatus(StepStatus.DONE);
+      step.setLastError(null);
+      log.info("Executed {} for tenant {}", step.getStepType(), step.getTenantId());
+    } catch (RuntimeException e) {
+      recordFailure(step, e);
+    }
+    step.setUpdateDate(now());
+    tenantProvisioningStepRepository.save(step);
+    if (!tenantProvisioningStepRepository.existsByTenantIdAndStatus(
+        step.getTenantId(), StepStatus.PENDING)) {
+      provisioningHeaders.remove(step.getTenantId());
+    }
+  }
+
+  private void markWaitingForRetry(TenantProvisioningStepEntity step) {
+    step.setStatus(StepStatus.FAILED);
+    step.setLastError(MISSING_HEADERS_ERROR);
+    step.setUpdateDate(now());
+    tenantProvisioningStepRepository.save(step);
+    log.warn(
+        "No headers to execute {} for tenant {} with, waiting for its provisioning to be retried",
+        step.getStepType(),
+        step.getTenantId());
+  }
+
+  private void perform(TenantProvisioningStepEntity step) {
+    switch (step.getStepType()) {
+      case CREATE_DEFAULT_CONSULTING_TYPES -> consultingTypeService.createDefaultConsultingTypes(
+          step.getTenantId());
+      case SAVE_MAIN_TENANT_SUBDOMAIN -> applicationSettingsService.saveMainTenantSubDomain(
+          step.getPayload());
+    }
+  }
+
+  private void recordFailure(TenantProvisioningStepEntity step, RuntimeException e) {
+    step.setLastError(StringUtils.abbreviate(String.valueOf(e.getMessage()), MAX_ERROR_LENGTH));
+    if (step.getAttempts() >= maxAttempts) {
+      step.setStatus(StepStatus.FAILED);
+      log.error(
+          "Giving up {} for tenant {} after {} attempts",
+          step.getStepType(),
+          step.getTenantId(),
+          step.getAttempts(),
+          e);
+      return;
+    }
+    var backoff = backoff(step.getAttempts());
+    step.setNextAttemptDate(now().plus(backoff));
+    log.warn(
+        "Could not execute {} for tenant {}, retrying in {}",
+        step.getStepType(),
+        step.getTenantId(),
+        backoff,
+        e);
+  }
+
+  private Duration backoff(int attempts) {
+    var factor = 1L << Math.min(attempts - 1, 30);
+    return Duration.ofSeconds(Math.min(initialBackoffSeconds * factor, maxBackoffSeconds));
+  }
+
+  private static LocalDateTime now() {
+    return LocalDateTime.now(ZoneOffset.UTC);
+  }
+}
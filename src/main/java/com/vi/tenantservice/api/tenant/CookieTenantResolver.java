@@ -1,12 +1,7 @@
 package com.vi.tenantservice.api.tenant;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
-import java.util.Base64;
-import java.util.Map;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
@@ -57,20 +52,7 @@ public class CookieTenantResolver implements TenantResolver {
   }
 
   private Optional<Long> resolveFromCookieValue(Cookie token) {
-    String[] chunks = token.getValue().split("\\.");
-    Base64.Decoder decoder = Base64.getUrlDecoder();
-    String payload = new String(decoder.decode(chunks[1]));
-    var objectMapper =
-        new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-    try {
-      Map<String, Object> map = objectMapper.readValue(payload, Map.class);
-      Integer tenantIdFromCookie = (Integer) map.get(TENANT_ID);
-      return tenantIdFromCookie == null
-          ? Optional.empty()
-          : Optional.of(Long.valueOf(tenantIdFromCookie));
-    } catch (JsonProcessingException e) {
-      return Optional.empty();
-    }
+    return JwtClaimExtractor.extractLongClaim(token.getValue(), TENANT_ID);
   }
 
   @Override
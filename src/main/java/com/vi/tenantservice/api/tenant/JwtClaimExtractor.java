@@ -0,0 +1,127 @@
+package com.vi.tenantservice.api.tenant;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reads single numeric claims from the payload of a JWT without verifying it and without binding
+ * the whole claim set.
+ *
+ * <p>Only the payload segment is Base64url decoded, into a buffer reused per thread, and streamed
+ * through a shared {@link JsonFactory} until the claim is found. Tokens that are not well-formed
+ * yield no claim.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class JwtClaimExtractor {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private static final int MAX_REUSED_BUFFER_SIZE = 8 * 1024;
+
+  private static final byte[] BASE64_URL_VALUES = new byte[128];
+
+  private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[1024]);
+
+  static {
+    Arrays.fill(BASE64_URL_VALUES, (byte) -1);
+    var alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+    for (int i = 0; i < alphabet.length(); i++) {
+      BASE64_URL_VALUES[alphabet.charAt(i)] = (byte) i;
+    }
+  }
+
+  /**
+   * Returns the given top-level claim of the token, if it is an integral number.
+   *
+   * @param token the JWT
+   * @param claimName the name of the claim
+   * @return the claim value, empty if the token has no such claim or is malformed
+   */
+  static Optional<Long> extractLongClaim(String token, String claimName) {
+    if (token == null) {
+      return Optional.empty();
+    }
+    var payloadStart = token.indexOf('.') + 1;
+    var payloadEnd = payloadStart > 0 ? token.indexOf('.', payloadStart) : -1;
+    if (payloadEnd <= payloadStart) {
+      return Optional.empty();
+    }
+    var buffer = buffer((payloadEnd - payloadStart) * 3 / 4 + 3);
+    var length = decodeBase64Url(token, payloadStart, payloadEnd, buffer);
+    if (length < 0) {
+      return Optional.empty();
+    }
+    return readLongField(buffer, length, claimName);
+  }
+
+  private static byte[] buffer(int size) {
+    if (size > MAX_REUSED_BUFFER_SIZE) {
+      return new byte[size];
+    }
+    var buffer = BUFFER.get();
+    if (buffer.length < size) {
+      buffer = new byte[MAX_REUSED_BUFFER_SIZE];
+      BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+  /**
+   * Decodes the given Base64url range, with or without padding, into the buffer.
+   *
+   * @return the number of decoded bytes, -1 if the range is not valid Base64url
+   */
+  private static int decodeBase64Url(String source, int start, int end, byte[] target) {
+    while (end > start && source.charAt(end - 1) == '=') {
+      end--;
+    }
+    if ((end - start) % 4 == 1) {
+      return -1;
+    }
+    int length = 0;
+    int bits = 0;
+    int bitCount = 0;
+    for (int i = start; i < end; i++) {
+      var character = source.charAt(i);
+      var value = character < 128 ? BASE64_URL_VALUES[character] : -1;
+      if (value < 0) {
+        return -1;
+      }
+      bits = (bits << 6) | value;
+      bitCount += 6;
+      if (bitCount >= 8) {
+        bitCount -= 8;
+        target[length++] = (byte) (bits >> bitCount);
+      }
+    }
+    return length;
+  }
+
+  private static Optional<Long> readLongField(byte[] json, int length, String fieldName) {
+    try (var parser = JSON_FACTORY.createParser(json, 0, length)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return Optional.empty();
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        var isField = fieldName.equals(parser.currentName());
+        var value = parser.nextToken();
+        if (isField) {
+          return value == JsonToken.VALUE_NUMBER_INT
+                  && parser.getNumberType() != NumberType.BIG_INTEGER
+              ? Optional.of(parser.getLongValue())
+              : Optional.empty();
+        }
+        parser.skipChildren();
+      }
+      return Optional.empty();
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -1,27 +1,54 @@
 package com.vi.tenantservice.api.tenant;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.SUBDOMAINS_BY_HOST_CACHE;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.springframework.web.context.request.RequestContextHolder.currentRequestAttributes;
 
 import com.google.common.net.InternetDomainName;
+import com.vi.tenantservice.api.context.RequestScopedContext;
 import java.util.Optional;
-import lombok.AllArgsConstructor;
-import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+/**
+ * Extracts the subdomain from the host of the current request.
+ *
+ * <p>The subdomains of the hosts seen are cached, as the service is reached by a fixed set of
+ * hostnames. The cache is bounded and evicts the hosts not used recently when full, so requests
+ * with arbitrary host headers cannot grow it, and cannot permanently keep the hostnames in regular
+ * use out of it.
+ */
 @Component
-@Setter
-@Slf4j
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SubdomainExtractor {
 
+  private static final String NO_SUBDOMAIN = "";
+
+  private final @NonNull CacheManager cacheManager;
+
   public Optional<String> getCurrentSubdomain() {
+    return RequestScopedContext.subdomain(this::extractCurrentSubdomain);
+  }
+
+  private Optional<String> extractCurrentSubdomain() {
     var request = ((ServletRequestAttributes) currentRequestAttributes()).getRequest();
-    String url = HttpUrlUtils.removeHttpPrefix(request.getServerName());
-    return getSubdomain(url);
+    return getSubdomainOfHost(request.getServerName());
+  }
+
+  Optional<String> getSubdomainOfHost(String serverName) {
+    var cachedSubdomain = subdomainsByHost().get(serverName, String.class);
+    if (cachedSubdomain != null) {
+      return Optional.of(cachedSubdomain).filter(StringUtils::isNotEmpty);
+    }
+    var subdomain = getSubdomain(HttpUrlUtils.removeHttpPrefix(serverName));
+    subdomainsByHost().put(serverName, subdomain.orElse(NO_SUBDOMAIN));
+    return subdomain;
   }
 
   public Optional<String> getSubdomain(String url) {
@@ -34,4 +61,13 @@ public class SubdomainExtractor {
     }
     return of(domain.parts().get(0));
   }
+
+  private Cache subdomainsByHost() {
+    var cache = cacheManager.getCache(SUBDOMAINS_BY_HOST_CACHE);
+    if (cache == null) {
+      throw new IllegalStateException(
+          "Cache %s is not configured".formatted(SUBDOMAINS_BY_HOST_CACHE));
+    }
+    return cache;
+  }
 }
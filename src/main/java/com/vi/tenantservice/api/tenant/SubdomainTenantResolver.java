@@ -1,8 +1,6 @@
 package com.vi.tenantservice.api.tenant;
 
-import static java.util.Optional.of;
-
-import com.vi.tenantservice.api.repository.TenantRepository;
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
 import lombok.AllArgsConstructor;
@@ -15,7 +13,7 @@ public class SubdomainTenantResolver implements TenantResolver {
 
   private final @NonNull SubdomainExtractor subdomainExtractor;
 
-  private final @NonNull TenantRepository tenantRepository;
+  private final @NonNull TenantSubdomainIndex tenantSubdomainIndex;
 
   @Override
   public Optional<Long> resolve(HttpServletRequest request) {
@@ -23,14 +21,7 @@ public class SubdomainTenantResolver implements TenantResolver {
   }
 
   private Optional<Long> resolveTenantFromSubdomain() {
-    Optional<String> currentSubdomain = subdomainExtractor.getCurrentSubdomain();
-    if (currentSubdomain.isPresent()) {
-      var tenant = tenantRepository.findBySubdomain(currentSubdomain.get());
-      if (tenant != null) {
-        return of(tenant.getId());
-      }
-    }
-    return Optional.empty();
+    return subdomainExtractor.getCurrentSubdomain().flatMap(tenantSubdomainIndex::findTenantId);
   }
 
   @Override
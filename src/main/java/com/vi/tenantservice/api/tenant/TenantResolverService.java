@@ -1,5 +1,6 @@
 package com.vi.tenantservice.api.tenant;
 
+import com.vi.tenantservice.api.context.RequestScopedContext;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
 import lombok.NonNull;
@@ -21,6 +22,10 @@ public class TenantResolverService {
   @NonNull SubdomainTenantResolver subdomainTenantResolver;
 
   public Optional<Long> tryResolve() {
+    return RequestScopedContext.tenantId(this::resolve);
+  }
+
+  private Optional<Long> resolve() {
     HttpServletRequest request = getHttpServletRequest();
     if (userIsAuthenticated(request)) {
       return accessTokenTenantResolver.resolve(request);
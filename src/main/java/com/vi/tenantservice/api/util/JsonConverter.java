@@ -5,32 +5,62 @@ import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import com.google.common.collect.Maps;
 import com.vi.tenantservice.api.model.TenantSettings;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Central JSON conversion. The mapper is configured once and the readers and writers derived from
+ * it are immutable and thread safe, so they are built once per target type and shared.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
 public class JsonConverter {
 
+  private static final ObjectMapper OBJECT_MAPPER =
+      new ObjectMapper()
+          .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+          .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+
+  private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+  private static final ObjectReader TENANT_SETTINGS_READER = readerFor(TenantSettings.class);
+
+  private static final ObjectReader STRING_MAP_READER =
+      OBJECT_MAPPER.readerFor(new TypeReference<Map<String, String>>() {});
+
+  private static final ObjectWriter WRITER = OBJECT_MAPPER.writer();
+
+  /**
+   * Returns the shared reader for the given target type.
+   *
+   * @param type the target type
+   * @return {@link ObjectReader}
+   */
+  public static ObjectReader readerFor(Class<?> type) {
+    return READERS.computeIfAbsent(type, OBJECT_MAPPER::readerFor);
+  }
+
   public static String convertToJson(Object object) {
     return serializeToJsonString(object);
   }
 
   public static TenantSettings convertFromJson(String jsonString) {
-    return deserializeFromJsonString(jsonString, TenantSettings.class);
+    return deserializeFromJsonString(jsonString, TENANT_SETTINGS_READER);
   }
 
   public static Map<String, String> convertMapFromJson(String jsonString) {
     if (jsonString == null) {
       return Maps.newHashMap();
     }
-    var result =
-        deserializeMapFromJsonString(jsonString, new TypeReference<Map<String, String>>() {});
+    Map<String, String> result = deserializeFromJsonString(jsonString, STRING_MAP_READER);
     if (result == null) {
       log.warn("Could not deserialize map from json.");
       return Maps.newHashMap();
@@ -38,26 +68,9 @@ public class JsonConverter {
     return result;
   }
 
-  private static <T> T deserializeFromJsonString(String jsonString, Class<T> clazz) {
-    try {
-      var objectMapper =
-          new ObjectMapper()
-              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-              .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-      return objectMapper.readValue(jsonString, clazz);
-    } catch (JsonProcessingException e) {
-      throw new RuntimeJsonMappingException(e.getMessage());
-    }
-  }
-
-  private static <T, Y> Map<T, Y> deserializeMapFromJsonString(
-      String jsonString, TypeReference<Map<T, Y>> typeReference) {
+  private static <T> T deserializeFromJsonString(String jsonString, ObjectReader reader) {
     try {
-      var objectMapper =
-          new ObjectMapper()
-              .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-              .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
-      return objectMapper.readValue(jsonString, typeReference);
+      return reader.readValue(jsonString);
     } catch (JsonProcessingException e) {
       throw new RuntimeJsonMappingException(e.getMessage());
     }
@@ -65,7 +78,7 @@ public class JsonConverter {
 
   private static <T> String serializeToJsonString(T object) {
     try {
-      return new ObjectMapper().writeValueAsString(object);
+      return WRITER.writeValueAsString(object);
     } catch (JsonProcessingException e) {
       throw new RuntimeJsonMappingException(e.getMessage());
     }
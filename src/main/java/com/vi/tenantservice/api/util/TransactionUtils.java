@@ -0,0 +1,31 @@
+package com.vi.tenantservice.api.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Helpers for work that depends on the outcome of the current transaction. */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TransactionUtils {
+
+  /**
+   * Runs the given action once the current transaction is committed, so that it never exposes
+   * changes that are rolled back. Without a transaction the action runs right away.
+   *
+   * @param action the action
+   */
+  public static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+}
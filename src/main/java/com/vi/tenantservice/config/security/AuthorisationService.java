@@ -2,10 +2,14 @@ package com.vi.tenantservice.config.security;
 
 import com.google.common.collect.Lists;
 import com.vi.tenantservice.api.authorisation.RoleAuthorizationAuthorityMapper;
+import com.vi.tenantservice.api.context.RequestScopedContext;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -21,13 +25,19 @@ public class AuthorisationService {
       new RoleAuthorizationAuthorityMapper();
 
   public boolean hasAuthority(String authorityName) {
-    return getAuthentication().getAuthorities().stream()
-        .anyMatch(role -> authorityName.equals(role.getAuthority()));
+    return RequestScopedContext.authorities(this::getAuthorityNames).contains(authorityName);
   }
 
   public boolean hasRole(String roleName) {
-    var roles = extractRealmRoles(getPrincipal());
-    return roles != null && roles.contains(roleName);
+    return RequestScopedContext.roles(() -> Set.copyOf(extractRealmRoles(getPrincipal())))
+        .contains(roleName);
+  }
+
+  private Set<String> getAuthorityNames() {
+    return getAuthentication().getAuthorities().stream()
+        .map(GrantedAuthority::getAuthority)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toUnmodifiableSet());
   }
 
   public Optional<Long> findTenantIdInAccessToken() {
@@ -54,8 +64,7 @@ public class AuthorisationService {
 
   public Collection<GrantedAuthority> extractRealmAuthorities(Jwt jwt) {
     var roles = extractRealmRoles(jwt);
-    return roleAuthorizationAuthorityMapper.mapAuthorities(
-        roles.stream().collect(Collectors.toSet()));
+    return roleAuthorizationAuthorityMapper.mapAuthorities(new HashSet<>(roles));
   }
 
   public Collection<String> extractRealmRoles(Jwt jwt) {
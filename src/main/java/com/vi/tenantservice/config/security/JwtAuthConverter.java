@@ -1,8 +1,8 @@
 package com.vi.tenantservice.config.security;
 
 import java.util.Collection;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.HashSet;
+import java.util.Set;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.convert.converter.Converter;
@@ -40,14 +40,13 @@ public class JwtAuthConverter implements Converter<Jwt, AbstractAuthenticationTo
   private Collection<GrantedAuthority> getGrantedAuthorities(Jwt jwt) {
     Collection<GrantedAuthority> convertedGrantedAuthorities =
         jwtGrantedAuthoritiesConverter.convert(jwt);
-    if (convertedGrantedAuthorities != null) {
-      return Stream.concat(
-              convertedGrantedAuthorities.stream(),
-              authorisationService.extractRealmAuthorities(jwt).stream())
-          .collect(Collectors.toSet());
-    } else {
-      return authorisationService.extractRealmAuthorities(jwt);
+    var realmAuthorities = authorisationService.extractRealmAuthorities(jwt);
+    if (convertedGrantedAuthorities == null || convertedGrantedAuthorities.isEmpty()) {
+      return realmAuthorities;
     }
+    Set<GrantedAuthority> grantedAuthorities = new HashSet<>(convertedGrantedAuthorities);
+    grantedAuthorities.addAll(realmAuthorities);
+    return grantedAuthorities;
   }
 
   private String getPrincipalClaimName(Jwt jwt) {
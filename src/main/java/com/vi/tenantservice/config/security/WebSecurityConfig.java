@@ -47,6 +47,8 @@ public class WebSecurityConfig {
                     .authenticated()
                     .requestMatchers(new AntPathRequestMatcher("/tenantadmin/*"))
                     .authenticated()
+                    .requestMatchers(new AntPathRequestMatcher("/tenantadmin/*/provisioning"))
+                    .authenticated()
                     .requestMatchers(new AntPathRequestMatcher("/tenant/public/**"))
                     .permitAll()
                     .requestMatchers(SpringFoxConfig.WHITE_LIST)
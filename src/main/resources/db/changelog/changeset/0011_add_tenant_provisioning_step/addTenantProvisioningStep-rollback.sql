@@ -0,0 +1,2 @@
+DROP SEQUENCE tenantservice.sequence_tenant_provisioning_step;
+DROP TABLE tenantservice.`tenant_provisioning_step`;
@@ -0,0 +1,26 @@
+CREATE TABLE tenantservice.`tenant_provisioning_step` (
+  `id` bigint(21) NOT NULL,
+  `tenant_id` bigint(21) NOT NULL,
+  `step_type` varchar(64) NOT NULL,
+  `payload` varchar(255),
+  `status` varchar(16) NOT NULL,
+  `attempts` int NOT NULL DEFAULT 0,
+  `next_attempt_date` datetime NOT NULL,
+  `last_error` varchar(1024),
+  `create_date` datetime NOT NULL DEFAULT (UTC_TIMESTAMP),
+  `update_date` datetime NOT NULL DEFAULT (UTC_TIMESTAMP),
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8 COLLATE=utf8_unicode_ci;
+
+CREATE INDEX idx_tenant_provisioning_step_status_next_attempt
+ON tenantservice.`tenant_provisioning_step` (`status`, `next_attempt_date`);
+
+CREATE INDEX idx_tenant_provisioning_step_tenant_id
+ON tenantservice.`tenant_provisioning_step` (`tenant_id`);
+
+CREATE SEQUENCE tenantservice.sequence_tenant_provisioning_step
+INCREMENT BY 1
+MINVALUE = 1
+NOMAXVALUE
+START WITH 1
+CACHE 0;
@@ -0,0 +1,82 @@
+package com.vi.tenantservice.api.authorisation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.api.authorisation.Authority.AuthorityValue;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+class RoleAuthorizationAuthorityMapperTest {
+
+  private final RoleAuthorizationAuthorityMapper roleAuthorizationAuthorityMapper =
+      new RoleAuthorizationAuthorityMapper();
+
+  @Test
+  void mapAuthorities_Should_ReturnUnionOfAuthoritiesOfKnownRoles() {
+    // when
+    var authorities =
+        roleAuthorizationAuthorityMapper.mapAuthorities(
+            Set.of("single-tenant-admin", "restricted-agency-admin", "offline_access"));
+
+    // then
+    assertThat(authorities)
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrder(AuthorityValue.UPDATE_TENANT, AuthorityValue.GET_TENANT);
+  }
+
+  @Test
+  void mapAuthorities_Should_ReturnAllAuthoritiesOfTenantAdmin() {
+    // when
+    var authorities = roleAuthorizationAuthorityMapper.mapAuthorities(Set.of("tenant-admin"));
+
+    // then
+    assertThat(authorities)
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrderElementsOf(
+            Authority.getAuthoritiesByUserRole(UserRole.TENANT_ADMIN));
+  }
+
+  @Test
+  void mapAuthorities_Should_ReturnEmptySet_When_NoRoleIsKnown() {
+    // when
+    var authorities = roleAuthorizationAuthorityMapper.mapAuthorities(Set.of("offline_access"));
+
+    // then
+    assertThat(authorities).isEmpty();
+  }
+
+  @Test
+  void mapAuthorities_Should_ServeSameAuthorities_When_RoleSetIsMappedAgain() {
+    // given
+    var roleNames = new HashSet<>(Set.of("single-tenant-admin"));
+    var authorities = roleAuthorizationAuthorityMapper.mapAuthorities(roleNames);
+    roleNames.add("tenant-admin");
+
+    // when
+    var cachedAuthorities =
+        roleAuthorizationAuthorityMapper.mapAuthorities(Set.of("single-tenant-admin"));
+
+    // then
+    assertThat(cachedAuthorities)
+        .isSameAs(authorities)
+        .containsExactlyInAnyOrder(
+            new SimpleGrantedAuthority(AuthorityValue.UPDATE_TENANT),
+            new SimpleGrantedAuthority(AuthorityValue.GET_TENANT));
+  }
+
+  @Test
+  void mapAuthorities_Should_MapLowerCasedNamesOfGrantedAuthorities() {
+    // when
+    var authorities =
+        roleAuthorizationAuthorityMapper.mapAuthorities(
+            Set.of(new SimpleGrantedAuthority("SINGLE-TENANT-ADMIN")));
+
+    // then
+    assertThat(authorities)
+        .extracting(GrantedAuthority::getAuthority)
+        .containsExactlyInAnyOrder(AuthorityValue.UPDATE_TENANT, AuthorityValue.GET_TENANT);
+  }
+}
@@ -0,0 +1,43 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.COMPILED_TEMPLATES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import freemarker.template.Configuration;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class CompiledTemplateCacheTest {
+
+  private CompiledTemplateCache compiledTemplateCache;
+
+  @BeforeEach
+  void setUp() {
+    compiledTemplateCache =
+        new CompiledTemplateCache(
+            new ConcurrentMapCacheManager(COMPILED_TEMPLATES_CACHE),
+            new Configuration(Configuration.VERSION_2_3_32));
+  }
+
+  @Test
+  void get_Should_ReturnSameCompiledTemplate_When_ContentIsEqual() throws IOException {
+    // when
+    var template = compiledTemplateCache.get("Hello ${name}");
+
+    // then
+    assertThat(compiledTemplateCache.get(new String("Hello ${name}"))).isSameAs(template);
+  }
+
+  @Test
+  void get_Should_CompileSeparateTemplates_When_ContentDiffers() throws IOException {
+    // when
+    var template = compiledTemplateCache.get("Hello ${name}");
+    var otherTemplate = compiledTemplateCache.get("Bye ${name}");
+
+    // then
+    assertThat(otherTemplate).isNotSameAs(template);
+    assertThat(otherTemplate.getName()).isNotEqualTo(template.getName());
+  }
+}
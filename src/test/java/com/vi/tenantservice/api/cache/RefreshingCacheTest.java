@@ -0,0 +1,275 @@
+package com.vi.tenantservice.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RefreshingCacheTest {
+
+  private static final Duration TTL = Duration.ofSeconds(60);
+  private static final Duration REFRESH_AFTER = Duration.ofSeconds(45);
+  private static final Duration STALE_IF_ERROR = Duration.ofSeconds(300);
+  private static final int MAX_ENTRIES = 2;
+
+  private final MutableClock clock = new MutableClock();
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private RefreshingCache<String, String> refreshingCache;
+
+  @AfterEach
+  void tearDown() {
+    refreshingCache.close();
+  }
+
+  @Test
+  void get_Should_LoadOnce_When_ValueIsFresh() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+
+    // when
+    var first = refreshingCache.get("key");
+    clock.advance(Duration.ofSeconds(30));
+    var second = refreshingCache.get("key");
+
+    // then
+    assertThat(first).isEqualTo("key1");
+    assertThat(second).isEqualTo("key1");
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void get_Should_ServeCurrentValueAndRefreshInBackground_When_RefreshIntervalPassed() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+    refreshingCache.get("key");
+    clock.advance(Duration.ofSeconds(50));
+
+    // when
+    var value = refreshingCache.get("key");
+
+    // then
+    assertThat(value).isEqualTo("key1");
+    await().atMost(5, TimeUnit.SECONDS).until(() -> "key2".equals(refreshingCache.get("key")));
+  }
+
+  @Test
+  void get_Should_LoadAgain_When_ValueExpired() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+    refreshingCache.get("key");
+    clock.advance(TTL);
+
+    // when
+    var value = refreshingCache.get("key");
+
+    // then
+    assertThat(value).isEqualTo("key2");
+  }
+
+  @Test
+  void get_Should_LoadOnce_When_CalledConcurrentlyForMissingKey() throws Exception {
+    // given
+    var loadStarted = new CountDownLatch(1);
+    var releaseLoad = new CountDownLatch(1);
+    refreshingCache =
+        cache(
+            key -> {
+              loads.incrementAndGet();
+              loadStarted.countDown();
+              awaitRelease(releaseLoad);
+              return "value";
+            });
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    List<Future<String>> results = new ArrayList<>();
+
+    // when
+    try {
+      results.add(executorService.submit(() -> refreshingCache.get("key")));
+      loadStarted.await(5, TimeUnit.SECONDS);
+      for (int i = 0; i < 7; i++) {
+        results.add(executorService.submit(() -> refreshingCache.get("key")));
+      }
+      Thread.sleep(100);
+      releaseLoad.countDown();
+
+      // then
+      for (Future<String> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+      }
+      assertThat(loads).hasValue(1);
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void get_Should_ServeStaleValue_When_LoadFailsWithinStalePeriod() {
+    // given
+    var failing = new AtomicBoolean();
+    refreshingCache =
+        cache(
+            key -> {
+              if (failing.get()) {
+                throw new IllegalStateException("unavailable");
+              }
+              return key + loads.incrementAndGet();
+            });
+    refreshingCache.get("key");
+    failing.set(true);
+    clock.advance(TTL.plusSeconds(10));
+
+    // when
+    var value = refreshingCache.get("key");
+
+    // then
+    assertThat(value).isEqualTo("key1");
+  }
+
+  @Test
+  void get_Should_Throw_When_LoadFailsAfterStalePeriod() {
+    // given
+    var failing = new AtomicBoolean();
+    refreshingCache =
+        cache(
+            key -> {
+              if (failing.get()) {
+                throw new IllegalStateException("unavailable");
+              }
+              return key;
+            });
+    refreshingCache.get("key");
+    failing.set(true);
+    clock.advance(TTL.plus(STALE_IF_ERROR));
+
+    // then
+    assertThatThrownBy(() -> refreshingCache.get("key"))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("unavailable");
+  }
+
+  @Test
+  void invalidateAll_Should_LoadAgainOnNextAccess() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+    refreshingCache.get("key");
+
+    // when
+    refreshingCache.invalidateAll();
+
+    // then
+    assertThat(refreshingCache.get("key")).isEqualTo("key2");
+  }
+
+  @Test
+  void get_Should_ServeInvalidatedValue_When_LoadFails() {
+    // given
+    var failing = new AtomicBoolean();
+    refreshingCache =
+        cache(
+            key -> {
+              if (failing.get()) {
+                throw new IllegalStateException("unavailable");
+              }
+              return key + loads.incrementAndGet();
+            });
+    refreshingCache.get("key");
+    refreshingCache.invalidateAll();
+    failing.set(true);
+
+    // when
+    var value = refreshingCache.get("key");
+
+    // then
+    assertThat(value).isEqualTo("key1");
+  }
+
+  @Test
+  void get_Should_LoadFurtherKeysWithoutCachingThem_When_CacheIsFull() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+    refreshingCache.get("first");
+    refreshingCache.get("second");
+
+    // when
+    var third = refreshingCache.get("third");
+    var thirdAgain = refreshingCache.get("third");
+    var first = refreshingCache.get("first");
+
+    // then
+    assertThat(third).isEqualTo("third3");
+    assertThat(thirdAgain).isEqualTo("third4");
+    assertThat(first).isEqualTo("first1");
+  }
+
+  @Test
+  void get_Should_DropEntriesPastStalePeriod_When_CacheIsFull() {
+    // given
+    refreshingCache = cache(key -> key + loads.incrementAndGet());
+    refreshingCache.get("first");
+    refreshingCache.get("second");
+    clock.advance(TTL.plus(STALE_IF_ERROR));
+
+    // when
+    refreshingCache.get("third");
+    var third = refreshingCache.get("third");
+
+    // then
+    assertThat(third).isEqualTo("third3");
+  }
+
+  private RefreshingCache<String, String> cache(Function<String, String> loader) {
+    return new RefreshingCache<>(
+        "test", loader, TTL, REFRESH_AFTER, STALE_IF_ERROR, MAX_ENTRIES, clock);
+  }
+
+  private static void awaitRelease(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private volatile Instant instant = Instant.parse("2024-01-01T10:00:00Z");
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
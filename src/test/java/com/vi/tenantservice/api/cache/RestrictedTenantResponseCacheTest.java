@@ -0,0 +1,82 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_RESPONSES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RestrictedTenantResponseCacheTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private RestrictedTenantResponseCache restrictedTenantResponseCache;
+
+  @BeforeEach
+  void setUp() {
+    restrictedTenantResponseCache =
+        new RestrictedTenantResponseCache(
+            new ConcurrentMapCacheManager(RESTRICTED_TENANT_RESPONSES_CACHE), objectMapper);
+    ReflectionTestUtils.setField(restrictedTenantResponseCache, "gzipEnabled", true);
+  }
+
+  @Test
+  void get_Should_SerializeTenantOnlyOnce_When_CalledRepeatedlyWithSameETag() throws IOException {
+    // given
+    var builds = new AtomicInteger();
+    var restrictedTenant = new RestrictedTenantDTO(1L, "name");
+
+    // when
+    restrictedTenantResponseCache.get(
+        "\"etag\"",
+        () -> {
+          builds.incrementAndGet();
+          return restrictedTenant;
+        });
+    var serializedTenant =
+        restrictedTenantResponseCache.get(
+            "\"etag\"",
+            () -> {
+              builds.incrementAndGet();
+              return restrictedTenant;
+            });
+
+    // then
+    assertThat(builds).hasValue(1);
+    assertThat(serializedTenant.json()).isEqualTo(objectMapper.writeValueAsBytes(restrictedTenant));
+  }
+
+  @Test
+  void get_Should_ProvideGzippedJson_When_GzipIsEnabled() throws IOException {
+    // when
+    var serializedTenant =
+        restrictedTenantResponseCache.get("\"etag\"", () -> new RestrictedTenantDTO(1L, "name"));
+
+    // then
+    try (var gzipInputStream =
+        new GZIPInputStream(new ByteArrayInputStream(serializedTenant.gzippedJson()))) {
+      assertThat(gzipInputStream.readAllBytes()).isEqualTo(serializedTenant.json());
+    }
+  }
+
+  @Test
+  void get_Should_NotProvideGzippedJson_When_GzipIsDisabled() {
+    // given
+    ReflectionTestUtils.setField(restrictedTenantResponseCache, "gzipEnabled", false);
+
+    // when
+    var serializedTenant =
+        restrictedTenantResponseCache.get("\"etag\"", () -> new RestrictedTenantDTO(1L, "name"));
+
+    // then
+    assertThat(serializedTenant.gzippedJson()).isNull();
+  }
+}
@@ -0,0 +1,200 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.RESTRICTED_TENANT_SNAPSHOTS_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.converter.TenantConverter;
+import com.vi.tenantservice.api.model.RestrictedTenantDTO;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.service.TemplateService;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class RestrictedTenantSnapshotCacheTest {
+
+  private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+  @Mock private TenantConverter tenantConverter;
+
+  @Mock private TemplateService templateService;
+
+  private RestrictedTenantSnapshotCache restrictedTenantSnapshotCache;
+
+  @BeforeEach
+  void setUp() throws TemplateDescriptionServiceException {
+    Mockito.lenient().when(templateService.getTemplateVersion()).thenReturn(1L);
+    restrictedTenantSnapshotCache =
+        new RestrictedTenantSnapshotCache(
+            new ConcurrentMapCacheManager(RESTRICTED_TENANT_SNAPSHOTS_CACHE),
+            tenantConverter,
+            new TenantSettingsCache(new ConcurrentMapCacheManager(TENANT_SETTINGS_CACHE)),
+            templateService);
+    ReflectionTestUtils.setField(restrictedTenantSnapshotCache, "snapshotTtlSeconds", 3600L);
+  }
+
+  @Test
+  void get_Should_BuildSnapshotOnceAndServeItAfterwards_When_TenantIsUnchanged() {
+    // given
+    var tenant = tenant(UPDATE_DATE, null);
+    var restrictedTenant = new RestrictedTenantDTO().name("de");
+    when(tenantConverter.toRestrictedTenantDTO(tenant, "de")).thenReturn(restrictedTenant);
+
+    // when
+    var first = restrictedTenantSnapshotCache.get(tenant, "de");
+    var second = restrictedTenantSnapshotCache.get(tenant, "de");
+
+    // then
+    assertThat(first).isSameAs(restrictedTenant);
+    assertThat(second).isSameAs(restrictedTenant);
+    verify(tenantConverter, times(1)).toRestrictedTenantDTO(tenant, "de");
+  }
+
+  @Test
+  void get_Should_RebuildSnapshot_When_TenantUpdateDateDiffers() {
+    // given
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO());
+    restrictedTenantSnapshotCache.get(tenant(UPDATE_DATE, null), "de");
+
+    // when
+    restrictedTenantSnapshotCache.get(tenant(UPDATE_DATE.plusSeconds(1), null), "de");
+
+    // then
+    verify(tenantConverter, times(2)).toRestrictedTenantDTO(any(), anyString());
+  }
+
+  @Test
+  void get_Should_RebuildSnapshot_When_TemplatesWereReloaded()
+      throws TemplateDescriptionServiceException {
+    // given
+    var tenant = tenant(UPDATE_DATE, null);
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO());
+    restrictedTenantSnapshotCache.get(tenant, "de");
+    when(templateService.getTemplateVersion()).thenReturn(2L);
+
+    // when
+    restrictedTenantSnapshotCache.get(tenant, "de");
+    restrictedTenantSnapshotCache.get(tenant, "de");
+
+    // then
+    verify(tenantConverter, times(2)).toRestrictedTenantDTO(tenant, "de");
+  }
+
+  @Test
+  void refresh_Should_BuildSnapshotsForAllActiveLanguages() {
+    // given
+    var tenant = tenant(UPDATE_DATE, "{\"activeLanguages\":[\"de\",\"en\"]}");
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO().name(invocation.getArgument(1)));
+
+    // when
+    restrictedTenantSnapshotCache.refresh(tenant);
+
+    // then
+    assertThat(restrictedTenantSnapshotCache.get(tenant, "de").getName()).isEqualTo("de");
+    assertThat(restrictedTenantSnapshotCache.get(tenant, "en").getName()).isEqualTo("en");
+    verify(tenantConverter).toRestrictedTenantDTO(tenant, "de");
+    verify(tenantConverter).toRestrictedTenantDTO(tenant, "en");
+    verifyNoMoreInteractions(tenantConverter);
+  }
+
+  @Test
+  void refresh_Should_InvalidateSnapshotOfPreviousWrite_When_UpdateDateIsUnchanged() {
+    // given
+    var tenant = tenant(UPDATE_DATE, null);
+    var updatedTenant = tenant.toBuilder().name("updated").build();
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(
+            invocation ->
+                new RestrictedTenantDTO().name(invocation.<TenantEntity>getArgument(0).getName()));
+    restrictedTenantSnapshotCache.get(tenant, "de");
+
+    // when
+    restrictedTenantSnapshotCache.refresh(updatedTenant);
+
+    // then
+    assertThat(restrictedTenantSnapshotCache.get(updatedTenant, "de").getName())
+        .isEqualTo("updated");
+  }
+
+  @Test
+  void evict_Should_InvalidateSnapshots() {
+    // given
+    var tenant = tenant(UPDATE_DATE, null);
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO());
+    restrictedTenantSnapshotCache.get(tenant, "de");
+
+    // when
+    restrictedTenantSnapshotCache.evict(tenant);
+    restrictedTenantSnapshotCache.get(tenant, "de");
+
+    // then
+    verify(tenantConverter, times(2)).toRestrictedTenantDTO(tenant, "de");
+  }
+
+  @Test
+  void refresh_Should_ForgetWriteGenerationsOfOtherTenants_When_TheirSnapshotsHaveExpired() {
+    // given
+    ReflectionTestUtils.setField(restrictedTenantSnapshotCache, "snapshotTtlSeconds", 0L);
+    var tenant = tenant(UPDATE_DATE, null);
+    var otherTenant = tenant.toBuilder().id(2L).build();
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO());
+    restrictedTenantSnapshotCache.refresh(tenant);
+
+    // when
+    restrictedTenantSnapshotCache.refresh(otherTenant);
+
+    // then
+    assertThat(writeGenerations()).containsOnlyKeys(2L);
+    restrictedTenantSnapshotCache.get(tenant, "de");
+    verify(tenantConverter, times(2)).toRestrictedTenantDTO(tenant, "de");
+  }
+
+  @Test
+  void get_Should_NotRememberWriteGeneration_When_TenantWasNotWritten() {
+    // given
+    when(tenantConverter.toRestrictedTenantDTO(any(), anyString()))
+        .thenAnswer(invocation -> new RestrictedTenantDTO());
+
+    // when
+    restrictedTenantSnapshotCache.get(tenant(UPDATE_DATE, null), "de");
+
+    // then
+    assertThat(writeGenerations()).isEmpty();
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Long, ?> writeGenerations() {
+    return (Map<Long, ?>)
+        ReflectionTestUtils.getField(restrictedTenantSnapshotCache, "writeGenerations");
+  }
+
+  private TenantEntity tenant(LocalDateTime updateDate, String settings) {
+    return TenantEntity.builder()
+        .id(1L)
+        .name("name")
+        .updateDate(updateDate)
+        .settings(settings)
+        .build();
+  }
+}
@@ -0,0 +1,87 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANTS_BY_ID_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_IDS_BY_SUBDOMAIN_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TenantCacheTest {
+
+  private TenantCache tenantCache;
+
+  @BeforeEach
+  void setUp() {
+    tenantCache =
+        new TenantCache(
+            new ConcurrentMapCacheManager(TENANTS_BY_ID_CACHE, TENANT_IDS_BY_SUBDOMAIN_CACHE));
+  }
+
+  @Test
+  void findById_Should_ReturnCopyOfCachedTenant() {
+    // given
+    var tenant = tenant(1L, "subdomain");
+    tenantCache.put(tenant);
+
+    // when
+    var cachedTenant = tenantCache.findById(1L);
+
+    // then
+    assertThat(cachedTenant).contains(tenant);
+    assertThat(cachedTenant.orElseThrow()).isNotSameAs(tenant);
+  }
+
+  @Test
+  void findById_Should_NotReflectModificationsOfReturnedTenant() {
+    // given
+    tenantCache.put(tenant(1L, "subdomain"));
+
+    // when
+    tenantCache.findById(1L).orElseThrow().setName("changed");
+
+    // then
+    assertThat(tenantCache.findById(1L).orElseThrow().getName()).isEqualTo("name");
+  }
+
+  @Test
+  void findBySubdomain_Should_ReturnCachedTenant() {
+    // given
+    tenantCache.put(tenant(1L, "subdomain"));
+
+    // when, then
+    assertThat(tenantCache.findBySubdomain("subdomain").orElseThrow().getId()).isEqualTo(1L);
+    assertThat(tenantCache.findBySubdomain("other")).isEmpty();
+  }
+
+  @Test
+  void evict_Should_RemoveTenantUnderIdAndPreviouslyCachedSubdomain_When_SubdomainChanged() {
+    // given
+    tenantCache.put(tenant(1L, "old"));
+
+    // when
+    tenantCache.evict(tenant(1L, "new"));
+
+    // then
+    assertThat(tenantCache.findById(1L)).isEmpty();
+    assertThat(tenantCache.findBySubdomain("old")).isEmpty();
+    assertThat(tenantCache.findBySubdomain("new")).isEmpty();
+  }
+
+  @Test
+  void findBySubdomain_Should_ReturnEmpty_When_CachedTenantHasDifferentSubdomain() {
+    // given
+    tenantCache.put(tenant(1L, "old"));
+    tenantCache.put(tenant(1L, "new"));
+
+    // when, then
+    assertThat(tenantCache.findBySubdomain("old")).isEmpty();
+    assertThat(tenantCache.findBySubdomain("new")).isPresent();
+  }
+
+  private TenantEntity tenant(Long id, String subdomain) {
+    return TenantEntity.builder().id(id).name("name").subdomain(subdomain).build();
+  }
+}
@@ -0,0 +1,53 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class TenantSettingsCacheTest {
+
+  private static final String SETTINGS_JSON =
+      "{\"featureTopicsEnabled\":true,\"activeLanguages\":[\"de\",\"en\"]}";
+
+  private ConcurrentMapCacheManager cacheManager;
+
+  private TenantSettingsCache tenantSettingsCache;
+
+  @BeforeEach
+  void setUp() {
+    cacheManager = new ConcurrentMapCacheManager(TENANT_SETTINGS_CACHE);
+    tenantSettingsCache = new TenantSettingsCache(cacheManager);
+  }
+
+  @Test
+  void get_Should_ParseSettingsOnceAndCacheThemByJson() {
+    // when
+    var tenantSettings = tenantSettingsCache.get(SETTINGS_JSON);
+    var cachedSettings = cacheManager.getCache(TENANT_SETTINGS_CACHE).get(SETTINGS_JSON).get();
+
+    // then
+    assertThat(tenantSettings.isFeatureTopicsEnabled()).isTrue();
+    assertThat(tenantSettings.getActiveLanguages()).containsExactly("de", "en");
+    assertThat(tenantSettingsCache.get(SETTINGS_JSON)).isEqualTo(tenantSettings);
+    assertThat(cacheManager.getCache(TENANT_SETTINGS_CACHE).get(SETTINGS_JSON).get())
+        .isSameAs(cachedSettings);
+  }
+
+  @Test
+  void get_Should_NotReflectModificationsOfReturnedSettings() {
+    // given
+    var tenantSettings = tenantSettingsCache.get(SETTINGS_JSON);
+
+    // when
+    tenantSettings.setFeatureTopicsEnabled(false);
+    tenantSettings.getActiveLanguages().add("fr");
+
+    // then
+    var cachedSettings = tenantSettingsCache.get(SETTINGS_JSON);
+    assertThat(cachedSettings.isFeatureTopicsEnabled()).isTrue();
+    assertThat(cachedSettings.getActiveLanguages()).containsExactly("de", "en");
+  }
+}
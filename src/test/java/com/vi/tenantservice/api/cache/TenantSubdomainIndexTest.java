@@ -0,0 +1,283 @@
+package com.vi.tenantservice.api.cache;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_LOOKUP_MISSES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantEntity.TenantSubdomain;
+import com.vi.tenantservice.api.repository.TenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@ExtendWith(MockitoExtension.class)
+class TenantSubdomainIndexTest {
+
+  @Mock TenantRepository tenantRepository;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private TenantSubdomainIndex tenantSubdomainIndex;
+
+  @BeforeEach
+  void setUp() {
+    tenantSubdomainIndex =
+        new TenantSubdomainIndex(
+            tenantRepository,
+            new ConcurrentMapCacheManager(TENANT_LOOKUP_MISSES_CACHE),
+            meterRegistry);
+  }
+
+  @Test
+  void findTenantId_Should_ResolveWithoutDatabase_When_IndexIsLoaded() {
+    // given
+    when(tenantRepository.findAllSubdomains())
+        .thenReturn(List.of(tenantSubdomain(1L, "first"), tenantSubdomain(2L, "second")));
+    tenantSubdomainIndex.load();
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("second");
+    var unknownTenantId = tenantSubdomainIndex.findTenantId("unknown");
+
+    // then
+    assertThat(tenantId).contains(2L);
+    assertThat(unknownTenantId).isEmpty();
+    verify(tenantRepository, never()).findBySubdomain(anyString());
+  }
+
+  @Test
+  void findTenantId_Should_IgnoreCase_When_IndexIsLoaded() {
+    // given
+    when(tenantRepository.findAllSubdomains())
+        .thenReturn(List.of(tenantSubdomain(1L, "First"), tenantSubdomain(2L, "first")));
+    tenantSubdomainIndex.load();
+    tenantSubdomainIndex.put(tenant(3L, "Third"));
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("THIRD");
+    when(tenantRepository.findBySubdomain("FIRST")).thenReturn(tenant(1L, "First"));
+    var sharedTenantId = tenantSubdomainIndex.findTenantId("FIRST");
+
+    // then
+    assertThat(tenantId).contains(3L);
+    assertThat(sharedTenantId).contains(1L);
+    verify(tenantRepository, never()).findBySubdomain("THIRD");
+  }
+
+  @Test
+  void findTenantId_Should_FallBackToDatabase_When_IndexIsNotLoaded() {
+    // given
+    when(tenantRepository.findBySubdomain("first")).thenReturn(tenant(1L, "first"));
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("first");
+
+    // then
+    assertThat(tenantId).contains(1L);
+  }
+
+  @Test
+  void findTenantId_Should_FallBackToDatabase_When_SubdomainIsShared() {
+    // given
+    when(tenantRepository.findAllSubdomains())
+        .thenReturn(List.of(tenantSubdomain(1L, "shared"), tenantSubdomain(2L, "shared")));
+    tenantSubdomainIndex.load();
+    when(tenantRepository.findBySubdomain("shared")).thenReturn(tenant(2L, "shared"));
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("shared");
+
+    // then
+    assertThat(tenantId).contains(2L);
+  }
+
+  @Test
+  void findTenantId_Should_LookUpAndIndexTenant_When_ItIsMissingInIndex() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+    when(tenantRepository.findSubdomainsBySubdomain("created"))
+        .thenReturn(List.of(tenantSubdomain(2L, "created")));
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("created");
+    var indexedTenantId = tenantSubdomainIndex.findTenantId("created");
+
+    // then
+    assertThat(tenantId).contains(2L);
+    assertThat(indexedTenantId).contains(2L);
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isTrue();
+    verify(tenantRepository, times(1)).findSubdomainsBySubdomain("created");
+  }
+
+  @Test
+  void findTenantId_Should_RememberMiss_When_SubdomainIsUnknown() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+
+    // when
+    var tenantId = tenantSubdomainIndex.findTenantId("unknown");
+    var repeatedTenantId = tenantSubdomainIndex.findTenantId("UNKNOWN");
+
+    // then
+    assertThat(tenantId).isEmpty();
+    assertThat(repeatedTenantId).isEmpty();
+    verify(tenantRepository, times(1)).findSubdomainsBySubdomain(anyString());
+  }
+
+  @Test
+  void put_Should_ForgetMiss_When_TenantIsCreated() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+    tenantSubdomainIndex.findTenantId("created");
+    tenantSubdomainIndex.containsTenant(2L);
+
+    // when
+    tenantSubdomainIndex.put(tenant(2L, "created"));
+
+    // then
+    assertThat(tenantSubdomainIndex.findTenantId("created")).contains(2L);
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isTrue();
+  }
+
+  @Test
+  void put_Should_MoveTenantToNewSubdomain() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "old")));
+    tenantSubdomainIndex.load();
+
+    // when
+    tenantSubdomainIndex.put(tenant(1L, "new"));
+    tenantSubdomainIndex.put(tenant(2L, "created"));
+
+    // then
+    assertThat(tenantSubdomainIndex.findTenantId("old")).isEmpty();
+    assertThat(tenantSubdomainIndex.findTenantId("new")).contains(1L);
+    assertThat(tenantSubdomainIndex.findTenantId("created")).contains(2L);
+  }
+
+  @Test
+  void remove_Should_RemoveTenant() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+
+    // when
+    tenantSubdomainIndex.remove(tenant(1L, "first"));
+
+    // then
+    assertThat(tenantSubdomainIndex.findTenantId("first")).isEmpty();
+  }
+
+  @Test
+  void containsTenant_Should_KnowIndexedTenantsWithoutDatabase_When_IndexIsLoaded() {
+    // given
+    when(tenantRepository.findAllSubdomains())
+        .thenReturn(List.of(tenantSubdomain(1L, "first"), tenantSubdomain(2L, null)));
+    tenantSubdomainIndex.load();
+
+    // then
+    assertThat(tenantSubdomainIndex.containsTenant(1L)).isTrue();
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isTrue();
+    assertThat(tenantSubdomainIndex.containsTenant(3L)).isFalse();
+    verify(tenantRepository, never()).existsById(any());
+  }
+
+  @Test
+  void containsTenant_Should_LookUpAndIndexTenant_When_ItIsMissingInIndex() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+    when(tenantRepository.findSubdomainById(2L))
+        .thenReturn(Optional.of(tenantSubdomain(2L, "created")));
+
+    // then
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isTrue();
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isTrue();
+    assertThat(tenantSubdomainIndex.findTenantId("created")).contains(2L);
+    verify(tenantRepository, times(1)).findSubdomainById(2L);
+  }
+
+  @Test
+  void containsTenant_Should_RememberMiss_When_TenantIsUnknown() {
+    // given
+    when(tenantRepository.findAllSubdomains()).thenReturn(List.of(tenantSubdomain(1L, "first")));
+    tenantSubdomainIndex.load();
+
+    // then
+    assertThat(tenantSubdomainIndex.containsTenant(3L)).isFalse();
+    assertThat(tenantSubdomainIndex.containsTenant(3L)).isFalse();
+    verify(tenantRepository, times(1)).findSubdomainById(3L);
+    verify(tenantRepository, never()).existsById(any());
+  }
+
+  @Test
+  void containsTenant_Should_FallBackToDatabase_When_IndexIsNotLoaded() {
+    // given
+    when(tenantRepository.existsById(1L)).thenReturn(true);
+
+    // then
+    assertThat(tenantSubdomainIndex.containsTenant(1L)).isTrue();
+    assertThat(tenantSubdomainIndex.containsTenant(2L)).isFalse();
+  }
+
+  @Test
+  void checkForDrift_Should_ReplaceIndexAndCountDrift_When_DatabaseChangedElsewhere() {
+    // given
+    when(tenantRepository.findAllSubdomains())
+        .thenReturn(List.of(tenantSubdomain(1L, "first")))
+        .thenReturn(List.of(tenantSubdomain(1L, "first")))
+        .thenReturn(List.of(tenantSubdomain(1L, "first"), tenantSubdomain(2L, "second")));
+    tenantSubdomainIndex.load();
+
+    // when
+    tenantSubdomainIndex.checkForDrift();
+    var driftsWithoutChange = drifts();
+    tenantSubdomainIndex.checkForDrift();
+
+    // then
+    assertThat(driftsWithoutChange).isZero();
+    assertThat(drifts()).isEqualTo(1);
+    assertThat(tenantSubdomainIndex.findTenantId("second")).contains(2L);
+    assertThat(meterRegistry.get("tenant.subdomain.index.size").gauge().value()).isEqualTo(2);
+  }
+
+  private double drifts() {
+    return meterRegistry.get("tenant.subdomain.index.drifts").counter().count();
+  }
+
+  private static TenantEntity tenant(Long id, String subdomain) {
+    var tenant = new TenantEntity();
+    tenant.setId(id);
+    tenant.setSubdomain(subdomain);
+    return tenant;
+  }
+
+  private static TenantSubdomain tenantSubdomain(Long id, String subdomain) {
+    return new TenantSubdomain() {
+      @Override
+      public Long getId() {
+        return id;
+      }
+
+      @Override
+      public String getSubdomain() {
+        return subdomain;
+      }
+    };
+  }
+}
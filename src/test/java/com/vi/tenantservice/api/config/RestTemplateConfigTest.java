@@ -0,0 +1,138 @@
+package com.vi.tenantservice.api.config;
+
+import static com.vi.tenantservice.api.config.RestTemplateConfig.USER_SERVICE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+class RestTemplateConfigTest {
+
+  private final RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    ReflectionTestUtils.setField(restTemplateConfig, "maxConnectionsTotal", 10);
+    ReflectionTestUtils.setField(restTemplateConfig, "maxConnectionsPerRoute", 5);
+    ReflectionTestUtils.setField(restTemplateConfig, "connectTimeoutMillis", 1000L);
+    ReflectionTestUtils.setField(restTemplateConfig, "readTimeoutMillis", 300L);
+    ReflectionTestUtils.setField(restTemplateConfig, "adminDataCallTimeoutMillis", 5000L);
+    ReflectionTestUtils.setField(restTemplateConfig, "poolAcquireTimeoutMillis", 1000L);
+    ReflectionTestUtils.setField(restTemplateConfig, "keepAliveSeconds", 30L);
+    ReflectionTestUtils.setField(restTemplateConfig, "idleEvictionSeconds", 30L);
+
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/fast",
+        exchange -> {
+          var body = "ok".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            Thread.sleep(2000);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          exchange.close();
+        });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void userServiceRequestFactory_Should_RegisterPoolMetricsOfService() {
+    // when
+    var requestFactory = restTemplateConfig.userServiceRequestFactory(meterRegistry);
+    new RestTemplate(requestFactory).getForObject(url("/fast"), String.class);
+
+    // then
+    assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    assertThat(
+            meterRegistry
+                .get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", USER_SERVICE)
+                .gauge()
+                .value())
+        .isEqualTo(10);
+    assertThat(
+            meterRegistry
+                .get("httpcomponents.httpclient.pool.total.connections")
+                .tag("httpclient", USER_SERVICE)
+                .tag("state", "available")
+                .gauge()
+                .value())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void userServiceRequestFactory_Should_FailCall_When_ServiceDoesNotAnswerWithinReadTimeout() {
+    // given
+    var restTemplate =
+        new RestTemplate(restTemplateConfig.userServiceRequestFactory(meterRegistry));
+
+    // then
+    assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+        .isInstanceOf(ResourceAccessException.class)
+        .hasCauseInstanceOf(SocketTimeoutException.class);
+  }
+
+  @Test
+  void userServiceRequestFactory_Should_FailCall_When_ServiceDoesNotAnswerWithinAdminDataTimeout() {
+    // given
+    ReflectionTestUtils.setField(restTemplateConfig, "readTimeoutMillis", 10000L);
+    ReflectionTestUtils.setField(restTemplateConfig, "adminDataCallTimeoutMillis", 300L);
+    var restTemplate =
+        new RestTemplate(restTemplateConfig.userServiceRequestFactory(meterRegistry));
+    var start = System.nanoTime();
+
+    // then
+    assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+        .isInstanceOf(ResourceAccessException.class)
+        .hasCauseInstanceOf(SocketTimeoutException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+  }
+
+  @Test
+  void userServiceRequestFactory_Should_UseJdkClient_When_Http2IsEnabled() {
+    // given
+    ReflectionTestUtils.setField(restTemplateConfig, "http2Enabled", true);
+
+    // when
+    var requestFactory = restTemplateConfig.userServiceRequestFactory(meterRegistry);
+
+    // then
+    assertThat(requestFactory).isInstanceOf(JdkClientHttpRequestFactory.class);
+    assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauges()).isEmpty();
+  }
+
+  private String url(String path) {
+    return "http://localhost:" + server.getAddress().getPort() + path;
+  }
+}
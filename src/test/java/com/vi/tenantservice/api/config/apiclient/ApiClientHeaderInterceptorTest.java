@@ -0,0 +1,169 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.tenant.TenantResolverService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class ApiClientHeaderInterceptorTest {
+
+  private static final String URL = "http://downstream/api";
+
+  @Mock TenantResolverService tenantResolverService;
+
+  private ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private RestTemplate restTemplate;
+
+  private MockRestServiceServer server;
+
+  @BeforeEach
+  void setUp() {
+    var securityHeaderSupplier = new SecurityHeaderSupplier();
+    ReflectionTestUtils.setField(securityHeaderSupplier, "csrfHeaderProperty", "X-CSRF-TOKEN");
+    ReflectionTestUtils.setField(securityHeaderSupplier, "csrfCookieProperty", "CSRF-TOKEN");
+    apiClientHeaderInterceptor =
+        new ApiClientHeaderInterceptor(securityHeaderSupplier, tenantResolverService);
+    restTemplate = new RestTemplate();
+    restTemplate.getInterceptors().add(apiClientHeaderInterceptor);
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void intercept_Should_AddHeadersOfCurrentRequest() {
+    // given
+    givenAuthenticatedRequest("token");
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(3L));
+    server
+        .expect(requestTo(URL))
+        .andExpect(header("Authorization", "Bearer token"))
+        .andExpect(header("tenantId", "3"))
+        .andExpect(header("X-CSRF-TOKEN", notNullValue()))
+        .andRespond(withSuccess());
+
+    // when
+    restTemplate.getForObject(URL, String.class);
+
+    // then
+    server.verify();
+  }
+
+  @Test
+  void intercept_Should_UseGivenHeaders_When_CalledWithHeaders() {
+    // given
+    givenAuthenticatedRequest("token");
+    var headers = new HttpHeaders();
+    headers.add("tenantId", "5");
+    server
+        .expect(requestTo(URL))
+        .andExpect(headerDoesNotExist("Authorization"))
+        .andExpect(header("tenantId", "5"))
+        .andRespond(withSuccess());
+
+    // when
+    apiClientHeaderInterceptor.withHeaders(
+        headers, () -> restTemplate.getForObject(URL, String.class));
+
+    // then
+    server.verify();
+    Mockito.verifyNoInteractions(tenantResolverService);
+  }
+
+  @Test
+  void intercept_Should_AddNoUserHeaders_When_CalledOutsideOfRequest() {
+    // given
+    server
+        .expect(requestTo(URL))
+        .andExpect(headerDoesNotExist("Authorization"))
+        .andExpect(headerDoesNotExist("tenantId"))
+        .andRespond(withSuccess());
+
+    // when
+    restTemplate.getForObject(URL, String.class);
+
+    // then
+    server.verify();
+  }
+
+  @Test
+  void intercept_Should_KeepHeadersOfConcurrentCallsApart_When_RestTemplateIsShared()
+      throws Exception {
+    // given
+    int calls = 20;
+    server = MockRestServiceServer.bindTo(restTemplate).ignoreExpectOrder(true).build();
+    for (int i = 0; i < calls; i++) {
+      server
+          .expect(ExpectedCount.once(), requestTo(URL + "/" + i))
+          .andExpect(header("tenantId", String.valueOf(i)))
+          .andRespond(withSuccess());
+    }
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    List<Future<String>> results = new ArrayList<>();
+
+    // when
+    try {
+      for (int i = 0; i < calls; i++) {
+        var tenantId = (long) i;
+        results.add(
+            executorService.submit(
+                () ->
+                    apiClientHeaderInterceptor.withHeaders(
+                        ApiClientHeaderInterceptor.tenantHeaders(Optional.of(tenantId)),
+                        () -> restTemplate.getForObject(URL + "/" + tenantId, String.class))));
+      }
+      for (Future<String> result : results) {
+        result.get(5, TimeUnit.SECONDS);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    // then
+    server.verify();
+    assertThat(results).hasSize(calls);
+  }
+
+  private void givenAuthenticatedRequest(String token) {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    var jwt = Jwt.withTokenValue(token).header("alg", "none").claim("sub", "user").build();
+    SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+  }
+}
@@ -0,0 +1,172 @@
+package com.vi.tenantservice.api.config.apiclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncApiClientTest {
+
+  private static final TypeReference<Map<String, String>> MAP = new TypeReference<>() {};
+
+  private static final long LATENCY_MILLIS = 300;
+
+  @Mock ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private final AtomicReference<HttpHeaders> receivedHeaders = new AtomicReference<>();
+
+  private HttpServer server;
+
+  private ExecutorService clientExecutor;
+
+  private AsyncApiClient asyncApiClient;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext(
+        "/tenants/1",
+        exchange -> {
+          var headers = new HttpHeaders();
+          exchange.getRequestHeaders().forEach(headers::addAll);
+          receivedHeaders.set(headers);
+          respond(exchange, 200, "{\"tenantId\":\"" + exchange.getRequestURI().getQuery() + "\"}");
+        });
+    server.createContext("/error", exchange -> respond(exchange, 500, ""));
+    server.createContext(
+        "/slow",
+        exchange -> {
+          try {
+            Thread.sleep(LATENCY_MILLIS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200, "{}");
+        });
+    server.start();
+    clientExecutor = Executors.newSingleThreadExecutor();
+    asyncApiClient = createClient("http://localhost:" + server.getAddress().getPort());
+    var headers = new HttpHeaders();
+    headers.setBearerAuth("token");
+    when(apiClientHeaderInterceptor.requestHeaders()).thenReturn(headers);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    clientExecutor.shutdownNow();
+  }
+
+  @Test
+  void get_Should_ReadResponseAndSendHeadersOfInterceptor() throws Exception {
+    // when
+    var result =
+        asyncApiClient.get("/tenants/{id}?lang={lang}", MAP, 1, "de").get(5, TimeUnit.SECONDS);
+
+    // then
+    assertThat(result).containsEntry("tenantId", "lang=de");
+    assertThat(receivedHeaders.get().getFirst(HttpHeaders.AUTHORIZATION)).isEqualTo("Bearer token");
+    assertThat(receivedHeaders.get().getFirst(HttpHeaders.ACCEPT)).isEqualTo("application/json");
+  }
+
+  @Test
+  void get_Should_FailWithResponseStatusException_When_ServiceAnswersWithError() {
+    // when
+    var result = asyncApiClient.get("/error", MAP);
+
+    // then
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .cause()
+        .isInstanceOfSatisfying(
+            ResponseStatusException.class,
+            e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR));
+  }
+
+  @Test
+  void get_Should_FailWithResourceAccessException_When_ServiceIsUnreachable() {
+    // given
+    server.stop(0);
+
+    // when
+    var result = asyncApiClient.get("/tenants/1", MAP);
+
+    // then
+    assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .cause()
+        .isInstanceOf(ResourceAccessException.class);
+  }
+
+  @Test
+  void get_Should_KeepManyCallsInFlightWithSingleThread() throws Exception {
+    // given
+    var calls = 50;
+
+    // when
+    var start = System.nanoTime();
+    var results =
+        IntStream.range(0, calls)
+            .mapToObj(i -> asyncApiClient.get("/slow", MAP))
+            .toArray(CompletableFuture[]::new);
+    CompletableFuture.allOf(results).get(10, TimeUnit.SECONDS);
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertThat(elapsedMillis).isLessThan(calls * LATENCY_MILLIS / 4);
+    assertThat(List.of(results)).allMatch(result -> !result.isCompletedExceptionally());
+  }
+
+  private AsyncApiClient createClient(String basePath) {
+    var httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .executor(clientExecutor)
+            .build();
+    return new AsyncApiClient(
+        basePath,
+        httpClient,
+        new ObjectMapper(),
+        apiClientHeaderInterceptor,
+        Duration.ofSeconds(5));
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+    exchange.getResponseBody().write(bytes);
+    exchange.close();
+  }
+}
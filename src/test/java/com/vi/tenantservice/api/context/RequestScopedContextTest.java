@@ -0,0 +1,88 @@
+package com.vi.tenantservice.api.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RequestScopedContextTest {
+
+  private final AtomicInteger resolutions = new AtomicInteger();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void current_Should_BeEmpty_When_OutsideOfRequest() {
+    // when
+    var context = RequestScopedContext.current();
+
+    // then
+    assertThat(context).isEmpty();
+  }
+
+  @Test
+  void tenantId_Should_ResolveOncePerRequest_When_ContextIsBound() throws Exception {
+    // given
+    givenRequestPassedFilter();
+
+    // when
+    var first = RequestScopedContext.tenantId(this::resolveTenantId);
+    var second = RequestScopedContext.tenantId(this::resolveTenantId);
+
+    // then
+    assertThat(first).contains(1L);
+    assertThat(second).contains(1L);
+    assertThat(resolutions).hasValue(1);
+  }
+
+  @Test
+  void tenantId_Should_ResolveAgainInNextRequest() throws Exception {
+    // given
+    givenRequestPassedFilter();
+    RequestScopedContext.tenantId(this::resolveTenantId);
+    givenRequestPassedFilter();
+
+    // when
+    var tenantId = RequestScopedContext.tenantId(this::resolveTenantId);
+
+    // then
+    assertThat(tenantId).contains(2L);
+  }
+
+  @Test
+  void tenantId_Should_ResolveOnEveryAccess_When_NoContextIsBound() {
+    // given
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    // when
+    RequestScopedContext.tenantId(this::resolveTenantId);
+    RequestScopedContext.tenantId(this::resolveTenantId);
+
+    // then
+    assertThat(resolutions).hasValue(2);
+  }
+
+  private Optional<Long> resolveTenantId() {
+    return Optional.of((long) resolutions.incrementAndGet());
+  }
+
+  private void givenRequestPassedFilter() throws Exception {
+    var chain = new MockFilterChain();
+    new RequestScopedContextFilter()
+        .doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes((HttpServletRequest) chain.getRequest()));
+  }
+}
@@ -3,6 +3,8 @@ package com.vi.tenantservice.api.controller;
 import static com.vi.tenantservice.api.authorisation.UserRole.RESTRICTED_AGENCY_ADMIN;
 import static com.vi.tenantservice.api.authorisation.UserRole.SINGLE_TENANT_ADMIN;
 import static com.vi.tenantservice.api.authorisation.UserRole.TENANT_ADMIN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
@@ -17,20 +19,28 @@ import static org.springframework.security.test.web.servlet.setup.SecurityMockMv
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.google.common.collect.Lists;
+import com.jayway.jsonpath.JsonPath;
 import com.vi.tenantservice.TenantServiceApplication;
 import com.vi.tenantservice.api.authorisation.Authority;
 import com.vi.tenantservice.api.authorisation.UserRole;
+import com.vi.tenantservice.api.cache.RestrictedTenantResponseCache;
+import com.vi.tenantservice.api.cache.TenantAdminEmailCache;
+import com.vi.tenantservice.api.cache.TenantCache;
 import com.vi.tenantservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
 import com.vi.tenantservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStatus;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
 import com.vi.tenantservice.api.service.consultingtype.UserAdminService;
 import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.service.provisioning.TenantProvisioningService;
 import com.vi.tenantservice.api.tenant.SubdomainExtractor;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.api.util.MultilingualTenantTestDataBuilder;
@@ -42,7 +52,11 @@ import com.vi.tenantservice.consultingtypeservice.generated.web.model.ExtendedCo
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.NotificationsDTOTeamSessions;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.TeamSessionsDTONewMessage;
+import jakarta.servlet.http.Cookie;
+import java.io.ByteArrayInputStream;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -55,6 +69,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -113,20 +128,26 @@ class TenantControllerIT {
 
   @MockBean SubdomainExtractor subdomainExtractor;
 
+  @Autowired TenantAdminEmailCache tenantAdminEmailCache;
+
+  @Autowired TenantCache tenantCache;
+
+  @Autowired RestrictedTenantResponseCache restrictedTenantResponseCache;
+
+  @Autowired TenantProvisioningService tenantProvisioningService;
+
   private MockMvc mockMvc;
 
   @BeforeEach
   public void setup() {
     mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+    tenantAdminEmailCache.evictAll();
     givenSingleTenantAdminCanChangeLegalTexts(true);
-    when(consultingTypeServiceApiControllerFactory.createControllerApi())
+    when(consultingTypeServiceApiControllerFactory.getControllerApi())
         .thenReturn(consultingTypeControllerApi);
-    when(consultingTypeControllerApi.getApiClient())
-        .thenReturn(mock(com.vi.tenantservice.consultingtypeservice.generated.ApiClient.class));
 
     when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(mock(HttpHeaders.class));
-    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders())
-        .thenReturn(mock(HttpHeaders.class));
+    when(securityHeaderSupplier.getKeycloakHttpHeaders()).thenReturn(mock(HttpHeaders.class));
   }
 
   private void giveAuthorisationServiceReturnProperAuthoritiesForRole(UserRole userRole) {
@@ -168,7 +189,76 @@ class TenantControllerIT {
         .andExpect(jsonPath("settings.featureGroupChatV2Enabled", is(false)))
         .andExpect(jsonPath("settings.featureAttachmentUploadDisabled", is(true)))
         .andExpect(jsonPath("settings.featureToolsOICDToken", is("token")))
-        .andExpect(jsonPath("settings.activeLanguages", is(Lists.newArrayList("de", "en"))));
+        .andExpect(jsonPath("settings.activeLanguages", is(Lists.newArrayList("de", "en"))))
+        .andExpect(jsonPath("provisioningStatus", is("PENDING")));
+  }
+
+  @Test
+  void createTenant_Should_createDefaultConsultingTypesInBackground() throws Exception {
+    AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
+    giveAuthorisationServiceReturnProperAuthoritiesForRole(TENANT_ADMIN);
+    var response =
+        mockMvc
+            .perform(
+                post(TENANTADMIN_RESOURCE)
+                    .with(authentication(builder.withUserRole(TENANT_ADMIN.getValue()).build()))
+                    .contentType(APPLICATION_JSON)
+                    .content(
+                        multilingualTenantTestDataBuilder
+                            .withName("provisioned")
+                            .withSubdomain("provisioned")
+                            .withLicensing()
+                            .jsonify()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+    var tenantId = JsonPath.<Number>read(response, "$.id").longValue();
+
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .untilAsserted(
+            () -> Mockito.verify(consultingTypeService).createDefaultConsultingTypes(tenantId));
+    await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(
+            () ->
+                tenantProvisioningService.getProvisioningStatus(tenantId)
+                    == TenantProvisioningStatus.COMPLETED);
+  }
+
+  @Test
+  void retryTenantProvisioning_Should_returnStatusAccepted_When_TenantExists() throws Exception {
+    AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
+    giveAuthorisationServiceReturnProperAuthoritiesForRole(TENANT_ADMIN);
+    mockMvc
+        .perform(
+            post(EXISTING_TENANT_VIA_ADMIN + "/provisioning")
+                .with(authentication(builder.withUserRole(TENANT_ADMIN.getValue()).build())))
+        .andExpect(status().isAccepted());
+  }
+
+  @Test
+  void retryTenantProvisioning_Should_returnStatusNotFound_When_TenantDoesNotExist()
+      throws Exception {
+    AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
+    giveAuthorisationServiceReturnProperAuthoritiesForRole(TENANT_ADMIN);
+    mockMvc
+        .perform(
+            post(NON_EXISTING_TENANT_VIA_ADMIN + "/provisioning")
+                .with(authentication(builder.withUserRole(TENANT_ADMIN.getValue()).build())))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void retryTenantProvisioning_Should_returnStatusForbidden_When_calledWithoutTenantAdminAuthority()
+      throws Exception {
+    AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
+    mockMvc
+        .perform(
+            post(EXISTING_TENANT_VIA_ADMIN + "/provisioning")
+                .with(authentication(builder.withUserRole(SINGLE_TENANT_ADMIN.getValue()).build())))
+        .andExpect(status().isForbidden());
   }
 
   @Test
@@ -255,28 +345,29 @@ class TenantControllerIT {
       getMultilingualTenant_Should_returnStatusOk_When_calledWithValidTenantCreateParamsAndValidAuthority()
           throws Exception {
     AuthenticationMockBuilder builder = new AuthenticationMockBuilder();
-    Mockito.when(userAdminService.getTenantAdmins(1))
+    Mockito.when(userAdminService.getTenantAdmins(Mockito.eq(1), Mockito.any()))
         .thenReturn(
             Lists.newArrayList(
                 adminResponseWithMail("admin@admin.com"),
                 adminResponseWithMail("admin1@admin.com")));
-    when(consultingTypeService.getConsultingTypesByTenantId(1))
+    when(consultingTypeService.findConsultingTypesByTenantId(1))
         .thenReturn(
-            new FullConsultingTypeResponseDTO()
-                .languageFormal(true)
-                .sendFurtherStepsMessage(true)
-                .sendSaveSessionDataMessage(true)
-                .welcomeMessage(
-                    new ExtendedConsultingTypeResponseDTOAllOfWelcomeMessage()
-                        .welcomeMessageText("welcome")
-                        .sendWelcomeMessage(true))
-                .notifications(
-                    new ExtendedConsultingTypeResponseDTOAllOfNotifications()
-                        .teamSessions(
-                            new NotificationsDTOTeamSessions()
-                                .newMessage(
-                                    new TeamSessionsDTONewMessage().allTeamConsultants(true))))
-                .isVideoCallAllowed(true));
+            Optional.of(
+                new FullConsultingTypeResponseDTO()
+                    .languageFormal(true)
+                    .sendFurtherStepsMessage(true)
+                    .sendSaveSessionDataMessage(true)
+                    .welcomeMessage(
+                        new ExtendedConsultingTypeResponseDTOAllOfWelcomeMessage()
+                            .welcomeMessageText("welcome")
+                            .sendWelcomeMessage(true))
+                    .notifications(
+                        new ExtendedConsultingTypeResponseDTOAllOfNotifications()
+                            .teamSessions(
+                                new NotificationsDTOTeamSessions()
+                                    .newMessage(
+                                        new TeamSessionsDTONewMessage().allTeamConsultants(true))))
+                    .isVideoCallAllowed(true)));
 
     giveAuthorisationServiceReturnProperAuthoritiesForRole(TENANT_ADMIN);
     mockMvc
@@ -603,6 +694,114 @@ class TenantControllerIT {
         .andReturn();
   }
 
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnETagAndCacheHeaders() throws Exception {
+    mockMvc
+        .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().exists(HttpHeaders.ETAG))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+        .andExpect(header().string(HttpHeaders.VARY, "Cookie, Accept-Encoding"));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnNotModified_When_ETagMatchesIfNoneMatch()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag))
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnDifferentETag_When_LanguageDiffers()
+      throws Exception {
+    var eTag =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+    mockMvc
+        .perform(
+            get(EXISTING_PUBLIC_TENANT)
+                .cookie(new Cookie("lang", "en"))
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(1));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnGzippedBodyWithOwnETag_When_GzipIsAccepted()
+      throws Exception {
+    var plainResponse =
+        mockMvc
+            .perform(get(EXISTING_PUBLIC_TENANT).contentType(APPLICATION_JSON))
+            .andReturn()
+            .getResponse();
+
+    var gzipResponse =
+        mockMvc
+            .perform(
+                get(EXISTING_PUBLIC_TENANT)
+                    .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                    .contentType(APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn()
+            .getResponse();
+
+    try (var gzipInputStream =
+        new GZIPInputStream(new ByteArrayInputStream(gzipResponse.getContentAsByteArray()))) {
+      assertThat(gzipInputStream.readAllBytes()).isEqualTo(plainResponse.getContentAsByteArray());
+    }
+    assertThat(gzipResponse.getHeader(HttpHeaders.ETAG))
+        .isNotEqualTo(plainResponse.getHeader(HttpHeaders.ETAG));
+  }
+
+  @Test
+  void getRestrictedTenantDataByTenantId_Should_returnNotModified_When_GzipIsAcceptedButDisabled()
+      throws Exception {
+    ReflectionTestUtils.setField(restrictedTenantResponseCache, "gzipEnabled", false);
+    try {
+      var eTag =
+          mockMvc
+              .perform(
+                  get(EXISTING_PUBLIC_TENANT)
+                      .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                      .contentType(APPLICATION_JSON))
+              .andExpect(status().isOk())
+              .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+              .andReturn()
+              .getResponse()
+              .getHeader(HttpHeaders.ETAG);
+
+      mockMvc
+          .perform(
+              get(EXISTING_PUBLIC_TENANT)
+                  .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                  .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                  .contentType(APPLICATION_JSON))
+          .andExpect(status().isNotModified())
+          .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    } finally {
+      ReflectionTestUtils.setField(restrictedTenantResponseCache, "gzipEnabled", true);
+    }
+  }
+
   @Test
   void
       getRestrictedTenantDataByTenantId_Should_returnStatusNotFound_When_calledWithNonExistingTenantIdAndNoAuthentication()
@@ -771,10 +970,15 @@ class TenantControllerIT {
   @Sql(value = "/database/SingleTenantData.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
   @Sql(value = "/database/MultiTenantData.sql", executionPhase = ExecutionPhase.AFTER_TEST_METHOD)
   void getRestrictedSingleTenantData_Should_returnOkAndTheRequestedTenantData() throws Exception {
-    mockMvc
-        .perform(get(PUBLIC_SINGLE_TENANT_RESOURCE))
-        .andExpect(status().isOk())
-        .andExpect(jsonPath("$.id").value(1));
+    try {
+      mockMvc
+          .perform(get(PUBLIC_SINGLE_TENANT_RESOURCE))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.id").value(1));
+    } finally {
+      // the scripts replace the tenant behind the back of the tenant cache
+      tenantCache.evict(TenantEntity.builder().id(1L).build());
+    }
   }
 
   @Test
@@ -1,8 +1,13 @@
 package com.vi.tenantservice.api.converter;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.PRIVACY_TEMPLATES_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.vi.tenantservice.api.cache.PrivacyTemplateCache;
+import com.vi.tenantservice.api.cache.TenantSettingsCache;
 import com.vi.tenantservice.api.model.BasicTenantLicensingDTO;
 import com.vi.tenantservice.api.model.DataProtectionContactTemplateDTO;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
@@ -23,7 +28,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class TenantConverterTest {
@@ -34,6 +41,14 @@ class TenantConverterTest {
 
   @Mock TemplateRenderer templateRenderer;
 
+  @Spy
+  TenantSettingsCache tenantSettingsCache =
+      new TenantSettingsCache(new ConcurrentMapCacheManager(TENANT_SETTINGS_CACHE));
+
+  @Spy
+  PrivacyTemplateCache privacyTemplateCache =
+      new PrivacyTemplateCache(new ConcurrentMapCacheManager(PRIVACY_TEMPLATES_CACHE));
+
   @Test
   void toEntity_should_convertToEntityAndBackToDTO() {
     // given
@@ -73,6 +88,7 @@ class TenantConverterTest {
             .withSettings()
             .build();
     tenantDTO.getSettings().extendedSettings(null);
+    tenantDTO.getContent().setPrivacy(Map.of("de", "<#if responsible??>${responsible}</#if>"));
 
     when(templateService.getMultilingualDataProtectionTemplate())
         .thenReturn(
@@ -126,6 +142,58 @@ class TenantConverterTest {
     assertThat(restrictedTenantDTO.getSettings()).isEqualTo(new Settings());
   }
 
+  @Test
+  void toRestrictedTenantDTO_should_notRenderPrivacy_When_PrivacyIsStatic()
+      throws TemplateDescriptionServiceException {
+    // given
+    MultilingualTenantDTO tenantDTO =
+        new MultilingualTenantTestDataBuilder().tenantDTO().withContent().build();
+    when(templateService.getMultilingualDataProtectionTemplate())
+        .thenReturn(Map.of("de", dataProtectionContactTemplate()));
+    TenantEntity entity = tenantConverter.toEntity(tenantDTO);
+
+    // when
+    RestrictedTenantDTO restrictedTenantDTO =
+        tenantConverter.toRestrictedTenantDTO(entity, TenantConverter.DE);
+
+    // then
+    assertThat(restrictedTenantDTO.getContent().getRenderedPrivacy())
+        .isEqualTo(getGermanTranslation(tenantDTO.getContent().getPrivacy()));
+    verifyNoInteractions(templateRenderer);
+  }
+
+  @Test
+  void
+      toRestrictedTenantDTO_should_substitutePlaceholdersWithoutFreeMarker_When_PrivacyOnlyHasPlaceholders()
+          throws TemplateDescriptionServiceException {
+    // given
+    MultilingualTenantDTO tenantDTO =
+        new MultilingualTenantTestDataBuilder().tenantDTO().withContent().build();
+    tenantDTO
+        .getContent()
+        .setPrivacy(Map.of("de", "<p>${responsible}</p><p>${dataProtectionOfficer}</p>"));
+    when(templateService.getMultilingualDataProtectionTemplate())
+        .thenReturn(Map.of("de", dataProtectionContactTemplate()));
+    TenantEntity entity = tenantConverter.toEntity(tenantDTO);
+
+    // when
+    RestrictedTenantDTO restrictedTenantDTO =
+        tenantConverter.toRestrictedTenantDTO(entity, TenantConverter.DE);
+
+    // then
+    assertThat(restrictedTenantDTO.getContent().getRenderedPrivacy())
+        .isEqualTo("<p>responsible contact</p><p>officer contact</p>");
+    verifyNoInteractions(templateRenderer);
+  }
+
+  private static DataProtectionContactTemplateDTO dataProtectionContactTemplate() {
+    return new DataProtectionContactTemplateDTO()
+        .noAgencyContext(
+            new NoAgencyContextDTO()
+                .responsibleContact("responsible contact")
+                .dataProtectionOfficerContact("officer contact"));
+  }
+
   private static void assertContentIsProperlyConverted(
       MultilingualTenantDTO tenantDTO, RestrictedTenantDTO restrictedTenantDTO) {
     assertThat(restrictedTenantDTO.getContent().getClaim())
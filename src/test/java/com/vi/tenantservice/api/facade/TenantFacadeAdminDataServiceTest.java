@@ -0,0 +1,276 @@
+package com.vi.tenantservice.api.facade;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_ADMIN_EMAILS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.cache.TenantAdminEmailCache;
+import com.vi.tenantservice.api.exception.DownstreamUnavailableException;
+import com.vi.tenantservice.api.service.consultingtype.UserAdminService;
+import com.vi.tenantservice.useradminservice.generated.web.model.AdminDTO;
+import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class TenantFacadeAdminDataServiceTest {
+
+  private static final int PARALLELISM = 10;
+  private static final long LATENCY_MILLIS = 200;
+
+  @Mock UserAdminService userAdminService;
+
+  private ThreadPoolTaskExecutor adminDataExecutor;
+
+  private TenantAdminEmailCache tenantAdminEmailCache;
+
+  private TenantFacadeAdminDataService tenantFacadeAdminDataService;
+
+  @BeforeEach
+  void setUp() {
+    adminDataExecutor = new ThreadPoolTaskExecutor();
+    adminDataExecutor.setCorePoolSize(PARALLELISM);
+    adminDataExecutor.setMaxPoolSize(PARALLELISM);
+    adminDataExecutor.initialize();
+    tenantAdminEmailCache =
+        new TenantAdminEmailCache(new ConcurrentMapCacheManager(TENANT_ADMIN_EMAILS_CACHE));
+    ReflectionTestUtils.setField(tenantAdminEmailCache, "refreshAfterSeconds", 60L);
+    tenantFacadeAdminDataService =
+        new TenantFacadeAdminDataService(
+            userAdminService, adminDataExecutor, tenantAdminEmailCache);
+    ReflectionTestUtils.setField(tenantFacadeAdminDataService, "callTimeoutMillis", 1000L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    adminDataExecutor.shutdown();
+  }
+
+  @Test
+  void getAdminEmails_Should_TakeTimeOfPageSizeDividedByParallelism_When_UserServiceIsSlow() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(LATENCY_MILLIS);
+              return List.of(adminWithEmail("admin" + invocation.getArgument(0) + "@tenant.com"));
+            });
+    var tenantIds = LongStream.rangeClosed(1, 30).boxed().toList();
+
+    // when
+    var start = System.nanoTime();
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(tenantIds);
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertThat(adminEmails).hasSize(30).containsEntry(7L, List.of("admin7@tenant.com"));
+    var sequentialMillis = tenantIds.size() * LATENCY_MILLIS;
+    var parallelMillis = tenantIds.size() / PARALLELISM * LATENCY_MILLIS;
+    assertThat(elapsedMillis).isGreaterThanOrEqualTo(parallelMillis);
+    assertThat(elapsedMillis).isLessThan(sequentialMillis / 2);
+  }
+
+  @Test
+  void getAdminEmails_Should_LeaveOutTenant_When_ItsCallFails() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (invocation.<Integer>getArgument(0) == 2) {
+                throw new RestClientException("unavailable");
+              }
+              return List.of(adminWithEmail("admin@tenant.com"));
+            });
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(adminEmails).containsOnlyKeys(1L, 3L);
+  }
+
+  @Test
+  void getAdminEmails_Should_LeaveOutTenant_When_ItsCallTimesOut() {
+    // given
+    ReflectionTestUtils.setField(tenantFacadeAdminDataService, "callTimeoutMillis", 100L);
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (invocation.<Integer>getArgument(0) == 2) {
+                Thread.sleep(1000);
+              }
+              return List.of(adminWithEmail("admin@tenant.com"));
+            });
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(List.of(1L, 2L, 3L));
+
+    // then
+    assertThat(adminEmails).containsOnlyKeys(1L, 3L);
+  }
+
+  @Test
+  void getAdminEmails_Should_OmitEmails_When_CallOfSingleTenantFails() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenThrow(new DownstreamUnavailableException("unavailable"));
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // then
+    assertThat(adminEmails).isEmpty();
+  }
+
+  @Test
+  void getAdminEmails_Should_Rethrow_When_CallOfSingleTenantIsRejected() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenThrow(HttpClientErrorException.create(HttpStatus.FORBIDDEN, "", null, null, null));
+
+    // then
+    assertThatThrownBy(() -> tenantFacadeAdminDataService.getAdminEmails(1L))
+        .isInstanceOf(HttpClientErrorException.class);
+  }
+
+  @Test
+  void getAdminEmails_Should_Rethrow_When_CallOfOneOfSeveralTenantsIsRejected() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "", null, null, null));
+
+    // then
+    assertThatThrownBy(() -> tenantFacadeAdminDataService.getAdminEmails(List.of(1L, 2L)))
+        .isInstanceOf(HttpClientErrorException.class);
+  }
+
+  @Test
+  void getAdminEmails_Should_ServeCachedEmailsWithoutCall_When_TheyAreFresh() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenReturn(List.of(adminWithEmail("admin@tenant.com")));
+    tenantFacadeAdminDataService.getAdminEmails(List.of(1L, 2L));
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(List.of(1L, 2L));
+    var singleAdminEmails = tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // then
+    assertThat(adminEmails).containsOnlyKeys(1L, 2L);
+    assertThat(singleAdminEmails).containsExactly("admin@tenant.com");
+    verify(userAdminService, times(2)).getTenantAdmins(anyInt(), any());
+  }
+
+  @Test
+  void getAdminEmails_Should_ServeStaleEmailsAndRefreshThemInBackground_When_RefreshIsDue() {
+    // given
+    ReflectionTestUtils.setField(tenantAdminEmailCache, "refreshAfterSeconds", 0L);
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenReturn(List.of(adminWithEmail("old@tenant.com")))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(LATENCY_MILLIS);
+              return List.of(adminWithEmail("new@tenant.com"));
+            });
+    tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // then
+    assertThat(adminEmails).containsExactly("old@tenant.com");
+    await()
+        .atMost(5, TimeUnit.SECONDS)
+        .until(
+            () ->
+                tenantAdminEmailCache
+                    .get(1L)
+                    .map(cached -> cached.adminEmails().contains("new@tenant.com"))
+                    .orElse(false));
+  }
+
+  @Test
+  void evictAdminEmails_Should_LoadEmailsAgainOnNextAccess() {
+    // given
+    when(userAdminService.getTenantAdmins(anyInt(), any()))
+        .thenReturn(List.of(adminWithEmail("admin@tenant.com")));
+    tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // when
+    tenantFacadeAdminDataService.evictAdminEmails(1L);
+    tenantFacadeAdminDataService.getAdminEmails(1L);
+
+    // then
+    verify(userAdminService, times(2)).getTenantAdmins(anyInt(), any());
+  }
+
+  @Test
+  void getAdminEmailsAsync_Should_LoadAndCacheEmails() throws Exception {
+    // given
+    when(userAdminService.getTenantAdminsAsync(1))
+        .thenReturn(CompletableFuture.completedFuture(List.of(adminWithEmail("admin@tenant.com"))));
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmailsAsync(1L).get();
+    var cachedAdminEmails = tenantFacadeAdminDataService.getAdminEmailsAsync(1L).get();
+
+    // then
+    assertThat(adminEmails).containsExactly("admin@tenant.com");
+    assertThat(cachedAdminEmails).containsExactly("admin@tenant.com");
+    verify(userAdminService).getTenantAdminsAsync(1);
+  }
+
+  @Test
+  void getAdminEmailsAsync_Should_OmitEmails_When_CallFails() throws Exception {
+    // given
+    when(userAdminService.getTenantAdminsAsync(1))
+        .thenReturn(
+            CompletableFuture.failedFuture(new DownstreamUnavailableException("unavailable")));
+
+    // when
+    var adminEmails = tenantFacadeAdminDataService.getAdminEmailsAsync(1L).get();
+
+    // then
+    assertThat(adminEmails).isEmpty();
+  }
+
+  @Test
+  void getAdminEmailsAsync_Should_FailWithCause_When_CallIsRejected() {
+    // given
+    when(userAdminService.getTenantAdminsAsync(1))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.FORBIDDEN, "forbidden")));
+
+    // then
+    assertThatThrownBy(() -> tenantFacadeAdminDataService.getAdminEmailsAsync(1L).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ResponseStatusException.class);
+  }
+
+  private static AdminResponseDTO adminWithEmail(String email) {
+    return new AdminResponseDTO().embedded(new AdminDTO().email(email));
+  }
+}
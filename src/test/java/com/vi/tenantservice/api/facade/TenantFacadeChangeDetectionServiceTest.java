@@ -1,11 +1,13 @@
 package com.vi.tenantservice.api.facade;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
 import static com.vi.tenantservice.api.model.TenantSetting.*;
 import static com.vi.tenantservice.api.util.JsonConverter.convertToJson;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.vi.tenantservice.api.cache.TenantSettingsCache;
 import com.vi.tenantservice.api.model.MultilingualContent;
 import com.vi.tenantservice.api.model.MultilingualTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
@@ -17,13 +19,19 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class TenantFacadeChangeDetectionServiceTest {
 
   @InjectMocks TenantFacadeChangeDetectionService tenantFacadeChangeDetectionService;
 
+  @Spy
+  TenantSettingsCache tenantSettingsCache =
+      new TenantSettingsCache(new ConcurrentMapCacheManager(TENANT_SETTINGS_CACHE));
+
   @Test
   void determineChangedSettings_Should_NotDetectAnyChanges_When_InputDTOIsNull() {
     Object o = null;
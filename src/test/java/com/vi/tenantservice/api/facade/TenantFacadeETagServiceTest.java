@@ -0,0 +1,83 @@
+package com.vi.tenantservice.api.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.service.TemplateDescriptionServiceException;
+import com.vi.tenantservice.api.service.TemplateService;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TenantFacadeETagServiceTest {
+
+  private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+  @Mock private TemplateService templateService;
+
+  @InjectMocks private TenantFacadeETagService tenantFacadeETagService;
+
+  @BeforeEach
+  void setUp() throws TemplateDescriptionServiceException {
+    when(templateService.getTemplateFingerprint()).thenReturn("v1");
+  }
+
+  @Test
+  void getETag_Should_ReturnSameQuotedETag_When_TenantAndLanguageAreUnchanged() {
+    // when
+    var eTag = tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "de");
+
+    // then
+    assertThat(eTag).startsWith("\"").endsWith("\"");
+    assertThat(tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "de")).isEqualTo(eTag);
+  }
+
+  @Test
+  void getETag_Should_ReturnDifferentETag_When_LanguageUpdateDateOrContentDiffers() {
+    // given
+    var eTag = tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "de");
+
+    // when, then
+    assertThat(tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "en"))
+        .isNotEqualTo(eTag);
+    assertThat(tenantFacadeETagService.getETag(tenant(UPDATE_DATE.plusSeconds(1), "name"), "de"))
+        .isNotEqualTo(eTag);
+    assertThat(tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "changed"), "de"))
+        .isNotEqualTo(eTag);
+  }
+
+  @Test
+  void getETag_Should_ReturnDifferentETag_When_TemplateFingerprintDiffers()
+      throws TemplateDescriptionServiceException {
+    // given
+    var eTag = tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "de");
+    when(templateService.getTemplateFingerprint()).thenReturn("v2");
+
+    // when, then
+    assertThat(tenantFacadeETagService.getETag(tenant(UPDATE_DATE, "name"), "de"))
+        .isNotEqualTo(eTag);
+  }
+
+  @Test
+  void getETagWithOverride_Should_ReturnDifferentETag_When_ContentOverrideAllowanceDiffers() {
+    // given
+    var mainTenant = tenant(UPDATE_DATE, "main");
+    var overridingTenant = tenant(UPDATE_DATE, "overriding");
+
+    // when, then
+    assertThat(
+            tenantFacadeETagService.getETagWithOverride(mainTenant, overridingTenant, "de", true))
+        .isNotEqualTo(
+            tenantFacadeETagService.getETagWithOverride(mainTenant, overridingTenant, "de", false));
+  }
+
+  private TenantEntity tenant(LocalDateTime updateDate, String name) {
+    return TenantEntity.builder().id(1L).name(name).updateDate(updateDate).build();
+  }
+}
@@ -1,11 +1,17 @@
 package com.vi.tenantservice.api.facade;
 
+import static com.vi.tenantservice.api.config.CacheManagerConfig.PRIVACY_TEMPLATES_CACHE;
+import static com.vi.tenantservice.api.config.CacheManagerConfig.TENANT_SETTINGS_CACHE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -13,6 +19,10 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.vi.tenantservice.api.authorisation.Authority.AuthorityValue;
+import com.vi.tenantservice.api.cache.PrivacyTemplateCache;
+import com.vi.tenantservice.api.cache.RestrictedTenantSnapshotCache;
+import com.vi.tenantservice.api.cache.TenantSettingsCache;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
 import com.vi.tenantservice.api.converter.ConsultingTypePatchDTOConverter;
 import com.vi.tenantservice.api.converter.TenantConverter;
 import com.vi.tenantservice.api.exception.TenantNotFoundException;
@@ -25,6 +35,7 @@ import com.vi.tenantservice.api.model.RestrictedTenantDTO;
 import com.vi.tenantservice.api.model.Settings;
 import com.vi.tenantservice.api.model.TenantDTO;
 import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStatus;
 import com.vi.tenantservice.api.service.SingleDomainTenantOverrideService;
 import com.vi.tenantservice.api.service.TemplateRenderer;
 import com.vi.tenantservice.api.service.TemplateService;
@@ -32,26 +43,38 @@ import com.vi.tenantservice.api.service.TenantService;
 import com.vi.tenantservice.api.service.TranslationService;
 import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
 import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
-import com.vi.tenantservice.api.service.consultingtype.UserAdminService;
+import com.vi.tenantservice.api.service.provisioning.TenantProvisioningService;
 import com.vi.tenantservice.api.tenant.SubdomainExtractor;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.api.validation.TenantInputSanitizer;
 import com.vi.tenantservice.config.security.AuthorisationService;
 import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
-import com.vi.tenantservice.useradminservice.generated.web.model.AdminDTO;
-import com.vi.tenantservice.useradminservice.generated.web.model.AdminResponseDTO;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
 class TenantServiceFacadeTest {
@@ -60,6 +83,7 @@ class TenantServiceFacadeTest {
   public static final String DE = "de";
   public static final String SINGLE_DOMAIN_SUBDOMAIN_NAME = "app";
   public static final int CONSULTING_TYPE_ID = 2;
+  private static final HttpHeaders HEADERS = new HttpHeaders();
   private final MultilingualTenantDTO tenantMultilingualDTO = getMultilingualTenantDTO();
 
   @Mock TemplateRenderer templateRenderer;
@@ -97,7 +121,7 @@ class TenantServiceFacadeTest {
 
   @Mock private SubdomainExtractor subdomainExtractor;
 
-  @Mock private UserAdminService userAdminService;
+  @Mock private TenantFacadeAdminDataService tenantFacadeAdminDataService;
 
   @Mock private TenantResolverService tenantResolverService;
 
@@ -106,11 +130,26 @@ class TenantServiceFacadeTest {
 
   @Mock private SingleDomainTenantOverrideService singleDomainTenantOverrideService;
 
+  @Mock private RestrictedTenantSnapshotCache restrictedTenantSnapshotCache;
+
+  @Mock private TenantFacadeETagService tenantFacadeETagService;
+
+  @Spy private TaskExecutor tenantEnrichmentExecutor = new SyncTaskExecutor();
+
+  @Mock private TenantProvisioningService tenantProvisioningService;
+
+  @Mock private ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
   @InjectMocks private TenantServiceFacade tenantServiceFacade;
 
   @BeforeEach
   public void initialize() {
     tenantEntity.setId(ID);
+    ReflectionTestUtils.setField(tenantServiceFacade, "enrichmentTimeoutMillis", 5000L);
+    lenient().when(apiClientHeaderInterceptor.captureHeaders()).thenReturn(HEADERS);
+    lenient()
+        .when(apiClientHeaderInterceptor.withHeaders(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
   }
 
   @Test
@@ -119,6 +158,7 @@ class TenantServiceFacadeTest {
     when(tenantInputSanitizer.sanitize(tenantMultilingualDTO)).thenReturn(sanitizedTenantDTO);
     when(converter.toEntity(tenantMultilingualDTO)).thenReturn(tenantEntity);
     when(tenantService.create(tenantEntity)).thenReturn(tenantEntity);
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(new MultilingualTenantDTO());
 
     // when
     tenantServiceFacade.createTenant(tenantMultilingualDTO);
@@ -126,10 +166,26 @@ class TenantServiceFacadeTest {
     // then
     verify(converter).toEntity(sanitizedTenantDTO);
     verify(tenantService).create(tenantEntity);
-    verify(consultingTypeService).createDefaultConsultingTypes(tenantEntity.getId());
+    verify(tenantProvisioningService).scheduleProvisioning(tenantEntity, false);
+    verify(consultingTypeService, never()).createDefaultConsultingTypes(any());
     verify(applicationSettingsService, never()).saveMainTenantSubDomain(any());
   }
 
+  @Test
+  void createTenant_Should_returnPendingProvisioningStatus() {
+    // given
+    when(tenantInputSanitizer.sanitize(tenantMultilingualDTO)).thenReturn(sanitizedTenantDTO);
+    when(converter.toEntity(tenantMultilingualDTO)).thenReturn(tenantEntity);
+    when(tenantService.create(tenantEntity)).thenReturn(tenantEntity);
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(new MultilingualTenantDTO());
+
+    // when
+    var createdTenant = tenantServiceFacade.createTenant(tenantMultilingualDTO);
+
+    // then
+    assertThat(createdTenant.getProvisioningStatus()).isEqualTo(TenantProvisioningStatus.PENDING);
+  }
+
   @Test
   void
       createTenant_Should_createTenantWithMainTenantSubDomain_When_multitenancyWithSingleDomainAndIsFirstNonTechnicalTenant() {
@@ -147,6 +203,7 @@ class TenantServiceFacadeTest {
     ReflectionTestUtils.setField(tenantServiceFacade, "multitenancyWithSingleDomain", true);
     when(tenantService.getAllTenants()).thenReturn(List.of(technicalTenant));
     when(subdomainExtractor.getCurrentSubdomain()).thenReturn(Optional.of("app1"));
+    when(converter.toMultilingualDTO(entity)).thenReturn(new MultilingualTenantDTO());
 
     // when
     tenantServiceFacade.createTenant(tenantMultilingualDTO);
@@ -154,8 +211,7 @@ class TenantServiceFacadeTest {
     // then
     verify(converter).toEntity(sanitizedTenantDTO);
     verify(tenantService).create(entity);
-    verify(consultingTypeService).createDefaultConsultingTypes(entity.getId());
-    verify(applicationSettingsService).saveMainTenantSubDomain("app1");
+    verify(tenantProvisioningService).scheduleProvisioning(entity, true);
   }
 
   @Test
@@ -184,8 +240,8 @@ class TenantServiceFacadeTest {
         });
 
     // then
-    verify(consultingTypeService).createDefaultConsultingTypes(entity.getId());
-    verify(applicationSettingsService, never()).saveMainTenantSubDomain(any());
+    verify(tenantProvisioningService, never()).scheduleProvisioning(any(), anyBoolean());
+    verify(tenantService).evictFromCaches(entity);
   }
 
   @Test
@@ -320,6 +376,7 @@ class TenantServiceFacadeTest {
     verify(tenantService).update(tenantEntity);
     verify(consultingTypeService)
         .patchConsultingType(
+            Mockito.eq(ID.intValue()),
             Mockito.eq(2),
             Mockito.any(
                 com.vi.tenantservice.consultingtypeservice.generated.web.model
@@ -352,6 +409,7 @@ class TenantServiceFacadeTest {
     verify(tenantService).update(tenantEntity);
     verify(consultingTypeService, never())
         .patchConsultingType(
+            Mockito.anyInt(),
             Mockito.anyInt(),
             Mockito.any(
                 com.vi.tenantservice.consultingtypeservice.generated.web.model
@@ -421,13 +479,11 @@ class TenantServiceFacadeTest {
     when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
     tenantEntity.setId(1L);
     tenantMultilingualDTO.setId(1L);
-    when(consultingTypeService.getConsultingTypesByTenantId(Mockito.anyInt()))
-        .thenReturn(new FullConsultingTypeResponseDTO());
+    when(consultingTypeService.findConsultingTypesByTenantId(Mockito.anyInt()))
+        .thenReturn(Optional.of(new FullConsultingTypeResponseDTO()));
     when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
-    when(userAdminService.getTenantAdmins(1))
-        .thenReturn(
-            Lists.newArrayList(
-                new AdminResponseDTO().embedded(new AdminDTO().email("admin@admin.com"))));
+    when(tenantFacadeAdminDataService.getAdminEmails(1L, HEADERS))
+        .thenReturn(List.of("admin@admin.com"));
     when(authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)).thenReturn(true);
     // when
     Optional<MultilingualTenantDTO> tenantById = tenantServiceFacade.findMultilingualTenantById(ID);
@@ -435,6 +491,207 @@ class TenantServiceFacadeTest {
     assertThat(tenantById.get().getAdminEmails()).containsOnly("admin@admin.com");
   }
 
+  @Test
+  void findMultilingualTenantById_Should_EnrichTenantConcurrently_When_ServicesAreSlow() {
+    // given
+    var executor = givenTenantEnrichmentExecutor();
+    givenTenantWithSlowEnrichments(300, 300);
+    var authentication = new TestingAuthenticationToken("admin", null);
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+    when(authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA))
+        .thenAnswer(
+            invocation -> SecurityContextHolder.getContext().getAuthentication() == authentication);
+
+    // when
+    try {
+      var start = System.nanoTime();
+      var tenantById = tenantServiceFacade.findMultilingualTenantById(ID);
+      var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+      // then
+      assertThat(tenantById).isPresent();
+      assertThat(tenantById.get().getAdminEmails()).containsOnly("admin@admin.com");
+      assertThat(elapsedMillis).isLessThan(550);
+    } finally {
+      SecurityContextHolder.clearContext();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_EnrichWithHeadersOfRequest_When_EnrichingOutsideOfIt() {
+    // given
+    var executor = givenTenantEnrichmentExecutor();
+    givenTenantWithSlowEnrichments(0, 0);
+    var enrichmentAuthentication = new AtomicReference<Object>("not enriched");
+    when(consultingTypeService.findConsultingTypesByTenantId(ID.intValue()))
+        .thenAnswer(
+            invocation -> {
+              enrichmentAuthentication.set(SecurityContextHolder.getContext().getAuthentication());
+              return Optional.of(new FullConsultingTypeResponseDTO());
+            });
+    SecurityContextHolder.getContext()
+        .setAuthentication(new TestingAuthenticationToken("admin", null));
+
+    // when
+    try {
+      var tenantById = tenantServiceFacade.findMultilingualTenantById(ID);
+
+      // then
+      assertThat(tenantById).isPresent();
+      assertThat(tenantById.get().getAdminEmails()).containsOnly("admin@admin.com");
+      assertThat(enrichmentAuthentication.get()).isNull();
+      verify(apiClientHeaderInterceptor, times(2)).withHeaders(eq(HEADERS), any());
+    } finally {
+      SecurityContextHolder.clearContext();
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_FailWithGatewayTimeout_When_EnrichmentExceedsDeadline() {
+    // given
+    var executor = givenTenantEnrichmentExecutor();
+    givenTenantWithSlowEnrichments(0, 2000);
+    ReflectionTestUtils.setField(tenantServiceFacade, "enrichmentTimeoutMillis", 100L);
+
+    // then
+    try {
+      var exception =
+          assertThrows(
+              ResponseStatusException.class,
+              () -> tenantServiceFacade.findMultilingualTenantById(ID));
+      assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_RethrowFailureOfEnrichment() {
+    // given
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(consultingTypeService.findConsultingTypesByTenantId(ID.intValue()))
+        .thenThrow(new TenantNotFoundException("not found"));
+
+    // then
+    assertThrows(
+        TenantNotFoundException.class, () -> tenantServiceFacade.findMultilingualTenantById(ID));
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_EnrichWithoutEnrichmentThreads_When_AsyncEnabled() {
+    // given
+    ReflectionTestUtils.setField(tenantServiceFacade, "asyncDownstreamClients", true);
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    tenantMultilingualDTO.setId(ID);
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)).thenReturn(true);
+    when(tenantFacadeAdminDataService.getAdminEmailsAsync(ID))
+        .thenReturn(CompletableFuture.completedFuture(List.of("admin@admin.com")));
+    when(consultingTypeService.findConsultingTypesByTenantIdAsync(ID.intValue()))
+        .thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+
+    // when
+    var tenantById = tenantServiceFacade.findMultilingualTenantById(ID);
+
+    // then
+    assertThat(tenantById).contains(tenantMultilingualDTO);
+    assertThat(tenantMultilingualDTO.getAdminEmails()).containsOnly("admin@admin.com");
+    verify(tenantEnrichmentExecutor, never()).execute(any());
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_FailWithGatewayTimeout_When_AsyncEnrichmentIsLate() {
+    // given
+    ReflectionTestUtils.setField(tenantServiceFacade, "asyncDownstreamClients", true);
+    ReflectionTestUtils.setField(tenantServiceFacade, "enrichmentTimeoutMillis", 100L);
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(consultingTypeService.findConsultingTypesByTenantIdAsync(ID.intValue()))
+        .thenReturn(new CompletableFuture<>());
+
+    // when
+    var exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () -> tenantServiceFacade.findMultilingualTenantById(ID));
+
+    // then
+    assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.GATEWAY_TIMEOUT);
+  }
+
+  @Test
+  void
+      findMultilingualTenantById_Should_FailWithServiceUnavailable_When_InterruptedWhileEnriching() {
+    // given
+    ReflectionTestUtils.setField(tenantServiceFacade, "asyncDownstreamClients", true);
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(consultingTypeService.findConsultingTypesByTenantIdAsync(ID.intValue()))
+        .thenReturn(new CompletableFuture<>());
+    Thread.currentThread().interrupt();
+
+    // when
+    var exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () -> tenantServiceFacade.findMultilingualTenantById(ID));
+
+    // then
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void findMultilingualTenantById_Should_FailWithInternalServerError_When_EnrichmentFailsChecked() {
+    // given
+    ReflectionTestUtils.setField(tenantServiceFacade, "asyncDownstreamClients", true);
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(consultingTypeService.findConsultingTypesByTenantIdAsync(ID.intValue()))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("unreadable")));
+
+    // when
+    var exception =
+        assertThrows(
+            ResponseStatusException.class,
+            () -> tenantServiceFacade.findMultilingualTenantById(ID));
+
+    // then
+    assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    assertThat(exception).hasCauseInstanceOf(IOException.class);
+  }
+
+  private ThreadPoolTaskExecutor givenTenantEnrichmentExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(2);
+    executor.initialize();
+    ReflectionTestUtils.setField(tenantServiceFacade, "tenantEnrichmentExecutor", executor);
+    return executor;
+  }
+
+  private void givenTenantWithSlowEnrichments(long adminDataMillis, long consultingTypeMillis) {
+    when(tenantService.findTenantById(ID)).thenReturn(Optional.of(tenantEntity));
+    tenantMultilingualDTO.setId(ID);
+    when(converter.toMultilingualDTO(tenantEntity)).thenReturn(tenantMultilingualDTO);
+    when(authorisationService.hasAuthority(AuthorityValue.GET_TENANT_ADMIN_DATA)).thenReturn(true);
+    when(tenantFacadeAdminDataService.getAdminEmails(ID, HEADERS))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(adminDataMillis);
+              return List.of("admin@admin.com");
+            });
+    when(consultingTypeService.findConsultingTypesByTenantId(ID.intValue()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(consultingTypeMillis);
+              return Optional.of(new FullConsultingTypeResponseDTO());
+            });
+  }
+
   @Test
   void getAllTenant_Should_CallServiceToGetAllTenants() {
     // when
@@ -444,49 +701,54 @@ class TenantServiceFacadeTest {
   }
 
   @Test
-  void getSingleTenant_Should_findTenant_When_onlyOneTenantIsPresent() {
+  void getVersionedSingleTenant_Should_findTenant_When_onlyOneTenantIsPresent() {
     // given
-    when(tenantService.getAllTenants()).thenReturn(List.of(tenantEntity));
+    when(tenantService.findSingleTenant()).thenReturn(Optional.of(tenantEntity));
     when(translationService.getCurrentLanguageContext()).thenReturn(DE);
-    when(converter.toRestrictedTenantDTO(tenantEntity, DE)).thenReturn(restrictedTenantDTO);
+    when(restrictedTenantSnapshotCache.get(tenantEntity, DE)).thenReturn(restrictedTenantDTO);
 
     // when
-    tenantServiceFacade.getSingleTenant();
+    var singleTenant =
+        tenantServiceFacade
+            .getVersionedSingleTenant()
+            .map(VersionedRestrictedTenant::restrictedTenant);
 
     // then
-    verify(tenantService).getAllTenants();
-    verify(converter).toRestrictedTenantDTO(tenantEntity, DE);
+    verify(tenantService, never()).getAllTenants();
+    assertThat(singleTenant).contains(restrictedTenantDTO);
   }
 
   @Test
-  void getSingleTenant_Should_shouldThrowIllegalStateException_When_moreTenantsArePresent() {
+  void
+      getVersionedSingleTenant_Should_shouldThrowIllegalStateException_When_moreTenantsArePresent() {
     // given
-    TenantEntity secondTenantEntity = new TenantEntity();
-    secondTenantEntity.setId(2L);
-    when(tenantService.getAllTenants()).thenReturn(List.of(tenantEntity, secondTenantEntity));
+    when(tenantService.findSingleTenant()).thenReturn(Optional.empty());
 
     // then
     assertThrows(
         IllegalStateException.class,
         () -> {
           // when
-          tenantServiceFacade.getSingleTenant();
+          tenantServiceFacade.getVersionedSingleTenant();
         });
 
-    verify(tenantService).getAllTenants();
-    verifyNoInteractions(converter);
+    verifyNoInteractions(restrictedTenantSnapshotCache);
   }
 
   @Test
   void
-      findTenantBySubdomain_Should_overridePrivacyDataFromDifferentTenant_When_TenantIdProvidedInRequest() {
+      findVersionedTenantBySubdomain_Should_overridePrivacyDataFromDifferentTenant_When_TenantIdProvidedInRequest() {
     // given
 
     ReflectionTestUtils.setField(tenantServiceFacade, "multitenancyWithSingleDomain", true);
     ReflectionTestUtils.setField(
         tenantServiceFacade,
         "tenantConverter",
-        new TenantConverter(new TemplateService(), templateRenderer));
+        new TenantConverter(
+            new TemplateService(),
+            templateRenderer,
+            new TenantSettingsCache(new ConcurrentMapCacheManager(TENANT_SETTINGS_CACHE)),
+            new PrivacyTemplateCache(new ConcurrentMapCacheManager(PRIVACY_TEMPLATES_CACHE))));
 
     Optional<TenantEntity> defaultTenant = getTenantWithPrivacy("{\"de\":\"content1\"}");
     Optional<TenantEntity> accessTokenTenantData = getTenantWithPrivacy("{\"de\":\"content2\"}");
@@ -503,7 +765,9 @@ class TenantServiceFacadeTest {
         .thenReturn(overriddenDTO);
     // when
     Optional<RestrictedTenantDTO> tenantDTO =
-        tenantServiceFacade.findTenantBySubdomain(SINGLE_DOMAIN_SUBDOMAIN_NAME, null);
+        tenantServiceFacade
+            .findVersionedTenantBySubdomain(SINGLE_DOMAIN_SUBDOMAIN_NAME, null)
+            .map(VersionedRestrictedTenant::restrictedTenant);
 
     // then
     assertThat(tenantDTO.get().getContent().getPrivacy()).contains("content2");
@@ -0,0 +1,74 @@
+package com.vi.tenantservice.api.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepType;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.profiles.active=testing")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DataJpaTest
+class TenantProvisioningStepRepositoryTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+  @Autowired private TenantProvisioningStepRepository tenantProvisioningStepRepository;
+
+  @Test
+  void findByStatusAndNextAttemptDate_Should_ReturnOnlyDuePendingSteps() {
+    // given
+    var due = save(StepStatus.PENDING, NOW.minusSeconds(1));
+    save(StepStatus.PENDING, NOW.plusSeconds(60));
+    save(StepStatus.DONE, NOW.minusSeconds(1));
+
+    // when
+    var dueSteps =
+        tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                StepStatus.PENDING, NOW, PageRequest.of(0, 10));
+
+    // then
+    assertThat(dueSteps)
+        .extracting(TenantProvisioningStepEntity::getId)
+        .containsExactly(due.getId());
+  }
+
+  @Test
+  void claim_Should_SucceedOnlyOnce_When_StepIsClaimedConcurrently() {
+    // given
+    var step = save(StepStatus.PENDING, NOW);
+
+    // when
+    var first =
+        tenantProvisioningStepRepository.claim(
+            step.getId(), NOW, NOW.plusSeconds(120), StepStatus.PENDING);
+    var second =
+        tenantProvisioningStepRepository.claim(
+            step.getId(), NOW, NOW.plusSeconds(120), StepStatus.PENDING);
+
+    // then
+    assertThat(first).isEqualTo(1);
+    assertThat(second).isZero();
+  }
+
+  private TenantProvisioningStepEntity save(StepStatus status, LocalDateTime nextAttemptDate) {
+    return tenantProvisioningStepRepository.saveAndFlush(
+        TenantProvisioningStepEntity.builder()
+            .tenantId(1L)
+            .stepType(StepType.CREATE_DEFAULT_CONSULTING_TYPES)
+            .status(status)
+            .nextAttemptDate(nextAttemptDate)
+            .createDate(NOW)
+            .updateDate(NOW)
+            .build());
+  }
+}
@@ -0,0 +1,141 @@
+package com.vi.tenantservice.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.vi.tenantservice.api.resilience.CircuitBreaker.State;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+  private static final Duration OPEN_WAIT = Duration.ofSeconds(30);
+
+  private final MutableClock clock = new MutableClock();
+
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker(50, 10, 4, OPEN_WAIT, 2, clock);
+
+  @Test
+  void tryAcquirePermission_Should_StayClosed_When_FailureRateIsBelowThreshold() {
+    // when
+    record(true, false, false, false, true, false);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  void tryAcquirePermission_Should_NotOpen_When_FewerThanMinimumCallsWereMade() {
+    // when
+    record(true, true, true);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void tryAcquirePermission_Should_RejectCalls_When_FailureRateReachedThreshold() {
+    // when
+    record(true, false, true, false);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  void tryAcquirePermission_Should_OnlyCountCallsOfSlidingWindow() {
+    // given
+    record(false, false, false, false, false, false, false, false, false, false);
+
+    // when
+    record(true, true, true, true, true);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+  }
+
+  @Test
+  void tryAcquirePermission_Should_PermitLimitedTrialCalls_When_OpenWaitPassed() {
+    // given
+    record(true, true, true, true);
+    clock.advance(OPEN_WAIT);
+
+    // when
+    var first = circuitBreaker.tryAcquirePermission();
+    var second = circuitBreaker.tryAcquirePermission();
+    var third = circuitBreaker.tryAcquirePermission();
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(third).isFalse();
+  }
+
+  @Test
+  void onSuccess_Should_CloseCircuit_When_TrialCallsSucceed() {
+    // given
+    record(true, true, true, true);
+    clock.advance(OPEN_WAIT);
+
+    // when
+    record(false, false);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+  }
+
+  @Test
+  void onFailure_Should_OpenCircuitAgain_When_TrialCallsFail() {
+    // given
+    record(true, true, true, true);
+    clock.advance(OPEN_WAIT);
+
+    // when
+    record(false, true);
+
+    // then
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  private void record(boolean... failures) {
+    for (boolean failed : failures) {
+      assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+      if (failed) {
+        circuitBreaker.onFailure();
+      } else {
+        circuitBreaker.onSuccess();
+      }
+    }
+  }
+
+  private static class MutableClock extends Clock {
+
+    private volatile Instant instant = Instant.parse("2024-01-01T10:00:00Z");
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,273 @@
+package com.vi.tenantservice.api.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vi.tenantservice.api.exception.DownstreamUnavailableException;
+import com.vi.tenantservice.api.resilience.CircuitBreaker.State;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class DownstreamGuardTest {
+
+  private static final String SERVICE = "stubService";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final AtomicInteger receivedRequests = new AtomicInteger();
+
+  private final AtomicInteger startedSlowRequests = new AtomicInteger();
+
+  private final CountDownLatch releaseSlowRequests = new CountDownLatch(1);
+
+  private RestTemplate restTemplate;
+
+  private HttpServer server;
+
+  private DownstreamGuard downstreamGuard;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/ok", exchange -> respond(exchange, 200));
+    server.createContext("/error", exchange -> respond(exchange, 500));
+    server.createContext("/forbidden", exchange -> respond(exchange, 403));
+    server.createContext(
+        "/slow",
+        exchange -> {
+          startedSlowRequests.incrementAndGet();
+          try {
+            releaseSlowRequests.await(5, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          respond(exchange, 200);
+        });
+    server.start();
+    restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+    downstreamGuard =
+        new DownstreamGuard(
+            SERVICE,
+            new CircuitBreaker(50, 10, 4, Duration.ofSeconds(30), 2, Clock.systemUTC()),
+            2,
+            Duration.ofMillis(50),
+            meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    releaseSlowRequests.countDown();
+    server.stop(0);
+  }
+
+  @Test
+  void call_Should_ReturnResultAndCountSuccess_When_ServiceAnswers() {
+    // when
+    var result = downstreamGuard.call(() -> get("/ok"));
+
+    // then
+    assertThat(result).isEqualTo("ok");
+    assertThat(callCount("success")).isEqualTo(1);
+  }
+
+  @Test
+  void call_Should_OpenCircuitAndFailFastWithoutCallingService_When_ServiceKeepsFailing() {
+    // given
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> downstreamGuard.call(() -> get("/error")))
+          .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    // when
+    var requestsBefore = receivedRequests.get();
+
+    // then
+    assertThatThrownBy(() -> downstreamGuard.call(() -> get("/ok")))
+        .isInstanceOf(DownstreamUnavailableException.class);
+    assertThat(receivedRequests).hasValue(requestsBefore);
+    assertThat(downstreamGuard.getCircuitBreakerState()).isEqualTo(State.OPEN);
+    assertThat(stateGauge()).isEqualTo(State.OPEN.ordinal());
+    assertThat(callCount("failure")).isEqualTo(4);
+    assertThat(callCount("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  void call_Should_KeepCircuitClosed_When_ServiceAnswersWithClientErrors() {
+    // when
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> downstreamGuard.call(() -> get("/forbidden")))
+          .isInstanceOf(HttpClientErrorException.class);
+    }
+
+    // then
+    assertThat(downstreamGuard.getCircuitBreakerState()).isEqualTo(State.CLOSED);
+    assertThat(stateGauge()).isEqualTo(State.CLOSED.ordinal());
+  }
+
+  @Test
+  void call_Should_RejectCall_When_MaximumConcurrentCallsAreRunning() throws Exception {
+    // given
+    var slowCalls =
+        new CompletableFuture<?>[] {
+          CompletableFuture.supplyAsync(() -> downstreamGuard.call(() -> get("/slow"))),
+          CompletableFuture.supplyAsync(() -> downstreamGuard.call(() -> get("/slow")))
+        };
+    while (startedSlowRequests.get() < 2) {
+      Thread.sleep(10);
+    }
+
+    // when
+    var start = System.nanoTime();
+    assertThatThrownBy(() -> downstreamGuard.call(() -> get("/ok")))
+        .isInstanceOf(DownstreamUnavailableException.class);
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+    // then
+    assertThat(elapsedMillis).isLessThan(1000);
+    assertThat(bulkheadGauge()).isZero();
+    releaseSlowRequests.countDown();
+    CompletableFuture.allOf(slowCalls).get(5, TimeUnit.SECONDS);
+    assertThat(bulkheadGauge()).isEqualTo(2);
+    assertThat(callCount("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  void callAsync_Should_RejectRightAwayAndReleasePermitOnCompletion_When_BulkheadIsFull()
+      throws Exception {
+    // given
+    var slowCalls =
+        new CompletableFuture<?>[] {
+          downstreamGuard.callAsync(() -> CompletableFuture.supplyAsync(() -> get("/slow"))),
+          downstreamGuard.callAsync(() -> CompletableFuture.supplyAsync(() -> get("/slow")))
+        };
+
+    // when
+    var rejectedCall =
+        downstreamGuard.callAsync(() -> CompletableFuture.supplyAsync(() -> get("/ok")));
+
+    // then
+    assertThat(rejectedCall)
+        .isCompletedExceptionally()
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(DownstreamUnavailableException.class);
+    releaseSlowRequests.countDown();
+    CompletableFuture.allOf(slowCalls).get(5, TimeUnit.SECONDS);
+    assertThat(bulkheadGauge()).isEqualTo(2);
+    assertThat(callCount("success")).isEqualTo(2);
+    assertThat(callCount("rejected")).isEqualTo(1);
+  }
+
+  @Test
+  void callAsync_Should_OpenCircuit_When_ReturnedFuturesKeepFailing() {
+    // given
+    for (int i = 0; i < 4; i++) {
+      var call =
+          downstreamGuard.callAsync(() -> CompletableFuture.supplyAsync(() -> get("/error")));
+      assertThat(call).failsWithin(Duration.ofSeconds(5));
+    }
+
+    // when
+    var call = downstreamGuard.callAsync(() -> CompletableFuture.supplyAsync(() -> get("/ok")));
+
+    // then
+    assertThat(call)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(ExecutionException.class)
+        .withCauseInstanceOf(DownstreamUnavailableException.class);
+    assertThat(downstreamGuard.getCircuitBreakerState()).isEqualTo(State.OPEN);
+    assertThat(callCount("failure")).isEqualTo(4);
+  }
+
+  private String get(String path) {
+    return restTemplate.getForObject(
+        "http://localhost:" + server.getAddress().getPort() + path, String.class);
+  }
+
+  @Test
+  void call_Should_RecordOutcomeOfHalfOpenCalls_When_TheyEndWithErrorOrRejectionOfSupplier() {
+    // given
+    var guard =
+        new DownstreamGuard(
+            SERVICE,
+            new CircuitBreaker(50, 4, 4, Duration.ZERO, 2, Clock.systemUTC()),
+            2,
+            Duration.ofMillis(50),
+            meterRegistry);
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> guard.call(() -> get("/error")))
+          .isInstanceOf(HttpServerErrorException.class);
+    }
+
+    // when
+    assertThatThrownBy(
+            () ->
+                guard.call(
+                    () -> {
+                      throw new StackOverflowError();
+                    }))
+        .isInstanceOf(StackOverflowError.class);
+    var rejectedBySupplier =
+        guard.callAsync(
+            () -> {
+              throw new DownstreamUnavailableException("nested circuit is open");
+            });
+
+    // then
+    assertThat(rejectedBySupplier).isCompletedExceptionally();
+    assertThat(guard.getCircuitBreakerState()).isEqualTo(State.OPEN);
+  }
+
+  private void respond(HttpExchange exchange, int status) throws IOException {
+    receivedRequests.incrementAndGet();
+    var body = "ok".getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private double callCount(String outcome) {
+    return meterRegistry
+        .get("downstream.calls")
+        .tag("service", SERVICE)
+        .tag("outcome", outcome)
+        .counter()
+        .count();
+  }
+
+  private double stateGauge() {
+    return meterRegistry
+        .get("downstream.circuitbreaker.state")
+        .tag("service", SERVICE)
+        .gauge()
+        .value();
+  }
+
+  private double bulkheadGauge() {
+    return meterRegistry
+        .get("downstream.bulkhead.available.calls")
+        .tag("service", SERVICE)
+        .gauge()
+        .value();
+  }
+}
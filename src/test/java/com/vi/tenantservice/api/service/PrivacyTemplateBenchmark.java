@@ -0,0 +1,99 @@
+package com.vi.tenantservice.api.service;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.COMPILED_TEMPLATES_CACHE;
+
+import com.vi.tenantservice.api.cache.CompiledTemplateCache;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateExceptionHandler;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Compares the three privacy rendering paths: returning static text, substituting plain
+ * placeholders and processing the compiled FreeMarker template. The placeholder text is also
+ * processed by FreeMarker, as done for all texts before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrivacyTemplateBenchmark {
+
+  private static final Set<String> VARIABLES = Set.of("responsible", "dataProtectionOfficer");
+
+  private static final String STATIC_PRIVACY =
+      "<h2>Datenschutz</h2><p>Verantwortlich ist die Beratungsstelle Musterstadt.</p>".repeat(10);
+
+  private static final String PLACEHOLDER_PRIVACY =
+      "<h2>Datenschutz</h2><p>${responsible}</p><p>${dataProtectionOfficer}</p>".repeat(10);
+
+  private static final Map<String, Object> DATA_MODEL =
+      Map.of(
+          "dataProtectionOfficer", "Max Mustermann<br/>Musterstraße 1<br/>12345 Musterstadt",
+          "responsible", "Beratungsstelle Musterstadt<br/>info@example.com");
+
+  private PrivacyTemplate staticTemplate;
+
+  private PrivacyTemplate placeholderTemplate;
+
+  private TemplateRenderer templateRenderer;
+
+  @Setup
+  public void setUp() {
+    staticTemplate = PrivacyTemplate.classify(STATIC_PRIVACY, VARIABLES);
+    placeholderTemplate = PrivacyTemplate.classify(PLACEHOLDER_PRIVACY, VARIABLES);
+    var configuration = new Configuration(Configuration.VERSION_2_3_32);
+    configuration.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
+    templateRenderer =
+        new TemplateRenderer(
+            new CompiledTemplateCache(
+                new ConcurrentMapCacheManager(COMPILED_TEMPLATES_CACHE), configuration));
+  }
+
+  @Benchmark
+  public String renderStatic() {
+    return staticTemplate.render(DATA_MODEL);
+  }
+
+  @Benchmark
+  public String renderPlaceholders() {
+    return placeholderTemplate.render(DATA_MODEL);
+  }
+
+  @Benchmark
+  public String renderPlaceholdersWithFreeMarker() throws Exception {
+    return templateRenderer.renderTemplate(PLACEHOLDER_PRIVACY, DATA_MODEL);
+  }
+
+  @Benchmark
+  public String renderStaticWithFreeMarker() throws Exception {
+    return templateRenderer.renderTemplate(STATIC_PRIVACY, DATA_MODEL);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(PrivacyTemplateBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,86 @@
+package com.vi.tenantservice.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.Maps;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PrivacyTemplateTest {
+
+  private static final Set<String> VARIABLES = Set.of("responsible", "dataProtectionOfficer");
+
+  @Test
+  void classify_Should_ReturnStatic_When_TextHasNoFreeMarkerSyntax() {
+    // when
+    var privacyTemplate = PrivacyTemplate.classify("<p>Privacy costs $5 {or more}</p>", VARIABLES);
+
+    // then
+    assertThat(privacyTemplate.getKind()).isEqualTo(PrivacyTemplate.Kind.STATIC);
+    assertThat(privacyTemplate.render(Map.of("responsible", "x")))
+        .isEqualTo("<p>Privacy costs $5 {or more}</p>");
+  }
+
+  @Test
+  void classify_Should_ReturnPlaceholders_When_TextOnlyUsesKnownVariables() {
+    // when
+    var privacyTemplate =
+        PrivacyTemplate.classify("${responsible} and ${ dataProtectionOfficer }.", VARIABLES);
+
+    // then
+    assertThat(privacyTemplate.getKind()).isEqualTo(PrivacyTemplate.Kind.PLACEHOLDERS);
+    assertThat(
+            privacyTemplate.render(
+                Map.of("responsible", "Responsible", "dataProtectionOfficer", "Officer")))
+        .isEqualTo("Responsible and Officer.");
+  }
+
+  @Test
+  void render_Should_RenderEmptyText_When_PlaceholderValueIsMissingOrNull() {
+    // given
+    var privacyTemplate =
+        PrivacyTemplate.classify("a${responsible}b${dataProtectionOfficer}c", VARIABLES);
+    Map<String, Object> dataModel = Maps.newHashMap();
+    dataModel.put("responsible", null);
+
+    // when
+    var rendered = privacyTemplate.render(dataModel);
+
+    // then
+    assertThat(rendered).isEqualTo("abc");
+  }
+
+  @Test
+  void classify_Should_ReturnFreeMarker_When_TextUsesUnknownVariable() {
+    // when
+    var privacyTemplate = PrivacyTemplate.classify("${responsible} ${name}", VARIABLES);
+
+    // then
+    assertThat(privacyTemplate.getKind()).isEqualTo(PrivacyTemplate.Kind.FREEMARKER);
+  }
+
+  @Test
+  void classify_Should_ReturnFreeMarker_When_TextUsesExpressionsOrDirectives() {
+    // then
+    assertThat(PrivacyTemplate.classify("${responsible!}", VARIABLES).getKind())
+        .isEqualTo(PrivacyTemplate.Kind.FREEMARKER);
+    assertThat(
+            PrivacyTemplate.classify("<#if responsible??>${responsible}</#if>", VARIABLES)
+                .getKind())
+        .isEqualTo(PrivacyTemplate.Kind.FREEMARKER);
+    assertThat(PrivacyTemplate.classify("#{responsible}", VARIABLES).getKind())
+        .isEqualTo(PrivacyTemplate.Kind.FREEMARKER);
+  }
+
+  @Test
+  void render_Should_Throw_When_TemplateNeedsFreeMarker() {
+    // given
+    var privacyTemplate = PrivacyTemplate.classify("<@macro/>", VARIABLES);
+
+    // then
+    assertThatThrownBy(() -> privacyTemplate.render(Map.of()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
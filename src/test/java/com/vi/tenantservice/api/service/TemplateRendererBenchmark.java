@@ -0,0 +1,112 @@
+package com.vi.tenantservice.api.service;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.COMPILED_TEMPLATES_CACHE;
+
+import com.vi.tenantservice.api.cache.CompiledTemplateCache;
+import freemarker.cache.NullCacheStorage;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.TemplateExceptionHandler;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Renders the privacy texts of many tenants from several threads, comparing the compiled template
+ * cache with parsing each text on every call through a shared string template loader, as done
+ * before. The loader variant is synchronized, since it is not correct otherwise.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class TemplateRendererBenchmark {
+
+  private static final int TENANTS = 200;
+
+  private static final Map<String, Object> DATA_MODEL =
+      Map.of(
+          "dataProtectionOfficer", "Max Mustermann<br/>Musterstraße 1<br/>12345 Musterstadt",
+          "dataProtectionResponsible", "Beratungsstelle Musterstadt<br/>info@example.com");
+
+  private final String[] privacyTexts = new String[TENANTS];
+
+  private TemplateRenderer templateRenderer;
+
+  private Configuration loaderConfiguration;
+
+  @Setup
+  public void setUp() {
+    for (int tenant = 0; tenant < TENANTS; tenant++) {
+      privacyTexts[tenant] =
+          ("<h2>Datenschutz von Mandant %d</h2><p>Verantwortlich:</p><p>${dataProtectionResponsible}"
+                  + "</p><p>Datenschutzbeauftragte:</p><p>${dataProtectionOfficer}</p>")
+              .formatted(tenant)
+              .repeat(10);
+    }
+    var configuration = newConfiguration();
+    templateRenderer =
+        new TemplateRenderer(
+            new CompiledTemplateCache(
+                new ConcurrentMapCacheManager(COMPILED_TEMPLATES_CACHE), configuration));
+    loaderConfiguration = newConfiguration();
+    loaderConfiguration.setCacheStorage(NullCacheStorage.INSTANCE);
+    loaderConfiguration.setTemplateLoader(new StringTemplateLoader());
+  }
+
+  @Benchmark
+  public String renderWithCompiledTemplateCache() throws Exception {
+    return templateRenderer.renderTemplate(randomPrivacyText(), DATA_MODEL);
+  }
+
+  @Benchmark
+  public String renderWithSharedTemplateLoader() throws Exception {
+    synchronized (loaderConfiguration) {
+      var templateLoader = (StringTemplateLoader) loaderConfiguration.getTemplateLoader();
+      templateLoader.putTemplate("in-memory-template", randomPrivacyText());
+      var template = loaderConfiguration.getTemplate("in-memory-template");
+      var stringWriter = new StringWriter();
+      template.process(DATA_MODEL, stringWriter);
+      return stringWriter.toString();
+    }
+  }
+
+  private String randomPrivacyText() {
+    return privacyTexts[ThreadLocalRandom.current().nextInt(TENANTS)];
+  }
+
+  private static Configuration newConfiguration() {
+    var configuration = new Configuration(Configuration.VERSION_2_3_32);
+    configuration.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
+    return configuration;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(TemplateRendererBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
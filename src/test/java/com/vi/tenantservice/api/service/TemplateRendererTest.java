@@ -5,7 +5,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.collect.Maps;
 import freemarker.template.TemplateException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -61,4 +68,43 @@ class TemplateRendererTest {
     // then
     assertThat(renderedTemplate).isEqualTo("Hello ");
   }
+
+  @Test
+  void renderTemplate_Should_RenderEachTemplateWithItsOwnContent_When_CalledConcurrently()
+      throws Exception {
+    // given
+    int tenants = 50;
+    int rendersPerTenant = 20;
+    ExecutorService executorService = Executors.newFixedThreadPool(16);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int tenant = 0; tenant < tenants; tenant++) {
+      String templateContent = "Tenant " + tenant + ": ${name}";
+      String expected = "Tenant " + tenant + ": officer " + tenant;
+      Map<String, Object> dataModel = Map.of("name", "officer " + tenant);
+      Callable<Boolean> render =
+          () -> {
+            start.await();
+            for (int i = 0; i < rendersPerTenant; i++) {
+              if (!expected.equals(templateRenderer.renderTemplate(templateContent, dataModel))) {
+                return false;
+              }
+            }
+            return true;
+          };
+      results.add(executorService.submit(render));
+    }
+
+    // when
+    start.countDown();
+
+    // then
+    try {
+      for (Future<Boolean> result : results) {
+        assertThat(result.get()).isTrue();
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
 }
@@ -1,11 +1,21 @@
 package com.vi.tenantservice.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @SpringBootTest
 @TestPropertySource(properties = "spring.profiles.active=testing")
@@ -70,4 +80,159 @@ class TemplateServiceTest {
                 .getAlternativeRepresentativeContact())
         .isNotNull();
   }
+
+  @Test
+  void getMultilingualDataProtectionTemplate_Should_ReturnLoadedTemplates_When_CalledRepeatedly()
+      throws TemplateDescriptionServiceException {
+
+    // given
+    var version = templateService.getTemplateVersion();
+    var fingerprint = templateService.getTemplateFingerprint();
+
+    // when
+    var first = templateService.getMultilingualDataProtectionTemplate();
+    var second = templateService.getMultilingualDataProtectionTemplate();
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(templateService.getTemplateVersion()).isEqualTo(version);
+    assertThat(templateService.getTemplateFingerprint()).isEqualTo(fingerprint);
+  }
+
+  @Test
+  void initialize_Should_ReloadTemplates_When_CustomTemplateFileChanges(@TempDir Path templateDir)
+      throws Exception {
+
+    // given
+    copyTemplate("dataProtectionContactTemplate.json", templateDir);
+    copyTemplate("dataProtectionContactTemplate.en.json", templateDir);
+    var customTemplateService = new TemplateService();
+    ReflectionTestUtils.setField(customTemplateService, "useCustomResourcesPath", true);
+    ReflectionTestUtils.setField(
+        customTemplateService, "customResourcePath", templateDir.toString() + "/");
+    customTemplateService.initialize();
+    var version = customTemplateService.getTemplateVersion();
+    var fingerprint = customTemplateService.getTemplateFingerprint();
+
+    try {
+      // when
+      var templateFile = templateDir.resolve("dataProtectionContactTemplate.json");
+      Files.writeString(
+          templateFile,
+          Files.readString(templateFile).replace("Der Verantwortliche", "Die Verantwortliche"));
+
+      // then
+      await()
+          .atMost(Duration.ofSeconds(30))
+          .until(() -> customTemplateService.getTemplateVersion() > version);
+      assertThat(customTemplateService.getTemplateFingerprint()).isNotEqualTo(fingerprint);
+      assertThat(
+              customTemplateService
+                  .getDefaultDataProtectionTemplate()
+                  .getNoAgencyContext()
+                  .getResponsibleContact())
+          .contains("Die Verantwortliche kann erst angezeigt werden");
+    } finally {
+      customTemplateService.stopWatching();
+    }
+  }
+
+  @Test
+  void initialize_Should_ReloadTemplates_When_MountedDirectoryIsSwapped(@TempDir Path templateDir)
+      throws Exception {
+
+    // given
+    var firstVersionDir = Files.createDirectory(templateDir.resolve("..first"));
+    copyTemplate("dataProtectionContactTemplate.json", firstVersionDir);
+    copyTemplate("dataProtectionContactTemplate.en.json", firstVersionDir);
+    Files.createSymbolicLink(templateDir.resolve("..data"), firstVersionDir.getFileName());
+    linkTemplate("dataProtectionContactTemplate.json", templateDir);
+    linkTemplate("dataProtectionContactTemplate.en.json", templateDir);
+    var customTemplateService = givenCustomTemplateService(templateDir);
+    customTemplateService.initialize();
+    var version = customTemplateService.getTemplateVersion();
+
+    try {
+      // when
+      var secondVersionDir = Files.createDirectory(templateDir.resolve("..second"));
+      copyTemplate("dataProtectionContactTemplate.json", secondVersionDir);
+      copyTemplate("dataProtectionContactTemplate.en.json", secondVersionDir);
+      var templateFile = secondVersionDir.resolve("dataProtectionContactTemplate.json");
+      Files.writeString(
+          templateFile,
+          Files.readString(templateFile).replace("Der Verantwortliche", "Die Verantwortliche"));
+      var newDataLink =
+          Files.createSymbolicLink(
+              templateDir.resolve("..data_tmp"), secondVersionDir.getFileName());
+      Files.move(newDataLink, templateDir.resolve("..data"), StandardCopyOption.ATOMIC_MOVE);
+
+      // then
+      await()
+          .atMost(Duration.ofSeconds(30))
+          .until(() -> customTemplateService.getTemplateVersion() > version);
+      assertThat(
+              customTemplateService
+                  .getDefaultDataProtectionTemplate()
+                  .getNoAgencyContext()
+                  .getResponsibleContact())
+          .contains("Die Verantwortliche kann erst angezeigt werden");
+    } finally {
+      customTemplateService.stopWatching();
+    }
+  }
+
+  @Test
+  void getTemplateVersion_Should_FailFast_When_LoadingFailedWithinRetryInterval(
+      @TempDir Path templateDir) throws Exception {
+
+    // given
+    var customTemplateService = givenCustomTemplateService(templateDir);
+    ReflectionTestUtils.setField(customTemplateService, "loadRetryIntervalMillis", 3_600_000L);
+    assertThatThrownBy(customTemplateService::getMultilingualDataProtectionTemplate)
+        .isInstanceOf(TemplateDescriptionServiceException.class);
+    copyTemplate("dataProtectionContactTemplate.json", templateDir);
+    copyTemplate("dataProtectionContactTemplate.en.json", templateDir);
+
+    // when, then
+    assertThatThrownBy(customTemplateService::getTemplateVersion)
+        .isInstanceOf(TemplateDescriptionServiceException.class)
+        .hasMessageContaining("next attempt");
+  }
+
+  @Test
+  void getTemplateVersion_Should_RetryLoading_When_RetryIntervalIsOver(@TempDir Path templateDir)
+      throws Exception {
+
+    // given
+    var customTemplateService = givenCustomTemplateService(templateDir);
+    assertThatThrownBy(customTemplateService::getTemplateVersion)
+        .isInstanceOf(TemplateDescriptionServiceException.class);
+    copyTemplate("dataProtectionContactTemplate.json", templateDir);
+    copyTemplate("dataProtectionContactTemplate.en.json", templateDir);
+
+    // when
+    var version = customTemplateService.getTemplateVersion();
+
+    // then
+    assertThat(version).isEqualTo(1);
+  }
+
+  private TemplateService givenCustomTemplateService(Path templateDir) {
+    var customTemplateService = new TemplateService();
+    ReflectionTestUtils.setField(customTemplateService, "useCustomResourcesPath", true);
+    ReflectionTestUtils.setField(
+        customTemplateService, "customResourcePath", templateDir.toString() + "/");
+    return customTemplateService;
+  }
+
+  private void linkTemplate(String fileName, Path templateDir) throws IOException {
+    Files.createSymbolicLink(templateDir.resolve(fileName), Path.of("..data", fileName));
+  }
+
+  private void copyTemplate(String fileName, Path templateDir) throws IOException {
+    try (InputStream template =
+        TemplateServiceTest.class.getResourceAsStream("/templates/" + fileName)) {
+      Files.copy(template, templateDir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
 }
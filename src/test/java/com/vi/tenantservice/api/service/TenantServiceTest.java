@@ -2,10 +2,15 @@ package com.vi.tenantservice.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.vi.tenantservice.api.cache.RestrictedTenantSnapshotCache;
+import com.vi.tenantservice.api.cache.TenantCache;
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
 import com.vi.tenantservice.api.exception.TenantValidationException;
 import com.vi.tenantservice.api.model.TenantEntity;
 import com.vi.tenantservice.api.repository.TenantRepository;
@@ -13,6 +18,8 @@ import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsServic
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTOMainTenantSubdomainForSingleDomainMultitenancy;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +27,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @ExtendWith(MockitoExtension.class)
 class TenantServiceTest {
@@ -29,6 +39,9 @@ class TenantServiceTest {
   @Mock private TenantRepository tenantRepository;
   @Mock private ApplicationSettingsService applicationSettingsService;
   @Mock private ConfigurationFileLoader configurationFileLoader;
+  @Mock private TenantCache tenantCache;
+  @Mock private RestrictedTenantSnapshotCache restrictedTenantSnapshotCache;
+  @Mock private TenantSubdomainIndex tenantSubdomainIndex;
 
   @InjectMocks private TenantService tenantService;
 
@@ -190,6 +203,159 @@ class TenantServiceTest {
     verify(tenantRepository).findById(tenantId);
   }
 
+  @Test
+  void findTenantById_Should_ReturnCachedTenantWithoutCallingRepository_When_TenantIsCached() {
+    // given
+    TenantEntity cachedTenant = new TenantEntity();
+    cachedTenant.setId(1L);
+    when(tenantCache.findById(1L)).thenReturn(Optional.of(cachedTenant));
+    // when
+    var result = tenantService.findTenantById(1L);
+    // then
+    assertThat(result).contains(cachedTenant);
+    verify(tenantRepository, never()).findById(1L);
+  }
+
+  @Test
+  void findTenantById_Should_PutTenantIntoCache_When_TenantIsNotCached() {
+    // given
+    TenantEntity tenantEntity = new TenantEntity();
+    tenantEntity.setId(1L);
+    when(tenantRepository.findById(1L)).thenReturn(Optional.of(tenantEntity));
+    // when
+    tenantService.findTenantById(1L);
+    // then
+    verify(tenantCache).put(tenantEntity);
+  }
+
+  @Test
+  void findSingleTenant_Should_ReturnCachedTenantWithoutLoadingAllTenants_When_OnlyOneExists() {
+    // given
+    TenantEntity cachedTenant = new TenantEntity();
+    cachedTenant.setId(1L);
+    when(tenantRepository.findIds(PageRequest.of(0, 2))).thenReturn(List.of(1L));
+    when(tenantCache.findById(1L)).thenReturn(Optional.of(cachedTenant));
+    // when
+    var result = tenantService.findSingleTenant();
+    // then
+    assertThat(result).contains(cachedTenant);
+    verify(tenantRepository, never()).findAll();
+  }
+
+  @Test
+  void findSingleTenant_Should_ReturnEmpty_When_MoreTenantsExist() {
+    // given
+    when(tenantRepository.findIds(PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+    // when
+    var result = tenantService.findSingleTenant();
+    // then
+    assertThat(result).isEmpty();
+    verifyNoInteractions(tenantCache);
+  }
+
+  @Test
+  void
+      findTenantBySubdomain_Should_ReturnCachedTenantWithoutCallingRepository_When_TenantIsCached() {
+    // given
+    TenantEntity cachedTenant = new TenantEntity();
+    cachedTenant.setSubdomain("subdomain");
+    when(tenantCache.findBySubdomain("subdomain")).thenReturn(Optional.of(cachedTenant));
+    // when
+    var result = tenantService.findTenantBySubdomain("subdomain");
+    // then
+    assertThat(result).contains(cachedTenant);
+    verify(tenantRepository, never()).findBySubdomain("subdomain");
+  }
+
+  @Test
+  void update_Should_EvictTenantFromCache() {
+    // given
+    TenantEntity tenantEntity = new EasyRandom().nextObject(TenantEntity.class);
+    when(tenantRepository.save(tenantEntity)).thenReturn(tenantEntity);
+    // when
+    tenantService.update(tenantEntity);
+    // then
+    verify(tenantCache).evict(tenantEntity);
+  }
+
+  @Test
+  void update_Should_RefreshRestrictedTenantSnapshotsOfSavedTenant() {
+    // given
+    TenantEntity tenantEntity = new EasyRandom().nextObject(TenantEntity.class);
+    TenantEntity savedTenant = tenantEntity.toBuilder().build();
+    when(tenantRepository.save(tenantEntity)).thenReturn(savedTenant);
+    // when
+    tenantService.update(tenantEntity);
+    // then
+    verify(restrictedTenantSnapshotCache).refresh(savedTenant);
+  }
+
+  @Test
+  void create_Should_PutTenantIntoSubdomainIndexOnlyAfterCommit() {
+    // given
+    TenantEntity tenantEntity = new TenantEntity();
+    when(tenantRepository.save(tenantEntity)).thenReturn(tenantEntity);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      tenantService.create(tenantEntity);
+
+      // then
+      verify(tenantSubdomainIndex, never()).put(tenantEntity);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(tenantSubdomainIndex).put(tenantEntity);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void update_Should_EvictTenantFromCacheOnlyAfterCommit() {
+    // given
+    TenantEntity tenantEntity = new EasyRandom().nextObject(TenantEntity.class);
+    when(tenantRepository.save(tenantEntity)).thenReturn(tenantEntity);
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      // when
+      tenantService.update(tenantEntity);
+
+      // then
+      verify(tenantCache, never()).evict(tenantEntity);
+      TransactionSynchronizationManager.getSynchronizations()
+          .forEach(TransactionSynchronization::afterCommit);
+      verify(tenantCache).evict(tenantEntity);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void update_Should_PutTenantIntoSubdomainIndex_When_NoTransactionIsActive() {
+    // given
+    TenantEntity tenantEntity = new EasyRandom().nextObject(TenantEntity.class);
+    when(tenantRepository.save(tenantEntity)).thenReturn(tenantEntity);
+
+    // when
+    tenantService.update(tenantEntity);
+
+    // then
+    verify(tenantSubdomainIndex).put(tenantEntity);
+  }
+
+  @Test
+  void delete_Should_EvictTenantFromCache() {
+    // given
+    TenantEntity tenantEntity = new TenantEntity();
+    tenantEntity.setId(1L);
+    // when
+    tenantService.delete(tenantEntity);
+    // then
+    verify(tenantRepository).delete(tenantEntity);
+    verify(tenantCache).evict(tenantEntity);
+    verify(restrictedTenantSnapshotCache).evict(tenantEntity);
+  }
+
   @Test
   void getAllTenants_Should_CallFindAllTenants() {
     // when
@@ -0,0 +1,63 @@
+package com.vi.tenantservice.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class TranslationServiceTest {
+
+  private final TranslationService translationService = new TranslationService();
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void getCurrentLanguageContext_Should_ReturnLanguageOfCookie_When_ItIsAnIsoLanguage() {
+    // given
+    givenRequestWithLanguageCookie("en");
+
+    // when
+    var language = translationService.getCurrentLanguageContext();
+
+    // then
+    assertThat(language).isEqualTo("en");
+  }
+
+  @Test
+  void getCurrentLanguageContext_Should_ReturnDefaultLanguage_When_CookieIsNoIsoLanguage() {
+    // given
+    givenRequestWithLanguageCookie("unknown-language");
+
+    // when
+    var language = translationService.getCurrentLanguageContext();
+
+    // then
+    assertThat(language).isEqualTo("de");
+  }
+
+  @Test
+  void getCurrentLanguageContext_Should_ReturnDefaultLanguage_When_NoCookieIsSet() {
+    // given
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+
+    // when
+    var language = translationService.getCurrentLanguageContext();
+
+    // then
+    assertThat(language).isEqualTo("de");
+  }
+
+  private void givenRequestWithLanguageCookie(String language) {
+    var request = new MockHttpServletRequest();
+    request.setCookies(new Cookie("lang", language));
+    RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+  }
+}
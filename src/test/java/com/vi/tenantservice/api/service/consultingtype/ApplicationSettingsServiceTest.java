@@ -1,19 +1,31 @@
 package com.vi.tenantservice.api.service.consultingtype;
 
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
 import com.vi.tenantservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
-import com.vi.tenantservice.api.service.httpheader.SecurityHeaderSupplier;
+import com.vi.tenantservice.api.resilience.CircuitBreaker;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
 import com.vi.tenantservice.api.tenant.TenantResolverService;
 import com.vi.tenantservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import com.vi.tenantservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpHeaders;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -26,11 +38,22 @@ class ApplicationSettingsServiceTest {
 
   @Mock TenantResolverService tenantResolverService;
 
-  @Mock SecurityHeaderSupplier securityHeaderSupplier;
+  @Mock TenantSubdomainIndex tenantSubdomainIndex;
 
-  @Mock ApplicationsettingsControllerApi applicationsettingsControllerApi;
+  @Mock ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  @Spy
+  DownstreamGuard applicationSettingsGuard =
+      new DownstreamGuard(
+          "applicationSettingsService",
+          new CircuitBreaker(50, 20, 10, Duration.ofSeconds(30), 3, Clock.systemUTC()),
+          20,
+          Duration.ofMillis(100),
+          new SimpleMeterRegistry());
 
-  @Mock com.vi.tenantservice.applicationsettingsservice.generated.ApiClient apiClient;
+  @Spy SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+  @Mock ApplicationsettingsControllerApi applicationsettingsControllerApi;
 
   MockHttpServletRequest httpServletRequest;
 
@@ -38,15 +61,22 @@ class ApplicationSettingsServiceTest {
   public void setUp() {
     httpServletRequest = new MockHttpServletRequest();
     RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(httpServletRequest));
+    ReflectionTestUtils.setField(applicationSettingsService, "applicationSettingsTtlSeconds", 60);
+    ReflectionTestUtils.setField(
+        applicationSettingsService, "applicationSettingsRefreshAfterSeconds", 45);
+    ReflectionTestUtils.setField(
+        applicationSettingsService, "applicationSettingsStaleIfErrorSeconds", 300);
+    ReflectionTestUtils.setField(applicationSettingsService, "applicationSettingsMaxEntries", 1000);
+    Mockito.lenient().when(tenantSubdomainIndex.containsTenant(1L)).thenReturn(true);
+    applicationSettingsService.initializeCache();
   }
 
   @Test
   void getApplicationSettings_Should_TryResolveTenantAndCallApplicationSettingsService() {
     // when
-    Mockito.when(applicationSettingsApiControllerFactory.createControllerApi())
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
         .thenReturn(applicationsettingsControllerApi);
-    Mockito.when(applicationsettingsControllerApi.getApiClient()).thenReturn(apiClient);
-    Mockito.when(this.securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    givenHeaderInterceptorMakesCalls();
     // given
     applicationSettingsService.getApplicationSettings();
 
@@ -55,8 +85,121 @@ class ApplicationSettingsServiceTest {
     Mockito.verify(applicationsettingsControllerApi).getApplicationSettings();
   }
 
+  @Test
+  void getApplicationSettings_Should_CallApplicationSettingsServiceOnce_When_CalledRepeatedly() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+
+    // when
+    applicationSettingsService.getApplicationSettings();
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(applicationsettingsControllerApi).getApplicationSettings();
+  }
+
+  @Test
+  void saveMainTenantSubDomain_Should_InvalidateCachedApplicationSettings() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.empty());
+    applicationSettingsService.getApplicationSettings();
+
+    // when
+    applicationSettingsService.saveMainTenantSubDomain("main");
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(applicationsettingsControllerApi, Mockito.times(2)).getApplicationSettings();
+  }
+
+  @Test
+  void getApplicationSettings_Should_CallApplicationSettingsServiceWithHeadersOfResolvedTenant() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+
+    // when
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(apiClientHeaderInterceptor)
+        .withHeaders(
+            Mockito.argThat(headers -> "1".equals(headers.getFirst("tenantId"))), Mockito.any());
+  }
+
+  @Test
+  void
+      getApplicationSettings_Should_CallApplicationSettingsServiceWithoutTenant_When_TenantIsUnknown() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve())
+        .thenReturn(Optional.of(99L))
+        .thenReturn(Optional.of(98L));
+
+    // when
+    applicationSettingsService.getApplicationSettings();
+    applicationSettingsService.getApplicationSettings();
+
+    // then
+    Mockito.verify(apiClientHeaderInterceptor)
+        .withHeaders(Mockito.argThat(headers -> !headers.containsKey("tenantId")), Mockito.any());
+    Mockito.verify(applicationsettingsControllerApi).getApplicationSettings();
+  }
+
+  @Test
+  void getApplicationSettings_Should_ReturnLastLoadedSettings_When_ServiceIsUnavailable() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+    var applicationSettings = new ApplicationSettingsDTO();
+    Mockito.when(applicationsettingsControllerApi.getApplicationSettings())
+        .thenReturn(applicationSettings)
+        .thenThrow(new RestClientException("unavailable"));
+    applicationSettingsService.getApplicationSettings();
+    applicationSettingsService.saveMainTenantSubDomain("main");
+
+    // when
+    var result = applicationSettingsService.getApplicationSettings();
+
+    // then
+    Assertions.assertSame(applicationSettings, result);
+  }
+
+  @Test
+  void getApplicationSettings_Should_Throw_When_ServiceIsUnavailableAndNoSettingsAreKnown() {
+    // given
+    Mockito.when(applicationSettingsApiControllerFactory.getControllerApi())
+        .thenReturn(applicationsettingsControllerApi);
+    givenHeaderInterceptorMakesCalls();
+    Mockito.when(tenantResolverService.tryResolve()).thenReturn(Optional.of(1L));
+    Mockito.when(applicationsettingsControllerApi.getApplicationSettings())
+        .thenThrow(new RestClientException("unavailable"));
+
+    // then
+    Assertions.assertThrows(
+        RestClientException.class, () -> applicationSettingsService.getApplicationSettings());
+  }
+
+  private void givenHeaderInterceptorMakesCalls() {
+    Mockito.when(apiClientHeaderInterceptor.withHeaders(Mockito.any(), Mockito.any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+  }
+
   @AfterEach
   public void tearDown() {
+    applicationSettingsService.closeCache();
     RequestContextHolder.setRequestAttributes(null);
   }
 }
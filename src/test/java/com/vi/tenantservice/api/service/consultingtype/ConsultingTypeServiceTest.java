@@ -0,0 +1,238 @@
+package com.vi.tenantservice.api.service.consultingtype;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.CONSULTING_TYPES_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.cache.ConsultingTypeCache;
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.config.apiclient.AsyncApiClient;
+import com.vi.tenantservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
+import com.vi.tenantservice.api.resilience.CircuitBreaker;
+import com.vi.tenantservice.api.resilience.DownstreamGuard;
+import com.vi.tenantservice.api.service.ConfigurationFileLoader;
+import com.vi.tenantservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.ConsultingTypePatchDTO;
+import com.vi.tenantservice.consultingtypeservice.generated.web.model.FullConsultingTypeResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultingTypeServiceTest {
+
+  private static final int TENANT_ID = 1;
+  private static final int CONSULTING_TYPE_ID = 2;
+  private static final String FULL_CONSULTING_TYPE_PATH =
+      "/consultingtypes/bytenant/{tenantId}/full";
+
+  @Mock ConsultingTypeServiceApiControllerFactory consultingTypeServiceApiControllerFactory;
+
+  @Mock ConfigurationFileLoader configurationFileLoader;
+
+  @Mock ConsultingTypeControllerApi consultingTypeControllerApi;
+
+  @Mock ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  @Mock AsyncApiClient consultingTypeServiceAsyncClient;
+
+  private ConsultingTypeService consultingTypeService;
+
+  @BeforeEach
+  void setUp() {
+    lenient()
+        .when(consultingTypeServiceApiControllerFactory.getControllerApi())
+        .thenReturn(consultingTypeControllerApi);
+    lenient().when(apiClientHeaderInterceptor.currentHeaders()).thenReturn(new HttpHeaders());
+    consultingTypeService =
+        new ConsultingTypeService(
+            consultingTypeServiceApiControllerFactory,
+            configurationFileLoader,
+            new ConsultingTypeCache(new ConcurrentMapCacheManager(CONSULTING_TYPES_CACHE)),
+            new DownstreamGuard(
+                "consultingTypeService",
+                new CircuitBreaker(50, 20, 10, Duration.ofSeconds(30), 3, Clock.systemUTC()),
+                20,
+                Duration.ofMillis(100),
+                new SimpleMeterRegistry()),
+            new SingleFlight(new SimpleMeterRegistry()),
+            apiClientHeaderInterceptor,
+            consultingTypeServiceAsyncClient);
+  }
+
+  @Test
+  void getConsultingTypesByTenantId_Should_CallConsultingTypeServiceOnce_When_CalledRepeatedly() {
+    // given
+    var consultingType = consultingType("initial");
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(consultingType);
+
+    // when
+    var first = consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+    var second = consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    assertThat(first).isSameAs(consultingType);
+    assertThat(second).isSameAs(consultingType);
+    verify(consultingTypeControllerApi).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void patchConsultingType_Should_CachePatchedConsultingType() {
+    // given
+    var patchDTO = new ConsultingTypePatchDTO();
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(consultingType("initial"));
+    when(consultingTypeControllerApi.patchConsultingType(CONSULTING_TYPE_ID, patchDTO))
+        .thenReturn(consultingType("patched"));
+
+    // when
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+    consultingTypeService.patchConsultingType(TENANT_ID, CONSULTING_TYPE_ID, patchDTO);
+    var afterPatch = consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    assertThat(afterPatch.getDescription()).isEqualTo("patched");
+    verify(consultingTypeControllerApi).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void patchConsultingType_Should_EvictCachedConsultingType_When_PatchFails() {
+    // given
+    var patchDTO = new ConsultingTypePatchDTO();
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(consultingType("initial"));
+    when(consultingTypeControllerApi.patchConsultingType(CONSULTING_TYPE_ID, patchDTO))
+        .thenThrow(new RestClientException("unavailable"));
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                consultingTypeService.patchConsultingType(TENANT_ID, CONSULTING_TYPE_ID, patchDTO))
+        .isInstanceOf(RestClientException.class);
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    verify(consultingTypeControllerApi, times(2)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void evictConsultingTypes_Should_LoadConsultingTypeAgainOnNextAccess() {
+    // given
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenReturn(consultingType("initial"));
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // when
+    consultingTypeService.evictConsultingTypes(TENANT_ID);
+    consultingTypeService.getConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    verify(consultingTypeControllerApi, times(2)).getFullConsultingTypeByTenantId(TENANT_ID);
+  }
+
+  @Test
+  void findConsultingTypesByTenantId_Should_ReturnEmpty_When_ConsultingTypeServiceIsUnavailable() {
+    // given
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenThrow(new RestClientException("unavailable"));
+
+    // when
+    var consultingType = consultingTypeService.findConsultingTypesByTenantId(TENANT_ID);
+
+    // then
+    assertThat(consultingType).isEmpty();
+  }
+
+  @Test
+  void findConsultingTypesByTenantId_Should_Rethrow_When_ConsultingTypeServiceRejectsRequest() {
+    // given
+    when(consultingTypeControllerApi.getFullConsultingTypeByTenantId(TENANT_ID))
+        .thenThrow(new HttpClientErrorException(HttpStatus.FORBIDDEN));
+
+    // then
+    assertThatThrownBy(() -> consultingTypeService.findConsultingTypesByTenantId(TENANT_ID))
+        .isInstanceOf(HttpClientErrorException.class);
+  }
+
+  @Test
+  void findConsultingTypesByTenantIdAsync_Should_CacheLoadedConsultingType() throws Exception {
+    // given
+    var consultingType = consultingType("initial");
+    when(consultingTypeServiceAsyncClient.<FullConsultingTypeResponseDTO>get(
+            eq(FULL_CONSULTING_TYPE_PATH), any(), eq(TENANT_ID)))
+        .thenReturn(CompletableFuture.completedFuture(consultingType));
+
+    // when
+    var first = consultingTypeService.findConsultingTypesByTenantIdAsync(TENANT_ID).get();
+    var second = consultingTypeService.findConsultingTypesByTenantIdAsync(TENANT_ID).get();
+
+    // then
+    assertThat(first).containsSame(consultingType);
+    assertThat(second).containsSame(consultingType);
+    assertThat(consultingTypeService.getConsultingTypesByTenantId(TENANT_ID))
+        .isSameAs(consultingType);
+    verify(consultingTypeServiceAsyncClient)
+        .get(eq(FULL_CONSULTING_TYPE_PATH), any(), eq(TENANT_ID));
+  }
+
+  @Test
+  void findConsultingTypesByTenantIdAsync_Should_ReturnEmpty_When_ServiceIsUnavailable()
+      throws Exception {
+    // given
+    when(consultingTypeServiceAsyncClient.<FullConsultingTypeResponseDTO>get(
+            eq(FULL_CONSULTING_TYPE_PATH), any(), eq(TENANT_ID)))
+        .thenReturn(CompletableFuture.failedFuture(new ResourceAccessException("unavailable")));
+
+    // when
+    var consultingType = consultingTypeService.findConsultingTypesByTenantIdAsync(TENANT_ID).get();
+
+    // then
+    assertThat(consultingType).isEmpty();
+  }
+
+  @Test
+  void findConsultingTypesByTenantIdAsync_Should_Fail_When_ServiceRejectsRequest() {
+    // given
+    when(consultingTypeServiceAsyncClient.<FullConsultingTypeResponseDTO>get(
+            eq(FULL_CONSULTING_TYPE_PATH), any(), eq(TENANT_ID)))
+        .thenReturn(
+            CompletableFuture.failedFuture(new ResponseStatusException(HttpStatus.FORBIDDEN)));
+
+    // when
+    var consultingType = consultingTypeService.findConsultingTypesByTenantIdAsync(TENANT_ID);
+
+    // then
+    assertThatThrownBy(consultingType::get)
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(ResponseStatusException.class);
+  }
+
+  private static FullConsultingTypeResponseDTO consultingType(String description) {
+    return new FullConsultingTypeResponseDTO()
+        .id(CONSULTING_TYPE_ID)
+        .tenantId(TENANT_ID)
+        .description(description);
+  }
+}
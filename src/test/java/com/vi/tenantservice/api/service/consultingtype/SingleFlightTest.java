@@ -0,0 +1,244 @@
+package com.vi.tenantservice.api.service.consultingtype;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientException;
+
+class SingleFlightTest {
+
+  private static final int CALLERS = 8;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+
+  private final AtomicInteger calls = new AtomicInteger();
+
+  private final CountDownLatch releaseCall = new CountDownLatch(1);
+
+  private final ExecutorService executorService = Executors.newFixedThreadPool(CALLERS);
+
+  @AfterEach
+  void tearDown() {
+    releaseCall.countDown();
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void call_Should_ShareOneCall_When_IdenticalCallsAreConcurrent() throws Exception {
+    // given
+    var scope = headers("Bearer user1");
+
+    // when
+    var results = callConcurrently(() -> scope, 1, this::blockingCall);
+    releaseCall.countDown();
+
+    // then
+    for (Future<String> result : results) {
+      assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result1");
+    }
+    assertThat(calls).hasValue(1);
+    assertThat(meterRegistry.get("downstream.calls.coalesced").counter().count())
+        .isEqualTo(CALLERS - 1);
+  }
+
+  @Test
+  void call_Should_NotShareCalls_When_MadeOnBehalfOfDifferentUsers() throws Exception {
+    // given
+    var callerIndex = new AtomicInteger();
+
+    // when
+    var results =
+        callConcurrently(
+            () -> headers("Bearer user" + callerIndex.getAndIncrement() % 2),
+            1,
+            this::blockingCall);
+    releaseCall.countDown();
+
+    // then
+    for (Future<String> result : results) {
+      result.get(5, TimeUnit.SECONDS);
+    }
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void call_Should_NotShareCalls_When_ArgumentsDiffer() throws Exception {
+    // given
+    var scope = headers("Bearer user1");
+
+    // when
+    var results =
+        List.of(
+            executorService.submit(
+                () -> singleFlight.call("operation", List.of(1), scope, this::blockingCall)),
+            executorService.submit(
+                () -> singleFlight.call("operation", List.of(2), scope, this::blockingCall)));
+    waitUntilCalls(2);
+    releaseCall.countDown();
+
+    // then
+    for (Future<String> result : results) {
+      result.get(5, TimeUnit.SECONDS);
+    }
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void call_Should_ShareException_When_SharedCallFails() throws Exception {
+    // given
+    var scope = headers("Bearer user1");
+    Supplier<String> failingCall =
+        () -> {
+          blockingCall();
+          throw new RestClientException("unavailable");
+        };
+
+    // when
+    var results = callConcurrently(() -> scope, 1, failingCall);
+    releaseCall.countDown();
+
+    // then
+    for (Future<String> result : results) {
+      assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+          .hasCauseInstanceOf(RestClientException.class);
+    }
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void call_Should_CallAgain_When_PreviousCallCompleted() {
+    // given
+    var scope = headers("Bearer user1");
+    releaseCall.countDown();
+
+    // when
+    singleFlight.call("operation", List.of(1), scope, this::blockingCall);
+    var second = singleFlight.call("operation", List.of(1), scope, this::blockingCall);
+
+    // then
+    assertThat(second).isEqualTo("result2");
+  }
+
+  @Test
+  void callAsync_Should_ShareOneCall_When_IdenticalCallsAreConcurrent() throws Exception {
+    // given
+    var scope = headers("Bearer user1");
+    var response = new CompletableFuture<String>();
+    Supplier<CompletableFuture<String>> call =
+        () -> {
+          calls.incrementAndGet();
+          return response;
+        };
+
+    // when
+    var first = singleFlight.callAsync("operation", List.of(1), scope, call);
+    var second = singleFlight.callAsync("operation", List.of(1), scope, call);
+    first.cancel(true);
+    response.complete("result");
+
+    // then
+    assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(calls).hasValue(1);
+    assertThat(meterRegistry.get("downstream.calls.coalesced").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void callAsync_Should_ShareCallWithBlockingCaller_When_ItIsInFlight() throws Exception {
+    // given
+    var scope = headers("Bearer user1");
+    var blockingResult =
+        executorService.submit(
+            () -> singleFlight.call("operation", List.of(1), scope, this::blockingCall));
+    waitUntilCalls(1);
+
+    // when
+    var result =
+        singleFlight.callAsync(
+            "operation",
+            List.of(1),
+            scope,
+            () -> CompletableFuture.completedFuture(blockingCall()));
+    releaseCall.countDown();
+
+    // then
+    assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result1");
+    assertThat(blockingResult.get(5, TimeUnit.SECONDS)).isEqualTo("result1");
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void callAsync_Should_ShareException_When_SharedCallFails() {
+    // given
+    var scope = headers("Bearer user1");
+    var response = new CompletableFuture<String>();
+    Supplier<CompletableFuture<String>> call = () -> response;
+    var first = singleFlight.callAsync("operation", List.of(1), scope, call);
+    var second = singleFlight.callAsync("operation", List.of(1), scope, call);
+
+    // when
+    response.completeExceptionally(new RestClientException("unavailable"));
+
+    // then
+    assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(RestClientException.class);
+    assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(RestClientException.class);
+  }
+
+  private List<Future<String>> callConcurrently(
+      Supplier<HttpHeaders> scope, int argument, Supplier<String> call)
+      throws InterruptedException {
+    List<Future<String>> results = new ArrayList<>();
+    results.add(
+        executorService.submit(
+            () -> singleFlight.call("operation", List.of(argument), scope.get(), call)));
+    waitUntilCalls(1);
+    for (int i = 1; i < CALLERS; i++) {
+      var callerScope = scope.get();
+      results.add(
+          executorService.submit(
+              () -> singleFlight.call("operation", List.of(argument), callerScope, call)));
+    }
+    Thread.sleep(100);
+    return results;
+  }
+
+  private String blockingCall() {
+    var call = calls.incrementAndGet();
+    try {
+      releaseCall.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return "result" + call;
+  }
+
+  private void waitUntilCalls(int expectedCalls) throws InterruptedException {
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (calls.get() < expectedCalls && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private static HttpHeaders headers(String authorization) {
+    var headers = new HttpHeaders();
+    headers.add(HttpHeaders.AUTHORIZATION, authorization);
+    return headers;
+  }
+}
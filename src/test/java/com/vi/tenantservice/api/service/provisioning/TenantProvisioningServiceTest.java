@@ -0,0 +1,133 @@
+package com.vi.tenantservice.api.service.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.model.TenantEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepType;
+import com.vi.tenantservice.api.repository.TenantProvisioningStepRepository;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class TenantProvisioningServiceTest {
+
+  private static final long TENANT_ID = 1L;
+
+  @Mock TenantProvisioningStepRepository tenantProvisioningStepRepository;
+
+  @Mock TenantProvisioningWorker tenantProvisioningWorker;
+
+  @Mock ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  @InjectMocks TenantProvisioningService tenantProvisioningService;
+
+  @Test
+  void scheduleProvisioning_Should_RecordStepsAndStartProvisioningWithHeadersOfRequest() {
+    // given
+    var headers = new HttpHeaders();
+    when(apiClientHeaderInterceptor.captureHeaders()).thenReturn(headers);
+    var tenant = TenantEntity.builder().id(TENANT_ID).subdomain("app").build();
+
+    // when
+    tenantProvisioningService.scheduleProvisioning(tenant, true);
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<TenantProvisioningStepEntity>> steps = ArgumentCaptor.forClass(List.class);
+    verify(tenantProvisioningStepRepository).saveAll(steps.capture());
+    assertThat(steps.getValue())
+        .extracting(TenantProvisioningStepEntity::getStepType)
+        .containsExactly(
+            StepType.CREATE_DEFAULT_CONSULTING_TYPES, StepType.SAVE_MAIN_TENANT_SUBDOMAIN);
+    assertThat(steps.getValue())
+        .allMatch(step -> step.getStatus() == StepStatus.PENDING)
+        .allMatch(step -> step.getTenantId() == TENANT_ID);
+    assertThat(steps.getValue().get(1).getPayload()).isEqualTo("app");
+    verify(tenantProvisioningWorker).startProvisioning(TENANT_ID, headers);
+  }
+
+  @Test
+  void retryFailedSteps_Should_ResetFailedStepsAndStartProvisioningWithHeadersOfRequest() {
+    // given
+    var headers = new HttpHeaders();
+    when(apiClientHeaderInterceptor.captureHeaders()).thenReturn(headers);
+    when(tenantProvisioningStepRepository.resetSteps(
+            eq(TENANT_ID), eq(StepStatus.FAILED), eq(StepStatus.PENDING), any()))
+        .thenReturn(2);
+
+    // when
+    var retriedSteps = tenantProvisioningService.retryFailedSteps(TENANT_ID);
+
+    // then
+    assertThat(retriedSteps).isEqualTo(2);
+    verify(tenantProvisioningWorker).startProvisioning(TENANT_ID, headers);
+  }
+
+  @Test
+  void retryFailedSteps_Should_NotStartProvisioning_When_NoStepFailed() {
+    // when
+    var retriedSteps = tenantProvisioningService.retryFailedSteps(TENANT_ID);
+
+    // then
+    assertThat(retriedSteps).isZero();
+    verify(tenantProvisioningWorker, never()).startProvisioning(anyLong(), any());
+  }
+
+  @Test
+  void getProvisioningStatus_Should_ReturnPending_When_AStepIsPending() {
+    // given
+    givenStepsWithStatus(StepStatus.DONE, StepStatus.PENDING);
+
+    // then
+    assertThat(tenantProvisioningService.getProvisioningStatus(TENANT_ID))
+        .isEqualTo(TenantProvisioningStatus.PENDING);
+  }
+
+  @Test
+  void getProvisioningStatus_Should_ReturnFailed_When_AStepFailed() {
+    // given
+    givenStepsWithStatus(StepStatus.PENDING, StepStatus.FAILED);
+
+    // then
+    assertThat(tenantProvisioningService.getProvisioningStatus(TENANT_ID))
+        .isEqualTo(TenantProvisioningStatus.FAILED);
+  }
+
+  @Test
+  void getProvisioningStatus_Should_ReturnCompleted_When_AllStepsAreDoneOrThereAreNone() {
+    // given
+    givenStepsWithStatus(StepStatus.DONE, StepStatus.DONE);
+
+    // then
+    assertThat(tenantProvisioningService.getProvisioningStatus(TENANT_ID))
+        .isEqualTo(TenantProvisioningStatus.COMPLETED);
+    assertThat(tenantProvisioningService.getProvisioningStatus(2L))
+        .isEqualTo(TenantProvisioningStatus.COMPLETED);
+  }
+
+  private void givenStepsWithStatus(StepStatus... statuses) {
+    when(tenantProvisioningStepRepository.findStepStatusesExcept(TENANT_ID, StepStatus.DONE))
+        .thenReturn(
+            Arrays.stream(statuses)
+                .filter(status -> status != StepStatus.DONE)
+                .distinct()
+                .toList());
+  }
+}
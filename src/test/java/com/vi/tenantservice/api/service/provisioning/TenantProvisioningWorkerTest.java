@@ -0,0 +1,377 @@
+package com.vi.tenantservice.api.service.provisioning;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.vi.tenantservice.api.config.apiclient.ApiClientHeaderInterceptor;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepStatus;
+import com.vi.tenantservice.api.model.TenantProvisioningStepEntity.StepType;
+import com.vi.tenantservice.api.repository.TenantProvisioningStepRepository;
+import com.vi.tenantservice.api.service.consultingtype.ApplicationSettingsService;
+import com.vi.tenantservice.api.service.consultingtype.ConsultingTypeService;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClientException;
+
+@ExtendWith(MockitoExtension.class)
+class TenantProvisioningWorkerTest {
+
+  private static final long TENANT_ID = 1L;
+  private static final int PARALLELISM = 5;
+
+  @Mock TenantProvisioningStepRepository tenantProvisioningStepRepository;
+
+  @Mock ConsultingTypeService consultingTypeService;
+
+  @Mock ApplicationSettingsService applicationSettingsService;
+
+  @Mock ApiClientHeaderInterceptor apiClientHeaderInterceptor;
+
+  private ThreadPoolTaskExecutor tenantProvisioningExecutor;
+
+  private TenantProvisioningWorker tenantProvisioningWorker;
+
+  @BeforeEach
+  void setUp() {
+    tenantProvisioningExecutor = new ThreadPoolTaskExecutor();
+    tenantProvisioningExecutor.setCorePoolSize(PARALLELISM);
+    tenantProvisioningExecutor.setMaxPoolSize(PARALLELISM);
+    tenantProvisioningExecutor.setQueueCapacity(PARALLELISM);
+    tenantProvisioningExecutor.initialize();
+    tenantProvisioningWorker =
+        new TenantProvisioningWorker(
+            tenantProvisioningStepRepository,
+            consultingTypeService,
+            applicationSettingsService,
+            apiClientHeaderInterceptor,
+            tenantProvisioningExecutor);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "batchSize", 100);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "maxAttempts", 3);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "initialBackoffSeconds", 2L);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "maxBackoffSeconds", 300L);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "leaseSeconds", 120L);
+    ReflectionTestUtils.setField(tenantProvisioningWorker, "headerlessGraceSeconds", 60L);
+  }
+
+  @AfterEach
+  void tearDown() {
+    tenantProvisioningExecutor.shutdown();
+  }
+
+  @Test
+  void execute_Should_MarkStepDone_When_ItSucceeds() {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+
+    // when
+    tenantProvisioningWorker.execute(step);
+
+    // then
+    verify(consultingTypeService).createDefaultConsultingTypes(TENANT_ID);
+    verify(tenantProvisioningStepRepository).save(step);
+    assertThat(step.getStatus()).isEqualTo(StepStatus.DONE);
+    assertThat(step.getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void execute_Should_SaveMainTenantSubdomain_When_StepRequiresIt() {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    var step = step(TENANT_ID, StepType.SAVE_MAIN_TENANT_SUBDOMAIN, "app");
+
+    // when
+    tenantProvisioningWorker.execute(step);
+
+    // then
+    verify(applicationSettingsService).saveMainTenantSubDomain("app");
+    assertThat(step.getStatus()).isEqualTo(StepStatus.DONE);
+  }
+
+  @Test
+  void execute_Should_RetryWithBackoff_When_StepFails() {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    doThrow(new RestClientException("unavailable"))
+        .when(consultingTypeService)
+        .createDefaultConsultingTypes(TENANT_ID);
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    step.setAttempts(1);
+    var before = LocalDateTime.now(ZoneOffset.UTC);
+
+    // when
+    tenantProvisioningWorker.execute(step);
+
+    // then
+    assertThat(step.getStatus()).isEqualTo(StepStatus.PENDING);
+    assertThat(step.getAttempts()).isEqualTo(2);
+    assertThat(step.getLastError()).isEqualTo("unavailable");
+    assertThat(step.getNextAttemptDate()).isBetween(before.plusSeconds(4), before.plusSeconds(5));
+  }
+
+  @Test
+  void execute_Should_MarkStepFailed_When_MaximumAttemptsAreReached() {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    doThrow(new RestClientException("unavailable"))
+        .when(consultingTypeService)
+        .createDefaultConsultingTypes(TENANT_ID);
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    step.setAttempts(2);
+
+    // when
+    tenantProvisioningWorker.execute(step);
+
+    // then
+    assertThat(step.getStatus()).isEqualTo(StepStatus.FAILED);
+    assertThat(step.getAttempts()).isEqualTo(3);
+  }
+
+  @Test
+  void execute_Should_MarkStepFailedWithoutUsingAnAttempt_When_HeadersOfCreatingRequestAreLost() {
+    // given
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    step.setAttempts(1);
+
+    // when
+    tenantProvisioningWorker.execute(step);
+
+    // then
+    verify(consultingTypeService, never()).createDefaultConsultingTypes(anyLong());
+    verify(tenantProvisioningStepRepository).save(step);
+    assertThat(step.getStatus()).isEqualTo(StepStatus.FAILED);
+    assertThat(step.getAttempts()).isEqualTo(1);
+    assertThat(step.getLastError()).isNotBlank();
+  }
+
+  @Test
+  void execute_Should_CallOtherServicesWithHeadersOfCreatingRequest() {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    when(tenantProvisioningStepRepository.existsByTenantIdAndStatus(TENANT_ID, StepStatus.PENDING))
+        .thenReturn(true);
+    var headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer token");
+    tenantProvisioningWorker.startProvisioning(TENANT_ID, headers);
+
+    // when
+    tenantProvisioningWorker.execute(
+        step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null));
+
+    // then
+    verify(apiClientHeaderInterceptor).withHeaders(eq(headers), any());
+  }
+
+  @Test
+  void processDueSteps_Should_SkipStep_When_ItIsClaimedByAnotherInstance() {
+    // given
+    givenPendingSteps();
+    tenantProvisioningWorker.rememberHeaders(TENANT_ID, new HttpHeaders());
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    when(tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                eq(StepStatus.PENDING), any(), any()))
+        .thenReturn(List.of(step));
+    when(tenantProvisioningStepRepository.claim(
+            eq(step.getId()), eq(step.getNextAttemptDate()), any(), eq(StepStatus.PENDING)))
+        .thenReturn(0);
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    verify(tenantProvisioningStepRepository, timeout(5000))
+        .claim(eq(step.getId()), eq(step.getNextAttemptDate()), any(), eq(StepStatus.PENDING));
+    verify(consultingTypeService, never()).createDefaultConsultingTypes(anyLong());
+  }
+
+  @Test
+  void processDueSteps_Should_LeaveStepToInstanceHoldingItsHeaders_When_WithinGracePeriod() {
+    // given
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    when(tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                eq(StepStatus.PENDING), any(), any()))
+        .thenReturn(List.of(step));
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    verify(tenantProvisioningStepRepository, never()).claim(any(), any(), any(), any());
+  }
+
+  @Test
+  void processDueSteps_Should_ClaimStepWithoutHeaders_When_GracePeriodIsOver() throws Exception {
+    // given
+    var step = step(TENANT_ID, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null);
+    step.setNextAttemptDate(step.getNextAttemptDate().minusSeconds(61));
+    when(tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                eq(StepStatus.PENDING), any(), any()))
+        .thenReturn(List.of(step));
+    when(tenantProvisioningStepRepository.claim(any(), any(), any(), eq(StepStatus.PENDING)))
+        .thenReturn(1);
+    var saved = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              saved.countDown();
+              return null;
+            })
+        .when(tenantProvisioningStepRepository)
+        .save(step);
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    assertThat(saved.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(step.getStatus()).isEqualTo(StepStatus.FAILED);
+    verify(consultingTypeService, never()).createDefaultConsultingTypes(anyLong());
+  }
+
+  @Test
+  void processDueSteps_Should_ForgetHeaders_When_StepsWereFinishedByAnotherInstance() {
+    // given
+    tenantProvisioningWorker.rememberHeaders(TENANT_ID, new HttpHeaders());
+    when(tenantProvisioningStepRepository.existsByTenantIdAndStatus(TENANT_ID, StepStatus.PENDING))
+        .thenReturn(false);
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    assertThat(provisioningHeaders()).isEmpty();
+  }
+
+  @Test
+  void processDueSteps_Should_ExecuteStepsOfDifferentTenantsInParallel() throws Exception {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    givenPendingSteps();
+    var steps =
+        LongStream.rangeClosed(1, PARALLELISM)
+            .mapToObj(tenantId -> step(tenantId, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null))
+            .toList();
+    when(tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                eq(StepStatus.PENDING), any(), any()))
+        .thenReturn(steps);
+    when(tenantProvisioningStepRepository.claim(any(), any(), any(), eq(StepStatus.PENDING)))
+        .thenReturn(1);
+    var allStarted = new CountDownLatch(PARALLELISM);
+    var allDone = new CountDownLatch(PARALLELISM);
+    doAnswer(
+            invocation -> {
+              allStarted.countDown();
+              allStarted.await(5, TimeUnit.SECONDS);
+              allDone.countDown();
+              return null;
+            })
+        .when(consultingTypeService)
+        .createDefaultConsultingTypes(anyLong());
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    assertThat(allDone.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void processDueSteps_Should_HandOverNoMoreStepsThanThereAreFreeWorkers() throws Exception {
+    // given
+    givenHeaderInterceptorMakesCalls();
+    givenPendingSteps();
+    var steps =
+        LongStream.rangeClosed(1, PARALLELISM)
+            .mapToObj(tenantId -> step(tenantId, StepType.CREATE_DEFAULT_CONSULTING_TYPES, null))
+            .toList();
+    when(tenantProvisioningStepRepository
+            .findByStatusAndNextAttemptDateLessThanEqualOrderByNextAttemptDate(
+                eq(StepStatus.PENDING), any(), any()))
+        .thenReturn(steps);
+    when(tenantProvisioningStepRepository.claim(any(), any(), any(), eq(StepStatus.PENDING)))
+        .thenReturn(1);
+    var allStarted = new CountDownLatch(PARALLELISM);
+    var release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              allStarted.countDown();
+              release.await(5, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(consultingTypeService)
+        .createDefaultConsultingTypes(anyLong());
+    tenantProvisioningWorker.processDueSteps();
+    assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    tenantProvisioningWorker.processDueSteps();
+
+    // then
+    release.countDown();
+    verify(tenantProvisioningStepRepository, times(PARALLELISM))
+        .claim(any(), any(), any(), eq(StepStatus.PENDING));
+    assertThat(tenantProvisioningExecutor.getQueueSize()).isZero();
+  }
+
+  private void givenHeaderInterceptorMakesCalls() {
+    when(apiClientHeaderInterceptor.withHeaders(any(), any()))
+        .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    LongStream.rangeClosed(1, PARALLELISM)
+        .forEach(tenantId -> tenantProvisioningWorker.rememberHeaders(tenantId, new HttpHeaders()));
+  }
+
+  private void givenPendingSteps() {
+    when(tenantProvisioningStepRepository.existsByTenantIdAndStatus(
+            anyLong(), eq(StepStatus.PENDING)))
+        .thenReturn(true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<Long, HttpHeaders> provisioningHeaders() {
+    return (Map<Long, HttpHeaders>)
+        ReflectionTestUtils.getField(tenantProvisioningWorker, "provisioningHeaders");
+  }
+
+  private static TenantProvisioningStepEntity step(
+      Long tenantId, StepType stepType, String payload) {
+    var now = LocalDateTime.now(ZoneOffset.UTC);
+    return TenantProvisioningStepEntity.builder()
+        .id(tenantId * 10)
+        .tenantId(tenantId)
+        .stepType(stepType)
+        .payload(payload)
+        .status(StepStatus.PENDING)
+        .nextAttemptDate(now)
+        .createDate(now)
+        .updateDate(now)
+        .build();
+  }
+}
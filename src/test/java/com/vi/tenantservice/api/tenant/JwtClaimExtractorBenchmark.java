@@ -0,0 +1,74 @@
+package com.vi.tenantservice.api.tenant;
+
+import com.vi.tenantservice.api.util.JsonConverter;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading the tenant id of a Keycloak token with {@link JwtClaimExtractor} with binding
+ * the whole decoded payload into a map, as done before. Run the main method to get latency and, via
+ * the GC profiler, allocation per call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtClaimExtractorBenchmark {
+
+  private static final String PAYLOAD =
+      "{\"exp\":1667350842,\"iat\":1667347242,\"jti\":\"5a1c2b0e-3f4d-4c7e-9a8b-1d2e3f4a5b6c\","
+          + "\"iss\":\"https://keycloak.example.com/auth/realms/online-beratung\","
+          + "\"aud\":\"account\",\"sub\":\"0b1c2d3e-4f5a-6b7c-8d9e-0f1a2b3c4d5e\","
+          + "\"typ\":\"Bearer\",\"azp\":\"app\",\"session_state\":\"6c7d8e9f\","
+          + "\"realm_access\":{\"roles\":[\"offline_access\",\"uma_authorization\","
+          + "\"single-tenant-admin\",\"tenant-admin\"]},\"scope\":\"openid profile email\","
+          + "\"email_verified\":false,\"username\":\"admin\",\"tenantId\":4}";
+
+  private static final String TOKEN =
+      "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9."
+          + Base64.getUrlEncoder()
+              .withoutPadding()
+              .encodeToString(PAYLOAD.getBytes(StandardCharsets.UTF_8))
+          + ".SjDBi7mbXwpUuZmUl7BEqptxsrd2aEJ6VMSIfTQx4sk";
+
+  @Benchmark
+  public Optional<Long> extractWithMapBinding() throws Exception {
+    String[] chunks = TOKEN.split("\\.");
+    String payload = new String(Base64.getUrlDecoder().decode(chunks[1]));
+    Map<String, Object> map = JsonConverter.readerFor(Map.class).readValue(payload);
+    Integer tenantId = (Integer) map.get("tenantId");
+    return tenantId == null ? Optional.empty() : Optional.of(Long.valueOf(tenantId));
+  }
+
+  @Benchmark
+  public Optional<Long> extractWithStreamingParser() {
+    return JwtClaimExtractor.extractLongClaim(TOKEN, "tenantId");
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(JwtClaimExtractorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
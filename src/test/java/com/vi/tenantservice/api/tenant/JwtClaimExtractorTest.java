@@ -0,0 +1,92 @@
+package com.vi.tenantservice.api.tenant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class JwtClaimExtractorTest {
+
+  private static final String HEADER = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9";
+
+  @Test
+  void extractLongClaim_Should_ReturnTopLevelClaim() {
+    // given
+    var token =
+        token("{\"sub\":\"1234\",\"realm_access\":{\"tenantId\":7},\"tenantId\":4,\"exp\":1}");
+
+    // when
+    var tenantId = JwtClaimExtractor.extractLongClaim(token, "tenantId");
+
+    // then
+    assertThat(tenantId).contains(4L);
+  }
+
+  @Test
+  void extractLongClaim_Should_DecodePaddedPayload() {
+    // given
+    var payload =
+        Base64.getUrlEncoder().encodeToString("{\"tenantId\":12}".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    var tenantId = JwtClaimExtractor.extractLongClaim(HEADER + "." + payload + ".sig", "tenantId");
+
+    // then
+    assertThat(tenantId).contains(12L);
+  }
+
+  @Test
+  void extractLongClaim_Should_DecodePayloadsLargerThanReusedBuffer() {
+    // given
+    var token = token("{\"roles\":\"" + "x".repeat(20_000) + "\",\"tenantId\":3}");
+
+    // when
+    var tenantId = JwtClaimExtractor.extractLongClaim(token, "tenantId");
+
+    // then
+    assertThat(tenantId).contains(3L);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "{\"sub\":\"1234\"}",
+        "{\"tenantId\":\"4\"}",
+        "{\"tenantId\":4.5}",
+        "{\"tenantId\":null}",
+        "{\"tenantId\":123456789012345678901234567890}",
+        "{\"tenantId\":",
+        "[4]",
+        "not json"
+      })
+  void extractLongClaim_Should_ReturnEmpty_When_PayloadHasNoIntegralClaim(String payload) {
+    // when
+    var tenantId = JwtClaimExtractor.extractLongClaim(token(payload), "tenantId");
+
+    // then
+    assertThat(tenantId).isEmpty();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {"", "no-dots", "header.payload-without-signature", "a..b", "a.b*c.d", "a.bbbbb.c"})
+  void extractLongClaim_Should_ReturnEmpty_When_TokenIsMalformed(String token) {
+    // when
+    var tenantId = JwtClaimExtractor.extractLongClaim(token, "tenantId");
+
+    // then
+    assertThat(tenantId).isEmpty();
+  }
+
+  private static String token(String payload) {
+    return HEADER
+        + "."
+        + Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+        + ".signature";
+  }
+}
@@ -0,0 +1,64 @@
+package com.vi.tenantservice.api.tenant;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.SUBDOMAINS_BY_HOST_CACHE;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Compares resolving the subdomain of a request host through the cache of the {@link
+ * SubdomainExtractor} with parsing it on every request, as done before. Run the main method to get
+ * latency and, via the GC profiler, allocation per call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SubdomainExtractorBenchmark {
+
+  private static final String HOST = "mucoviscidose.onlineberatung.net";
+
+  private SubdomainExtractor subdomainExtractor;
+
+  @Setup
+  public void setUp() {
+    subdomainExtractor =
+        new SubdomainExtractor(new ConcurrentMapCacheManager(SUBDOMAINS_BY_HOST_CACHE));
+  }
+
+  @Benchmark
+  public Optional<String> resolveByParsing() {
+    return subdomainExtractor.getSubdomain(HttpUrlUtils.removeHttpPrefix(HOST));
+  }
+
+  @Benchmark
+  public Optional<String> resolveFromCache() {
+    return subdomainExtractor.getSubdomainOfHost(HOST);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(SubdomainExtractorBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,80 @@
+package com.vi.tenantservice.api.tenant;
+
+import static com.vi.tenantservice.api.config.CacheManagerConfig.SUBDOMAINS_BY_HOST_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class SubdomainExtractorTest {
+
+  private final ConcurrentMapCacheManager cacheManager =
+      new ConcurrentMapCacheManager(SUBDOMAINS_BY_HOST_CACHE);
+
+  private SubdomainExtractor subdomainExtractor;
+
+  @BeforeEach
+  void setUp() {
+    subdomainExtractor = new SubdomainExtractor(cacheManager);
+  }
+
+  @Test
+  void getSubdomainOfHost_Should_ReturnSubdomain() {
+    // when
+    var subdomain = subdomainExtractor.getSubdomainOfHost("mucoviscidose.onlineberatung.net");
+
+    // then
+    assertThat(subdomain).contains("mucoviscidose");
+  }
+
+  @Test
+  void getSubdomainOfHost_Should_ReturnEmpty_When_HostHasNoParent() {
+    // when
+    var subdomain = subdomainExtractor.getSubdomainOfHost("localhost");
+
+    // then
+    assertThat(subdomain).isEmpty();
+  }
+
+  @Test
+  void getSubdomainOfHost_Should_ServeCachedSubdomain_When_HostWasSeenBefore() {
+    // given
+    subdomainExtractor.getSubdomainOfHost("mucoviscidose.onlineberatung.net");
+
+    // when
+    var subdomain = subdomainExtractor.getSubdomainOfHost("mucoviscidose.onlineberatung.net");
+
+    // then
+    assertThat(subdomain).contains("mucoviscidose");
+    assertThat(cachedHosts()).containsOnlyKeys("mucoviscidose.onlineberatung.net");
+  }
+
+  @Test
+  void getSubdomainOfHost_Should_ServeCachedEmptySubdomain_When_HostWithoutParentWasSeenBefore() {
+    // given
+    subdomainExtractor.getSubdomainOfHost("localhost");
+
+    // when
+    var subdomain = subdomainExtractor.getSubdomainOfHost("localhost");
+
+    // then
+    assertThat(subdomain).isEmpty();
+    assertThat(cachedHosts()).containsOnlyKeys("localhost");
+  }
+
+  @Test
+  void getSubdomainOfHost_Should_ThrowAndNotCache_When_HostIsInvalid() {
+    // then
+    assertThatThrownBy(() -> subdomainExtractor.getSubdomainOfHost("invalid_host..net"))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(cachedHosts()).isEmpty();
+  }
+
+  private Map<Object, Object> cachedHosts() {
+    return ((ConcurrentMapCache) cacheManager.getCache(SUBDOMAINS_BY_HOST_CACHE)).getNativeCache();
+  }
+}
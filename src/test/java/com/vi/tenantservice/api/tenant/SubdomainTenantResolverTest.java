@@ -3,8 +3,7 @@ package com.vi.tenantservice.api.tenant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
-import com.vi.tenantservice.api.model.TenantEntity;
-import com.vi.tenantservice.api.repository.TenantRepository;
+import com.vi.tenantservice.api.cache.TenantSubdomainIndex;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -18,7 +17,7 @@ class SubdomainTenantResolverTest {
 
   @Mock SubdomainExtractor subdomainExtractor;
 
-  @Mock TenantRepository tenantRepository;
+  @Mock TenantSubdomainIndex tenantSubdomainIndex;
 
   @Mock HttpServletRequest httpServletRequest;
 
@@ -28,9 +27,7 @@ class SubdomainTenantResolverTest {
   void resolve_should_resolveTenantId_When_SubdomainCouldBeDetermined() {
     // given
     when(subdomainExtractor.getCurrentSubdomain()).thenReturn(Optional.of("mucoviscidose"));
-    TenantEntity tenantEntity = new TenantEntity();
-    tenantEntity.setId(1L);
-    when(tenantRepository.findBySubdomain("mucoviscidose")).thenReturn(tenantEntity);
+    when(tenantSubdomainIndex.findTenantId("mucoviscidose")).thenReturn(Optional.of(1L));
 
     // when
     Optional<Long> resolve = subdomainTenantResolver.resolve(httpServletRequest);
@@ -1,7 +1,9 @@
 package com.vi.tenantservice.api.tenant;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import com.vi.tenantservice.api.context.RequestScopedContextFilter;
 import java.nio.file.attribute.UserPrincipal;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +13,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -67,4 +71,19 @@ class TenantResolverServiceTest {
     // then
     Mockito.verify(subdomainTenantResolver).resolve(httpServletRequest);
   }
+
+  @Test
+  void tryResolve_Should_ResolveTenantOnce_When_CalledRepeatedlyWithinRequest() throws Exception {
+    // given
+    new RequestScopedContextFilter()
+        .doFilter(httpServletRequest, new MockHttpServletResponse(), new MockFilterChain());
+    httpServletRequest.setUserPrincipal((UserPrincipal) () -> "user");
+    when(accessTokenTenantResolver.resolve(httpServletRequest)).thenReturn(Optional.of(1L));
+    // when
+    tenantResolverService.tryResolve();
+    var tenantId = tenantResolverService.tryResolve();
+    // then
+    assertThat(tenantId).contains(1L);
+    Mockito.verify(accessTokenTenantResolver).resolve(httpServletRequest);
+  }
 }
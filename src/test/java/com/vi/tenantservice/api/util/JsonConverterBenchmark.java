@@ -0,0 +1,92 @@
+package com.vi.tenantservice.api.util;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vi.tenantservice.api.model.TenantSettings;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the shared readers and writers of {@link JsonConverter} with building a new mapper per
+ * call, as done before. Run the main method to get latency and, via the GC profiler, allocation per
+ * call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonConverterBenchmark {
+
+  private static final String SETTINGS_JSON =
+      "{\"topicsInRegistrationEnabled\":true,\"featureDemographicsEnabled\":false,"
+          + "\"featureTopicsEnabled\":true,\"featureAppointmentsEnabled\":true,"
+          + "\"featureStatisticsEnabled\":false,\"featureGroupChatV2Enabled\":true,"
+          + "\"featureToolsEnabled\":false,\"activeLanguages\":[\"de\",\"en\"]}";
+
+  private static final String CONTENT_JSON =
+      "{\"de\":\"<p>Datenschutzerkl\\u00e4rung</p>\",\"en\":\"<p>Privacy policy</p>\"}";
+
+  private final TenantSettings tenantSettings = JsonConverter.convertFromJson(SETTINGS_JSON);
+
+  @Benchmark
+  public TenantSettings readSettingsWithNewMapper() throws Exception {
+    return newLenientMapper().readValue(SETTINGS_JSON, TenantSettings.class);
+  }
+
+  @Benchmark
+  public TenantSettings readSettingsWithSharedReader() {
+    return JsonConverter.convertFromJson(SETTINGS_JSON);
+  }
+
+  @Benchmark
+  public Map<String, String> readContentMapWithNewMapper() throws Exception {
+    return newLenientMapper().readValue(CONTENT_JSON, new TypeReference<Map<String, String>>() {});
+  }
+
+  @Benchmark
+  public Map<String, String> readContentMapWithSharedReader() {
+    return JsonConverter.convertMapFromJson(CONTENT_JSON);
+  }
+
+  @Benchmark
+  public String writeSettingsWithNewMapper() throws Exception {
+    return new ObjectMapper().writeValueAsString(tenantSettings);
+  }
+
+  @Benchmark
+  public String writeSettingsWithSharedWriter() {
+    return JsonConverter.convertToJson(tenantSettings);
+  }
+
+  private static ObjectMapper newLenientMapper() {
+    return new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(JsonConverterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
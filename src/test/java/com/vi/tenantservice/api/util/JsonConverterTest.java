@@ -4,6 +4,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.collection.IsMapContaining.hasEntry;
 
 import com.vi.tenantservice.api.model.TenantSettings;
@@ -105,4 +106,20 @@ class JsonConverterTest {
     // then
     assertThat(translations.size(), is(0));
   }
+
+  @Test
+  void readerFor_Should_returnSharedReaderIgnoringUnknownProperties() throws Exception {
+    // given
+    final String json = "{\"activeLanguages\":[\"de\"],\"unknown\":true}";
+
+    // when
+    final TenantSettings tenantSettings =
+        JsonConverter.readerFor(TenantSettings.class).readValue(json);
+
+    // then
+    assertThat(tenantSettings.getActiveLanguages().size(), is(1));
+    assertThat(
+        JsonConverter.readerFor(TenantSettings.class),
+        sameInstance(JsonConverter.readerFor(TenantSettings.class)));
+  }
 }
@@ -0,0 +1,120 @@
+package com.vi.tenantservice.config.security;
+
+import com.vi.tenantservice.api.authorisation.Authority;
+import com.vi.tenantservice.api.authorisation.UserRole;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+/**
+ * Compares the throughput of converting a Keycloak token into an authentication with {@link
+ * JwtAuthConverter}, which looks up precomputed authorities, with mapping the roles through nested
+ * parallel streams on every call, as done before. All threads convert concurrently, as they do when
+ * serving requests.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(16)
+@Fork(1)
+public class JwtAuthConverterBenchmark {
+
+  private final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter =
+      new JwtGrantedAuthoritiesConverter();
+
+  private final AuthorisationService authorisationService = new AuthorisationService();
+
+  private JwtAuthConverter jwtAuthConverter;
+
+  private Jwt jwt;
+
+  @Setup
+  public void setUp() {
+    jwtAuthConverter = new JwtAuthConverter(new JwtAuthConverterProperties(), authorisationService);
+    jwt =
+        Jwt.withTokenValue("token")
+            .header("alg", "none")
+            .subject("0b1c2d3e-4f5a-6b7c-8d9e-0f1a2b3c4d5e")
+            .claim("scope", "openid profile email")
+            .claim(
+                "realm_access",
+                Map.of(
+                    "roles",
+                    List.of(
+                        "offline_access",
+                        "uma_authorization",
+                        "single-tenant-admin",
+                        "tenant-admin")))
+            .build();
+  }
+
+  @Benchmark
+  public AbstractAuthenticationToken convertWithParallelStreams() {
+    Collection<GrantedAuthority> authorities =
+        Stream.concat(
+                jwtGrantedAuthoritiesConverter.convert(jwt).stream(),
+                mapWithParallelStreams(Set.copyOf(authorisationService.extractRealmRoles(jwt)))
+                    .stream())
+            .collect(Collectors.toSet());
+    return new JwtAuthenticationToken(jwt, authorities, jwt.getClaim(JwtClaimNames.SUB));
+  }
+
+  @Benchmark
+  public AbstractAuthenticationToken convertWithPrecomputedAuthorities() {
+    return jwtAuthConverter.convert(jwt);
+  }
+
+  private static Set<GrantedAuthority> mapWithParallelStreams(Set<String> roleNames) {
+    return roleNames.parallelStream()
+        .map(
+            roleName ->
+                Stream.of(UserRole.values())
+                    .filter(userRole -> userRole.getValue().equals(roleName))
+                    .findFirst())
+        .flatMap(Optional::stream)
+        .map(
+            userRole ->
+                Stream.of(Authority.values())
+                    .filter(authority -> authority.getUserRole().equals(userRole))
+                    .findFirst()
+                    .map(Authority::getGrantedAuthorities)
+                    .orElse(List.of()))
+        .flatMap(Collection::parallelStream)
+        .map(SimpleGrantedAuthority::new)
+        .collect(Collectors.toSet());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(JwtAuthConverterBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -26,4 +26,23 @@ ADD CONSTRAINT IF NOT EXISTS unique_subdomain UNIQUE (subdomain);
 
 CREATE SEQUENCE IF NOT EXISTS SEQUENCE_TENANT
     START WITH 100000
-    INCREMENT BY 1;
\ No newline at end of file
+    INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS TENANT_PROVISIONING_STEP
+(
+    ID bigint NOT NULL,
+    tenant_id bigint NOT NULL,
+    step_type varchar(64) NOT NULL,
+    payload varchar(255),
+    status varchar(16) NOT NULL,
+    attempts int NOT NULL DEFAULT 0,
+    next_attempt_date datetime NOT NULL,
+    last_error varchar(1024),
+    create_date datetime NOT NULL,
+    update_date datetime NOT NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE SEQUENCE IF NOT EXISTS SEQUENCE_TENANT_PROVISIONING_STEP
+    START WITH 1
+    INCREMENT BY 1;